@@ -0,0 +1,23 @@
+package org.ing.mortgage.client;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One mortgage check, as {@code POST /api/mortgage-check} takes it.
+ *
+ * @param asOf optional: evaluate against the rates that were in effect at this instant; not allowed in batches
+ */
+public record MortgageCheck(BigDecimal income, int maturityPeriod, BigDecimal loanValue, BigDecimal homeValue, Instant asOf) {
+
+    public MortgageCheck {
+        Objects.requireNonNull(income, "income");
+        Objects.requireNonNull(loanValue, "loanValue");
+        Objects.requireNonNull(homeValue, "homeValue");
+    }
+
+    public MortgageCheck(BigDecimal income, int maturityPeriod, BigDecimal loanValue, BigDecimal homeValue) {
+        this(income, maturityPeriod, loanValue, homeValue, null);
+    }
+}
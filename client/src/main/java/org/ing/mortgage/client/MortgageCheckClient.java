@@ -0,0 +1,66 @@
+package org.ing.mortgage.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Calls {@code POST /api/mortgage-check} and {@code POST /api/mortgage-check/batch} in the binary
+ * format: 40 bytes per check and 10 per result instead of about 80 and 40 bytes of JSON, and no JSON
+ * parsing on either side. Failures of a whole call come back as JSON, which this client accepts at a
+ * lower quality and surfaces as {@link MortgageCheckException}.
+ * <pre>
+ * MortgageCheckClient client = new MortgageCheckClient(URI.create("http://mortgage-check:8080"));
+ * MortgageCheckResult result = client.check(new MortgageCheck(income, 30, loanValue, homeValue));
+ * </pre>
+ * Instances are thread-safe; share one per server.
+ */
+public class MortgageCheckClient {
+    static final String ACCEPT = MortgageCheckCodec.MEDIA_TYPE + ", application/json;q=0.5";
+
+    private final HttpClient httpClient;
+    private final URI check;
+    private final URI batch;
+    private final Duration timeout;
+
+    public MortgageCheckClient(URI baseUri) {
+        this(HttpClient.newHttpClient(), baseUri, Duration.ofSeconds(10));
+    }
+
+    public MortgageCheckClient(HttpClient httpClient, URI baseUri, Duration timeout) {
+        this.httpClient = httpClient;
+        this.check = baseUri.resolve("/api/mortgage-check");
+        this.batch = baseUri.resolve("/api/mortgage-check/batch");
+        this.timeout = timeout;
+    }
+
+    public MortgageCheckResult check(MortgageCheck check) throws IOException, InterruptedException {
+        byte[] body = send(this.check, MortgageCheckCodec.encode(List.of(check)));
+        return MortgageCheckCodec.decodeResult(body);
+    }
+
+    /** Results in the order of {@code checks}; an item the server could not evaluate has an error. */
+    public List<MortgageCheckResult> checkAll(List<MortgageCheck> checks) throws IOException, InterruptedException {
+        byte[] body = send(batch, MortgageCheckCodec.encode(checks));
+        return MortgageCheckCodec.decodeResults(body, checks.size());
+    }
+
+    private byte[] send(URI uri, byte[] body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", MortgageCheckCodec.MEDIA_TYPE)
+                .header("Accept", ACCEPT)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new MortgageCheckException(response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return response.body();
+    }
+}
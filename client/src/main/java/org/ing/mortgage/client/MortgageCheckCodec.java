@@ -0,0 +1,118 @@
+package org.ing.mortgage.client;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The client side of the {@value #MEDIA_TYPE} format; the layout is documented on the server's
+ * {@code MortgageCheckBinary}. Decimals are sent as a 64-bit unscaled value and a scale of 0 to
+ * {@value #MAX_SCALE}; values with a negative scale are sent at scale 0.
+ */
+final class MortgageCheckCodec {
+    static final String MEDIA_TYPE = "application/vnd.mortgage-check.v1";
+    static final int REQUEST_BYTES = 40;
+    static final int RESPONSE_BYTES = 10;
+    static final int MAX_SCALE = 18;
+
+    private static final int FEASIBLE = 1;
+    private static final int MONTHLY_COST = 2;
+    private static final int ERROR = 4;
+    private static final long NO_AS_OF = Long.MIN_VALUE;
+
+    private MortgageCheckCodec() {
+    }
+
+    /** @throws IllegalArgumentException when a value has no encoding: too many digits, scale above 18, maturity above 255 */
+    static byte[] encode(List<MortgageCheck> checks) {
+        ByteBuffer out = ByteBuffer.allocate(checks.size() * REQUEST_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (MortgageCheck check : checks) {
+            encode(check, out);
+        }
+        return out.array();
+    }
+
+    private static void encode(MortgageCheck check, ByteBuffer out) {
+        if (check.maturityPeriod() < 0 || check.maturityPeriod() > 0xFF) {
+            throw new IllegalArgumentException("maturityPeriod " + check.maturityPeriod() + " is outside 0..255");
+        }
+        BigDecimal income = normalize("income", check.income());
+        BigDecimal loanValue = normalize("loanValue", check.loanValue());
+        BigDecimal homeValue = normalize("homeValue", check.homeValue());
+        out.putLong(income.unscaledValue().longValue())
+                .putLong(loanValue.unscaledValue().longValue())
+                .putLong(homeValue.unscaledValue().longValue());
+        if (check.asOf() == null) {
+            out.putLong(NO_AS_OF).putInt(0);
+        } else {
+            out.putLong(check.asOf().getEpochSecond()).putInt(check.asOf().getNano());
+        }
+        out.put((byte) income.scale())
+                .put((byte) loanValue.scale())
+                .put((byte) homeValue.scale())
+                .put((byte) check.maturityPeriod());
+    }
+
+    private static BigDecimal normalize(String field, BigDecimal value) {
+        if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+        if (value.scale() > MAX_SCALE) {
+            throw new IllegalArgumentException(field + " has more than " + MAX_SCALE + " fraction digits: " + value);
+        }
+        if (value.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException(field + " does not fit 64 bits unscaled: " + value);
+        }
+        return value;
+    }
+
+    static MortgageCheckResult decodeResult(byte[] body) {
+        if (body.length != RESPONSE_BYTES) {
+            throw new IllegalStateException("Response must be " + RESPONSE_BYTES + " bytes, got " + body.length);
+        }
+        return decode(ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    static List<MortgageCheckResult> decodeResults(byte[] body, int count) {
+        ByteBuffer in = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        List<MortgageCheckResult> results = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                results.add(decode(in));
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Response ends after " + results.size() + " of " + count + " results", e);
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalStateException(in.remaining() + " bytes after " + count + " results");
+        }
+        return results;
+    }
+
+    private static MortgageCheckResult decode(ByteBuffer in) {
+        long unscaled = in.getLong();
+        int scale = in.get();
+        int flags = in.get();
+        if ((flags & ERROR) != 0) {
+            String error = text(in);
+            int count = Byte.toUnsignedInt(in.get());
+            List<String> details = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                details.add(text(in));
+            }
+            return new MortgageCheckResult(false, null, error, List.copyOf(details));
+        }
+        BigDecimal monthlyCost = (flags & MONTHLY_COST) != 0 ? BigDecimal.valueOf(unscaled, scale) : null;
+        return new MortgageCheckResult((flags & FEASIBLE) != 0, monthlyCost, null, null);
+    }
+
+    private static String text(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
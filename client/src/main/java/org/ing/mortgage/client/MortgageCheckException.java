@@ -0,0 +1,24 @@
+package org.ing.mortgage.client;
+
+/**
+ * The server refused the call as a whole, e.g. 400 for a malformed body or 429 when rate limited.
+ * The body is the server's JSON error, kept as text since the client has no JSON parser.
+ */
+public class MortgageCheckException extends RuntimeException {
+    private final int status;
+    private final String body;
+
+    public MortgageCheckException(int status, String body) {
+        super("Mortgage check failed with HTTP " + status + ": " + body);
+        this.status = status;
+        this.body = body;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public String body() {
+        return body;
+    }
+}
@@ -0,0 +1,15 @@
+package org.ing.mortgage.client;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The outcome of one check. In a batch an item the server could not evaluate has an {@code error}
+ * (and, for validation failures, its {@code details}) instead of a result.
+ */
+public record MortgageCheckResult(boolean feasible, BigDecimal monthlyCost, String error, List<String> details) {
+
+    public boolean isError() {
+        return error != null;
+    }
+}
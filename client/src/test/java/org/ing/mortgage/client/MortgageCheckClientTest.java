@@ -0,0 +1,92 @@
+package org.ing.mortgage.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageCheckClientTest {
+    private HttpServer server;
+    private MortgageCheckClient client;
+    private final AtomicReference<HttpExchange> exchange = new AtomicReference<>();
+    private final AtomicReference<byte[]> received = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.start();
+        client = new MortgageCheckClient(URI.create("http://localhost:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void respond(String path, int status, String contentType, byte[] body) {
+        server.createContext(path, http -> {
+            exchange.set(http);
+            received.set(http.getRequestBody().readAllBytes());
+            http.getResponseHeaders().set("Content-Type", contentType);
+            http.sendResponseHeaders(status, body.length);
+            http.getResponseBody().write(body);
+            http.close();
+        });
+    }
+
+    private static MortgageCheck check(int maturityPeriod) {
+        return new MortgageCheck(new BigDecimal("60000.00"), maturityPeriod, new BigDecimal("200000"), new BigDecimal("220000"));
+    }
+
+    @Test
+    @DisplayName("check: posts one binary record with the binary content type and decodes the result")
+    void check() throws Exception {
+        respond("/api/mortgage-check", 200, MortgageCheckCodec.MEDIA_TYPE, HexFormat.of().parseHex("f2d4010000000000" + "02" + "03"));
+
+        MortgageCheckResult result = client.check(check(30));
+
+        assertEquals(new MortgageCheckResult(true, new BigDecimal("1200.50"), null, null), result);
+        assertEquals("POST", exchange.get().getRequestMethod());
+        assertEquals(MortgageCheckCodec.MEDIA_TYPE, exchange.get().getRequestHeaders().getFirst("Content-Type"));
+        assertEquals(MortgageCheckClient.ACCEPT, exchange.get().getRequestHeaders().getFirst("Accept"));
+        assertEquals(MortgageCheckCodec.REQUEST_BYTES, received.get().length);
+    }
+
+    @Test
+    @DisplayName("checkAll: posts the records back to back to the batch path")
+    void checkAll() throws Exception {
+        respond("/api/mortgage-check/batch", 200, MortgageCheckCodec.MEDIA_TYPE, new byte[2 * MortgageCheckCodec.RESPONSE_BYTES]);
+
+        List<MortgageCheckResult> results = client.checkAll(List.of(check(10), check(20)));
+
+        assertEquals(2, results.size());
+        assertEquals(2 * MortgageCheckCodec.REQUEST_BYTES, received.get().length);
+        assertEquals(20, received.get()[MortgageCheckCodec.REQUEST_BYTES * 2 - 1]);
+    }
+
+    @Test
+    @DisplayName("check: an error response becomes MortgageCheckException with the status and JSON body")
+    void check_error() {
+        String apiError = "{\"status\":429,\"message\":\"Too many requests\"}";
+        respond("/api/mortgage-check", 429, "application/json", apiError.getBytes(StandardCharsets.UTF_8));
+
+        MortgageCheckException e = assertThrows(MortgageCheckException.class, () -> client.check(check(30)));
+
+        assertEquals(429, e.status());
+        assertEquals(apiError, e.body());
+    }
+}
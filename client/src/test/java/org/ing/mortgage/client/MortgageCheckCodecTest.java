@@ -0,0 +1,80 @@
+package org.ing.mortgage.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageCheckCodecTest {
+    /** The reference vectors of the server's MortgageCheckBinaryTest. */
+    private static final String REQUEST_HEX = "808d5b0000000000" + "400d030000000000" + "605b030000000000"
+            + "0000000000000080" + "00000000" + "020000" + "1e";
+    private static final String RESPONSE_HEX = "f2d4010000000000" + "02" + "03";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static MortgageCheck check(String income) {
+        return new MortgageCheck(new BigDecimal(income), 30, new BigDecimal("200000"), new BigDecimal("220000"));
+    }
+
+    @Test
+    @DisplayName("encode: the reference request")
+    void encode_referenceRecord() {
+        assertEquals(REQUEST_HEX, HEX.formatHex(MortgageCheckCodec.encode(List.of(check("60000.00")))));
+    }
+
+    @Test
+    @DisplayName("encode: asOf as epoch seconds and nanos, negative scales at scale 0, batches back to back")
+    void encode_asOfAndScales() {
+        Instant asOf = Instant.parse("2024-12-01T10:30:00.123456789Z");
+        byte[] bytes = MortgageCheckCodec.encode(List.of(check("60000.00"),
+                new MortgageCheck(new BigDecimal("6E+4"), 30, new BigDecimal("200000"), new BigDecimal("220000"), asOf)));
+
+        assertEquals(80, bytes.length);
+        String second = HEX.formatHex(bytes, 40, 80);
+        assertEquals("60ea000000000000", second.substring(0, 16));
+        assertEquals(String.format("%016x", Long.reverseBytes(asOf.getEpochSecond())),
+                second.substring(48, 64));
+        assertEquals(String.format("%08x", Integer.reverseBytes(asOf.getNano())), second.substring(64, 72));
+        assertEquals("000000" + "1e", second.substring(72));
+    }
+
+    @Test
+    @DisplayName("encode: values without an encoding are rejected before sending")
+    void encode_rejects() {
+        assertThrows(IllegalArgumentException.class, () -> MortgageCheckCodec.encode(List.of(check("0.0000000000000000001"))));
+        assertThrows(IllegalArgumentException.class, () -> MortgageCheckCodec.encode(List.of(check("9223372036854775808"))));
+        assertThrows(IllegalArgumentException.class, () -> MortgageCheckCodec.encode(List.of(
+                new MortgageCheck(BigDecimal.ONE, 256, BigDecimal.ONE, BigDecimal.ONE))));
+    }
+
+    @Test
+    @DisplayName("decodeResult: the reference response, and an infeasible one without cost")
+    void decodeResult() {
+        assertEquals(new MortgageCheckResult(true, new BigDecimal("1200.50"), null, null),
+                MortgageCheckCodec.decodeResult(HEX.parseHex(RESPONSE_HEX)));
+        assertEquals(new MortgageCheckResult(false, null, null, null),
+                MortgageCheckCodec.decodeResult(new byte[10]));
+        assertThrows(IllegalStateException.class, () -> MortgageCheckCodec.decodeResult(new byte[11]));
+    }
+
+    @Test
+    @DisplayName("decodeResults: results and errors with details in order; truncated bodies are rejected")
+    void decodeResults() {
+        byte[] body = HEX.parseHex(RESPONSE_HEX
+                + "0000000000000000" + "00" + "04" + "0300" + "426164" + "01" + "0200" + "c3a9"
+                + "0000000000000000" + "00" + "00");
+
+        assertEquals(List.of(
+                new MortgageCheckResult(true, new BigDecimal("1200.50"), null, null),
+                new MortgageCheckResult(false, null, "Bad", List.of("é")),
+                new MortgageCheckResult(false, null, null, null)), MortgageCheckCodec.decodeResults(body, 3));
+        assertThrows(IllegalStateException.class, () -> MortgageCheckCodec.decodeResults(body, 4));
+        assertThrows(IllegalStateException.class, () -> MortgageCheckCodec.decodeResults(body, 2));
+    }
+}
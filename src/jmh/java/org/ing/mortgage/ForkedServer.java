@@ -0,0 +1,102 @@
+package org.ing.mortgage;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The application in its own JVM for the load benchmarks, so that the server's threads, memory and CPU
+ * time are measured apart from the load generator. Started with the rate limiter out of the way and
+ * the actuator metrics exposed, polled through those metrics and {@code /proc}.
+ */
+public record ForkedServer(Process process, int port, HttpClient client) implements AutoCloseable {
+    private static final Pattern VALUE = Pattern.compile("\"value\":([-0-9.E]+)");
+
+    public static ForkedServer start(int heapMb, String... arguments) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms" + heapMb + "m", "-Xmx" + heapMb + "m",
+                "-cp", System.getProperty("java.class.path"),
+                MortgageApplication.class.getName(),
+                "--server.port=" + port,
+                "--management.endpoints.web.exposure.include=health,metrics",
+                "--mortgage.ratelimit.tiers.anonymous.limit=1000000000",
+                "--logging.level.root=WARN",
+                "--logging.level.org.ing.mortgage=WARN"));
+        command.addAll(List.of(arguments));
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        ForkedServer server = new ForkedServer(process, port, HttpClient.newHttpClient());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (true) {
+            try {
+                if (server.get("/actuator/health").contains("UP")) {
+                    return server;
+                }
+            } catch (IOException notYetListening) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    server.close();
+                    throw new IllegalStateException("server did not start", notYetListening);
+                }
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    public URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    public String get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    public double metric(String query) throws IOException, InterruptedException {
+        Matcher matcher = VALUE.matcher(get("/actuator/metrics/" + query));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    /** Total CPU time of the server process, which includes the actuator polls. */
+    public Duration cpu() {
+        return process.info().totalCpuDuration().orElse(Duration.ZERO);
+    }
+
+    /** Resident set size from {@code /proc/<pid>/status}; 0 where there is no procfs. */
+    public long rss() throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Map-backed versus dense-array rate store for lookups and {@code findAll}. Run with {@code -prof gc}
+ * to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class InterestRateRepositoryBenchmark {
+    private final InMemoryInterestRateRepository map = new InMemoryInterestRateRepository();
+    private final DenseInterestRateRepository dense = new DenseInterestRateRepository();
+    private int maturity;
+
+    @Setup
+    public void setUp() {
+        List<InterestRate> rates = IntStream.rangeClosed(1, 30)
+                .mapToObj(m -> new InterestRate(m, BigDecimal.valueOf(30 + m, 1), Instant.now()))
+                .toList();
+        map.saveRates(rates);
+        dense.saveRates(rates);
+    }
+
+    private int nextMaturity() {
+        maturity = maturity % 30 + 1;
+        return maturity;
+    }
+
+    @Benchmark
+    public Optional<InterestRate> mapFindByMaturity() {
+        return map.findByMaturity(nextMaturity());
+    }
+
+    @Benchmark
+    public Optional<InterestRate> denseFindByMaturity() {
+        return dense.findByMaturity(nextMaturity());
+    }
+
+    @Benchmark
+    public InterestRate mapFindByMaturityOrNull() {
+        return map.findByMaturityOrNull(nextMaturity());
+    }
+
+    @Benchmark
+    public InterestRate denseFindByMaturityOrNull() {
+        return dense.findByMaturityOrNull(nextMaturity());
+    }
+
+    @Benchmark
+    public List<InterestRate> mapFindAll() {
+        return map.findAll();
+    }
+
+    @Benchmark
+    public List<InterestRate> denseFindAll() {
+        return dense.findAll();
+    }
+}
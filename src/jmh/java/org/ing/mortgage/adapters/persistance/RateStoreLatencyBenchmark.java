@@ -0,0 +1,74 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Latency distribution of {@code findByMaturityOrNull} per rate store: in memory, JDBC against an
+ * embedded H2 and JDBC behind the near-cache. Sample mode reports percentiles, so the cached store's
+ * expiry checks show up in the tail rather than disappearing in an average. The embedded database
+ * opens a connection per call, as an unpooled data source would.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class RateStoreLatencyBenchmark {
+    @Param({"dense", "jdbc", "cached-jdbc"})
+    public String store;
+
+    private EmbeddedDatabase database;
+    private InterestRateRepository repository;
+    private int maturity;
+
+    @Setup
+    public void setUp() {
+        repository = switch (store) {
+            case "dense" -> new DenseInterestRateRepository();
+            case "jdbc" -> new JdbcInterestRateRepository(database = h2());
+            case "cached-jdbc" -> new CachingInterestRateRepository(new JdbcInterestRateRepository(database = h2()), Duration.ofSeconds(1));
+            default -> throw new IllegalArgumentException(store);
+        };
+        repository.saveRates(IntStream.rangeClosed(1, 30)
+                .mapToObj(m -> new InterestRate(m, BigDecimal.valueOf(30 + m, 1), Instant.now()))
+                .toList());
+    }
+
+    private static EmbeddedDatabase h2() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/rates-schema.sql")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+
+    @Benchmark
+    public InterestRate findByMaturityOrNull() {
+        maturity = maturity % 30 + 1;
+        return repository.findByMaturityOrNull(maturity);
+    }
+
+    @Benchmark
+    public List<InterestRate> findAll() {
+        return repository.findAll();
+    }
+}
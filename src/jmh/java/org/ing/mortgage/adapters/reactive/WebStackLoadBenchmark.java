@@ -0,0 +1,142 @@
+package org.ing.mortgage.adapters.reactive;
+
+import org.ing.mortgage.ForkedServer;
+import org.ing.mortgage.HttpLoad;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the servlet stack ({@code MortgageController} on Tomcat) with the {@code reactive} profile
+ * ({@link ReactiveMortgageController} on Netty). Each stack runs in its own JVM with the same heap, so
+ * threads and memory are the server's alone:
+ * <ul>
+ *     <li>idle: {@code idle} keep-alive connections that each served one request are held open; reports
+ *     the server's live threads, the heap per connection (after a full GC) and the resident memory;</li>
+ *     <li>load: {@code clients} closed-loop clients post {@code /api/mortgage-check}; reports throughput,
+ *     latency percentiles, the peak number of live server threads and the server's CPU time per request.</li>
+ * </ul>
+ * The clients share the machine with the server; on few cores the scheduler favours Tomcat's many
+ * runnable threads over Netty's one event loop per core, so compare CPU per request as well.
+ * Not a JMH benchmark, as it measures whole servers:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.main=org.ing.mortgage.adapters.reactive.WebStackLoadBenchmark
+ * -Djmh.args="idle clients seconds heapMb"},
+ * defaults {@code 2000 200 10 256}.
+ */
+public final class WebStackLoadBenchmark {
+    private static final String CHECK = "{\"income\":80000,\"maturityPeriod\":10,\"loanValue\":200000,\"homeValue\":300000}";
+
+    private WebStackLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int idle = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 10);
+        int heapMb = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+
+        System.out.printf("idle=%d clients=%d duration=%s heap=%dMB%n", idle, clients, duration, heapMb);
+        System.out.printf("%-9s %8s %12s %12s %12s %10s %10s %10s %10s %12s%n", "stack", "threads", "heap B/conn", "rss MB",
+                "requests/s", "p50 ms", "p99 ms", "max ms", "threads", "cpu us/req");
+        for (boolean reactive : new boolean[]{false, true}) {
+            try (ForkedServer server = start(reactive, heapMb)) {
+                HttpRequest check = HttpRequest.newBuilder(server.uri("/api/mortgage-check"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(CHECK))
+                        .build();
+                HttpLoad.run(check, clients, Duration.ofSeconds(3));
+
+                Footprint before = footprint(server);
+                List<Socket> connections = openIdle(server, idle);
+                Thread.sleep(1000);
+                Footprint held = footprint(server);
+                for (Socket connection : connections) {
+                    connection.close();
+                }
+
+                ThreadSampler sampler = new ThreadSampler(server);
+                Duration cpu = server.cpu();
+                HttpLoad.Result result = HttpLoad.run(check, clients, duration);
+                cpu = server.cpu().minus(cpu);
+                sampler.close();
+
+                System.out.printf("%-9s %8d %12.0f %12.0f %12.0f %10.1f %10.1f %10.1f %10d %12.0f%n",
+                        reactive ? "reactive" : "servlet", held.threads(),
+                        (double) (held.heapBytes() - before.heapBytes()) / idle,
+                        held.rssBytes() / 1048576.0,
+                        result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                        result.percentileMillis(1.0), sampler.peak, cpu.toNanos() / 1e3 / result.latenciesNanos().length);
+            }
+        }
+    }
+
+    private record Footprint(int threads, long heapBytes, long rssBytes) {
+    }
+
+    private static ForkedServer start(boolean reactive, int heapMb) throws Exception {
+        String maxConnections = "--server.tomcat.max-connections=100000";
+        return reactive
+                ? ForkedServer.start(heapMb, maxConnections, "--spring.profiles.active=reactive")
+                : ForkedServer.start(heapMb, maxConnections);
+    }
+
+    private static Footprint footprint(ForkedServer server) throws Exception {
+        new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "jcmd").toString(),
+                String.valueOf(server.process().pid()), "GC.run")
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start().waitFor();
+        return new Footprint((int) server.metric("jvm.threads.live"), (long) server.metric("jvm.memory.used?tag=area:heap"),
+                server.rss());
+    }
+
+    /** Connections that served one request each and then stay open, as a keep-alive client's would. */
+    private static List<Socket> openIdle(ForkedServer server, int count) throws IOException {
+        byte[] request = ("GET /api/interest-rates HTTP/1.1\r\nHost: localhost:" + server.port() + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        List<Socket> sockets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Socket socket = new Socket();
+            socket.connect(new InetSocketAddress("localhost", server.port()));
+            OutputStream out = socket.getOutputStream();
+            out.write(request);
+            out.flush();
+            sockets.add(socket);
+        }
+        return sockets;
+    }
+
+    /** Peak live threads of the server while the load runs. */
+    private static final class ThreadSampler implements AutoCloseable {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private volatile int peak;
+
+        ThreadSampler(ForkedServer server) {
+            scheduler.scheduleAtFixedRate(() -> {
+                try {
+                    peak = Math.max(peak, (int) server.metric("jvm.threads.live"));
+                } catch (Exception ignored) {
+                    // a missed sample under load
+                }
+            }, 0, 250, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MortgageCheckJson} versus Jackson (configured as Spring Boot does) for the body of one
+ * {@code /api/mortgage-check} call: reading the request and writing the response. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MortgageCheckJsonBenchmark {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final byte[] request = """
+            {"income":60000.00,"maturityPeriod":20,"loanValue":235000.00,"homeValue":260000.00}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private final MortgageCheckResponse response = new MortgageCheckResponse(true, new BigDecimal("1486.73"));
+
+    @Benchmark
+    public MortgageCheckRequest readCodec() {
+        return MortgageCheckJson.readRequest(request, request.length);
+    }
+
+    @Benchmark
+    public MortgageCheckRequest readJackson() throws IOException {
+        return objectMapper.readValue(request, MortgageCheckRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeCodec() {
+        return MortgageCheckJson.writeResponse(response);
+    }
+
+    @Benchmark
+    public byte[] writeJackson() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
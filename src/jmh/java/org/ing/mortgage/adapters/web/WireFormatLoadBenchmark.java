@@ -0,0 +1,117 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.ForkedServer;
+import org.ing.mortgage.HttpLoad;
+
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares JSON with the {@link MortgageCheckBinary} format on {@code POST /api/mortgage-check} and on
+ * {@code POST /api/mortgage-check/batch} with {@code batchSize} checks. Reports the body bytes each way
+ * and, under {@code clients} closed-loop clients, throughput, latency and the server's CPU time per
+ * request and per check. The server runs in its own JVM so its CPU time excludes the load generator's.
+ * Not a JMH benchmark, as it measures a whole server:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.main=org.ing.mortgage.adapters.web.WireFormatLoadBenchmark
+ * -Djmh.args="clients seconds batchSize"},
+ * defaults {@code 32 10 100}.
+ */
+public final class WireFormatLoadBenchmark {
+    private static final int[] MATURITIES = {5, 10, 20};
+
+    private WireFormatLoadBenchmark() {
+    }
+
+    private record Check(BigDecimal income, int maturityPeriod, BigDecimal loanValue, BigDecimal homeValue) {
+        String json() {
+            return "{\"income\":" + income + ",\"maturityPeriod\":" + maturityPeriod
+                    + ",\"loanValue\":" + loanValue + ",\"homeValue\":" + homeValue + "}";
+        }
+
+        void binary(ByteBuffer out) {
+            out.putLong(income.unscaledValue().longValueExact())
+                    .putLong(loanValue.unscaledValue().longValueExact())
+                    .putLong(homeValue.unscaledValue().longValueExact())
+                    .putLong(Long.MIN_VALUE).putInt(0)
+                    .put((byte) income.scale()).put((byte) loanValue.scale()).put((byte) homeValue.scale())
+                    .put((byte) maturityPeriod);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+        int batchSize = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        Random random = new Random(42);
+        List<Check> checks = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            BigDecimal loan = BigDecimal.valueOf(100_000 + random.nextInt(400_000_00), 2);
+            checks.add(new Check(BigDecimal.valueOf(40_000 + random.nextInt(100_000)), MATURITIES[i % MATURITIES.length],
+                    loan, loan.add(BigDecimal.valueOf(random.nextInt(200_000)))));
+        }
+
+        System.out.printf("clients=%d duration=%s batchSize=%d%n", clients, duration, batchSize);
+        System.out.printf("%-7s %-7s %10s %10s %12s %10s %10s %12s %12s%n", "call", "format", "request B", "response B",
+                "requests/s", "p50 ms", "p99 ms", "cpu us/req", "cpu us/check");
+        try (ForkedServer server = ForkedServer.start(512, "--mortgage.batch.maxItems=" + Math.max(1000, batchSize))) {
+            List<Run> runs = new ArrayList<>();
+            for (boolean batch : new boolean[]{false, true}) {
+                for (boolean binary : new boolean[]{false, true}) {
+                    List<Check> call = batch ? checks : checks.subList(0, 1);
+                    HttpRequest request = request(server, batch, binary, call);
+                    HttpResponse<byte[]> response = server.client().send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("status " + response.statusCode() + ": " + new String(response.body(), StandardCharsets.UTF_8));
+                    }
+                    runs.add(new Run(batch ? "batch" : "single", binary ? "binary" : "json", request, call.size(), response.body().length));
+                }
+            }
+            // every variant warms up before any is measured, so the first one is not measured on a cold JIT
+            for (Run run : runs) {
+                HttpLoad.run(run.request(), clients, Duration.ofSeconds(3));
+            }
+            for (Run run : runs) {
+                Duration cpu = server.cpu();
+                HttpLoad.Result result = HttpLoad.run(run.request(), clients, duration);
+                cpu = server.cpu().minus(cpu);
+                double cpuPerRequest = cpu.toNanos() / 1e3 / result.latenciesNanos().length;
+
+                System.out.printf("%-7s %-7s %10d %10d %12.0f %10.2f %10.2f %12.1f %12.2f%n", run.call(), run.format(),
+                        run.request().bodyPublisher().orElseThrow().contentLength(), run.responseBytes(),
+                        result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99),
+                        cpuPerRequest, cpuPerRequest / run.checks());
+            }
+        }
+    }
+
+    private record Run(String call, String format, HttpRequest request, int checks, int responseBytes) {
+    }
+
+    private static HttpRequest request(ForkedServer server, boolean batch, boolean binary, List<Check> checks) {
+        byte[] body;
+        if (binary) {
+            ByteBuffer out = ByteBuffer.allocate(checks.size() * MortgageCheckBinary.REQUEST_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            checks.forEach(check -> check.binary(out));
+            body = out.array();
+        } else {
+            List<String> json = checks.stream().map(Check::json).toList();
+            body = (batch ? "[" + String.join(",", json) + "]" : json.get(0)).getBytes(StandardCharsets.UTF_8);
+        }
+        String mediaType = binary ? MortgageCheckBinary.MEDIA_TYPE : "application/json";
+        return HttpRequest.newBuilder(server.uri(batch ? "/api/mortgage-check/batch" : "/api/mortgage-check"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", mediaType)
+                .header("Accept", mediaType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+}
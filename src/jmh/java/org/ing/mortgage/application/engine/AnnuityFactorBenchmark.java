@@ -0,0 +1,58 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly cost per request: deriving the monthly rate and {@code (1+r)^n} every time versus
+ * one lookup in the precomputed {@link AnnuityFactorTable} and one multiply.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class AnnuityFactorBenchmark {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final BigDecimal loanValue = new BigDecimal("235000.00");
+    private InterestRate rate;
+
+    @Param({"5", "10", "20"})
+    private int maturityPeriod;
+
+    @Setup
+    public void setUp() {
+        var rates = List.of(
+                new InterestRate(5, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(10, new BigDecimal("3.8"), Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now()));
+        table.onRatesChanged(rates);
+        rate = table.lookup(maturityPeriod).rate();
+    }
+
+    /** The calculation as it was done per request before the factor table existed. */
+    @Benchmark
+    public BigDecimal perRequestFormula() {
+        int maturityMonth = rate.maturityPeriod() * 12;
+        BigDecimal annualRate = rate.interestRate().divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
+        double P = loanValue.doubleValue();
+        double r = monthlyRate.doubleValue();
+        double amount = (P * (r * Math.pow(r + 1, maturityMonth))) / (Math.pow(1 + r, maturityMonth) - 1);
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal precomputedFactor() {
+        var quote = table.lookup(maturityPeriod);
+        return mortgageService.calculateMonthlyCost(loanValue, quote.maturityMonth(), quote.annuityFactor());
+    }
+}
@@ -0,0 +1,100 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-batch cost of the per-record decimal engine versus the scalar and vector columnar calculators.
+ * The per-record inputs cycle over a pool of {@value #POOL} records with the same values as the columns.
+ * The vector variant needs {@code -Pjmh,vector}; without it {@code vector} measures the scalar fallback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ColumnarMortgageBenchmark {
+    private static final int POOL = 1 << 16;
+    private static final int[] MATURITIES = {10, 20, 30};
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final DecimalMortgageEngine decimalEngine = new DecimalMortgageEngine(mortgageService, table);
+    private final ColumnarMortgageCalculator scalar = new ScalarColumnarMortgageCalculator(4);
+    private final ColumnarMortgageCalculator vector = ColumnarMortgageCalculator.create(4);
+
+    private MortgageInput[] inputs;
+    private long[] income;
+    private long[] loan;
+    private long[] home;
+    private int[] maturity;
+    private boolean[] feasible;
+    private long[] cost;
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        table.onRatesChanged(List.of(
+                new InterestRate(10, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(20, new BigDecimal("4.0"), Instant.now()),
+                new InterestRate(30, new BigDecimal("4.5"), Instant.now())));
+
+        Random random = new Random(7);
+        inputs = new MortgageInput[POOL];
+        for (int i = 0; i < POOL; i++) {
+            long loanCents = random.nextLong(5_000_000, 60_000_000);
+            inputs[i] = new MortgageInput(BigDecimal.valueOf(loanCents / 4 + random.nextLong(1_000_000), 2),
+                    MATURITIES[random.nextInt(MATURITIES.length)],
+                    BigDecimal.valueOf(loanCents, 2),
+                    BigDecimal.valueOf(loanCents + random.nextLong(10_000_000), 2));
+        }
+        income = new long[size];
+        loan = new long[size];
+        home = new long[size];
+        maturity = new int[size];
+        feasible = new boolean[size];
+        cost = new long[size];
+        for (int i = 0; i < size; i++) {
+            MortgageInput input = inputs[i & (POOL - 1)];
+            income[i] = input.income().unscaledValue().longValue();
+            loan[i] = input.loanValue().unscaledValue().longValue();
+            home[i] = input.homeValue().unscaledValue().longValue();
+            maturity[i] = input.maturityPeriod();
+        }
+    }
+
+    @Benchmark
+    public void perRecordEngine(Blackhole blackhole) {
+        var rates = table.snapshot();
+        for (int i = 0; i < size; i++) {
+            MortgageResult result = decimalEngine.calculateMortgageCost(inputs[i & (POOL - 1)], rates);
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    public long[] scalar() {
+        scalar.calculate(table.snapshot(), income, loan, home, maturity, feasible, cost);
+        return cost;
+    }
+
+    @Benchmark
+    public long[] vector() {
+        vector.calculate(table.snapshot(), income, loan, home, maturity, feasible, cost);
+        return cost;
+    }
+}
@@ -0,0 +1,61 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decimal versus fixed-point engine for one feasible check. Run with {@code -prof gc} to compare
+ * allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MortgageEngineBenchmark {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final DecimalMortgageEngine decimalEngine = new DecimalMortgageEngine(mortgageService, table);
+    private final FixedPointMortgageEngine fixedPointEngine = new FixedPointMortgageEngine(mortgageService, table);
+    private final MortgageInput input = new MortgageInput(new BigDecimal("60000.00"), 20,
+            new BigDecimal("235000.00"), new BigDecimal("260000.00"));
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        ReflectionTestUtils.setField(fixedPointEngine, "incomeMultiplier", 4);
+        table.onRatesChanged(List.of(new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+    }
+
+    @Benchmark
+    public MortgageResult decimal() {
+        return decimalEngine.calculateMortgageCost(input);
+    }
+
+    @Benchmark
+    public MortgageResult fixedPoint() {
+        return fixedPointEngine.calculateMortgageCost(input);
+    }
+
+    @Benchmark
+    public long toCents() {
+        return FixedPointMortgageEngine.toCents(input.income()) + FixedPointMortgageEngine.toCents(input.loanValue())
+                + FixedPointMortgageEngine.toCents(input.homeValue());
+    }
+
+    @Benchmark
+    public long fixedPointPrimitive() {
+        var quote = table.lookup(20);
+        return fixedPointEngine.isFeasible(6_000_000, 23_500_000, 26_000_000)
+                ? FixedPointMortgageEngine.monthlyCostCents(23_500_000, quote) : -1;
+    }
+}
@@ -0,0 +1,65 @@
+package org.ing.mortgage.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link ClientRateLimiter#acquire} with {@code clients} known addresses, each call for a
+ * random one so the buckets do not stay in cache: {@code admitted} on a quota that never runs out,
+ * {@code refused} on one that is exhausted. Run with {@code -t 4} for contention and {@code -prof gc}
+ * to confirm that neither path allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ClientRateLimiterBenchmark {
+    @Param("100000")
+    private int clients;
+
+    private String[] addresses;
+    private ClientRateLimiter open;
+    private ClientRateLimiter exhausted;
+
+    @State(Scope.Thread)
+    public static class Picker {
+        private long seed = System.nanoTime() | 1;
+
+        int next(int bound) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 7;
+            seed ^= seed << 17;
+            return (int) ((seed >>> 1) % bound);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        addresses = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            addresses[i] = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+        }
+        open = new ClientRateLimiter(Map.of(),
+                new ClientRateLimiter.Tier("open", 1_000_000_000, Duration.ofMinutes(1), 1_000_000_000), Duration.ofHours(1));
+        exhausted = new ClientRateLimiter(Map.of(),
+                new ClientRateLimiter.Tier("exhausted", 1, Duration.ofHours(1), 1), Duration.ofHours(1));
+        for (String address : addresses) {
+            open.acquire(null, address, 1);
+            exhausted.acquire(null, address, 1);
+        }
+    }
+
+    @Benchmark
+    public long admitted(Picker picker) {
+        return open.acquire(null, addresses[picker.next(clients)], 1);
+    }
+
+    @Benchmark
+    public long refused(Picker picker) {
+        return exhausted.acquire(null, addresses[picker.next(clients)], 1);
+    }
+}
@@ -0,0 +1,90 @@
+package org.ing.mortgage.config;
+
+import org.ing.mortgage.HttpLoad;
+import org.ing.mortgage.MortgageApplication;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop load test of {@code GET /api/interest-rates} with the rate store slowed down to mimic a
+ * remote adapter, once with Tomcat's platform thread pool and once with
+ * {@code spring.threads.virtual.enabled}. Prints throughput and latency percentiles per mode.
+ * <p>
+ * With a pool of {@code threads} platform threads and a store latency of {@code delay}, throughput
+ * cannot exceed {@code threads / delay}; clients beyond that queue and their latency grows. On
+ * virtual threads a blocked request holds no platform thread, so throughput scales with the clients.
+ * <p>
+ * Not a JMH benchmark, as it measures a whole server under concurrent load:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.main=org.ing.mortgage.config.ExecutionModeLoadBenchmark
+ * -Djmh.args="clients seconds delayMillis threads"},
+ * defaults {@code 400 10 20 200}.
+ */
+public final class ExecutionModeLoadBenchmark {
+
+    private ExecutionModeLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+        Duration delay = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 20);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+
+        System.out.printf("clients=%d duration=%s storeDelay=%s tomcatThreads=%d%n", clients, duration, delay, threads);
+        System.out.printf("%-9s %12s %10s %10s %10s%n", "mode", "requests/s", "p50 ms", "p99 ms", "max ms");
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual, delay, threads)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/interest-rates"))
+                        .timeout(Duration.ofSeconds(30)).GET().build();
+                HttpLoad.run(request, clients, Duration.ofSeconds(2));
+                HttpLoad.Result result = HttpLoad.run(request, clients, duration);
+                System.out.printf("%-9s %12.0f %10.1f %10.1f %10.1f%n", virtual ? "virtual" : "platform",
+                        result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0));
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual, Duration delay, int threads) {
+        return new SpringApplicationBuilder(MortgageApplication.class)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(slowRepository(delay)))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + threads,
+                        "--server.tomcat.accept-count=10000",
+                        "--mortgage.ratelimit.tiers.anonymous.limit=1000000000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.ing.mortgage=WARN");
+    }
+
+    /** Makes every call on the rate store block for {@code delay}, like a round trip to a remote store. */
+    private static BeanPostProcessor slowRepository(Duration delay) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof InterestRateRepository repository)) {
+                    return bean;
+                }
+                return Proxy.newProxyInstance(InterestRateRepository.class.getClassLoader(),
+                        new Class<?>[]{InterestRateRepository.class}, (proxy, method, methodArgs) -> {
+                            LockSupport.parkNanos(delay.toNanos());
+                            try {
+                                return method.invoke(repository, methodArgs);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        };
+    }
+}
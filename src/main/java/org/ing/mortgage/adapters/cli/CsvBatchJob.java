@@ -0,0 +1,291 @@
+package org.ing.mortgage.adapters.cli;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.application.engine.MortgageEngine;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Offline batch mode: scores a CSV of {@code income,maturityPeriod,loanValue,homeValue} rows and writes
+ * each input row followed by {@code feasible,monthlyCost,error}. Rows are validated like the body of
+ * {@code POST /api/mortgage-check}; a row that fails is reported with its violations in {@code error}.
+ * <p>
+ * The input is memory-mapped in line-aligned chunks of {@code mortgage.cli.chunkBytes} which are scored
+ * in parallel by {@link MortgageEngine} against one rate snapshot. At most two chunks per worker are in
+ * flight, and results are written strictly in input order.
+ * <p>
+ * Enabled with the {@code cli} profile, which also starts the application without a web server:
+ * {@code java -jar app.jar --spring.profiles.active=cli --mortgage.cli.input=in.csv --mortgage.cli.output=out.csv}
+ */
+@Component
+@Profile("cli")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CsvBatchJob implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(CsvBatchJob.class);
+    private static final byte[] OUTPUT_HEADER_SUFFIX = ",feasible,monthlyCost,error\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final MortgageEngine mortgageEngine;
+    private final MortgageBatchEngine mortgageBatchEngine;
+    private final Validator validator;
+
+    @Value("${mortgage.cli.input:}")
+    private String input;
+    @Value("${mortgage.cli.output:}")
+    private String output;
+    @Value("${mortgage.cli.chunkBytes:4194304}")
+    private int chunkBytes;
+
+    public CsvBatchJob(MortgageEngine mortgageEngine, MortgageBatchEngine mortgageBatchEngine, Validator validator) {
+        this.mortgageEngine = mortgageEngine;
+        this.mortgageBatchEngine = mortgageBatchEngine;
+        this.validator = validator;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (input.isBlank() || output.isBlank()) {
+            throw new IllegalArgumentException("mortgage.cli.input and mortgage.cli.output are required in cli mode");
+        }
+        Summary summary = run(Path.of(input), Path.of(output));
+        log.info("batch.completed rows={} durationMs={} rowsPerSecond={} peakHeapMb={}",
+                summary.rows(), summary.durationMillis(), summary.rowsPerSecond(), summary.peakHeapBytes() >> 20);
+    }
+
+    public Summary run(Path inputFile, Path outputFile) throws IOException {
+        long start = System.nanoTime();
+        var rates = mortgageBatchEngine.snapshot();
+        int workers = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(workers,
+                Thread.ofPlatform().daemon().name("csv-batch-", 0).factory());
+        long rows = 0;
+        try (FileChannel in = FileChannel.open(inputFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(outputFile, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            long position = writeHeader(in, out);
+            Deque<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>();
+            while (position < size) {
+                long end = lineAlignedEnd(in, position, size);
+                MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                inFlight.add(CompletableFuture.supplyAsync(() -> score(region, rates), executor));
+                position = end;
+                if (inFlight.size() >= 2 * workers) {
+                    rows += write(inFlight.poll().join(), out);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                rows += write(inFlight.poll().join(), out);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Summary(rows, System.nanoTime() - start, peakHeapBytes());
+    }
+
+    /** Copies the header line with the result columns appended, if the file starts with one. */
+    private long writeHeader(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        if (size == 0) {
+            return 0;
+        }
+        ByteBuffer first = ByteBuffer.allocate(1);
+        in.read(first, 0);
+        byte b = first.get(0);
+        if (b == '-' || b == '.' || (b >= '0' && b <= '9')) {
+            return 0;
+        }
+        long end = nextLineStart(in, 0, size);
+        ByteBuffer header = ByteBuffer.allocate((int) end);
+        in.read(header, 0);
+        int length = trimLineEnd(header.array(), 0, header.capacity());
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        line.write(header.array(), 0, length);
+        line.write(OUTPUT_HEADER_SUFFIX, 0, OUTPUT_HEADER_SUFFIX.length);
+        out.write(ByteBuffer.wrap(line.toByteArray()));
+        return end;
+    }
+
+    /** First position after the line break at or after {@code position + chunkBytes}, or the file size. */
+    private long lineAlignedEnd(FileChannel in, long position, long size) throws IOException {
+        return nextLineStart(in, Math.min(size, position + chunkBytes), size);
+    }
+
+    private static long nextLineStart(FileChannel in, long candidate, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        while (candidate < size) {
+            probe.clear();
+            int read = in.read(probe, candidate);
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return candidate + i + 1;
+                }
+            }
+            candidate += read;
+        }
+        return size;
+    }
+
+    private Chunk score(MappedByteBuffer region, AnnuityFactorTable.Snapshot rates) {
+        int limit = region.limit();
+        ByteArrayOutputStream result = new ByteArrayOutputStream(limit + limit / 2);
+        byte[] line = new byte[256];
+        char[] field = new char[64];
+        int rows = 0;
+        int position = 0;
+        while (position < limit) {
+            int length = 0;
+            while (position < limit) {
+                byte b = region.get(position++);
+                if (b == '\n') {
+                    break;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+            length = trimLineEnd(line, 0, length);
+            if (length == 0) {
+                continue;
+            }
+            result.write(line, 0, length);
+            result.writeBytes(scoreLine(line, length, field, rates));
+            rows++;
+        }
+        return new Chunk(result.toByteArray(), rows);
+    }
+
+    private byte[] scoreLine(byte[] line, int length, char[] field, AnnuityFactorTable.Snapshot rates) {
+        try {
+            BigDecimal[] values = new BigDecimal[4];
+            int column = 0;
+            int start = 0;
+            for (int i = 0; i <= length; i++) {
+                if (i == length || line[i] == ',') {
+                    if (column == 4) {
+                        return error("expected 4 columns");
+                    }
+                    values[column++] = parseDecimal(line, start, i, field);
+                    start = i + 1;
+                }
+            }
+            if (column != 4) {
+                return error("expected 4 columns");
+            }
+            MortgageCheckRequest request = new MortgageCheckRequest();
+            request.setIncome(values[0]);
+            request.setMaturityPeriod(values[1].intValueExact());
+            request.setLoanValue(values[2]);
+            request.setHomeValue(values[3]);
+            List<String> violations = validator.validate(request).stream()
+                    .map(CsvBatchJob::describe)
+                    .sorted()
+                    .toList();
+            if (!violations.isEmpty()) {
+                return error("Validation failed: " + String.join("; ", violations));
+            }
+            MortgageInput mortgageInput = MortgageInput.builder()
+                    .income(request.getIncome())
+                    .maturityPeriod(request.getMaturityPeriod())
+                    .loanValue(request.getLoanValue())
+                    .homeValue(request.getHomeValue()).build();
+            MortgageResult result = mortgageEngine.calculateMortgageCost(mortgageInput, rates);
+            String cost = result.monthlyCost() == null ? "" : result.monthlyCost().toPlainString();
+            return ("," + result.feasible() + "," + cost + ",\n").getBytes(StandardCharsets.US_ASCII);
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            return error(ex.getMessage());
+        }
+    }
+
+    private static String describe(ConstraintViolation<MortgageCheckRequest> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static BigDecimal parseDecimal(byte[] line, int from, int to, char[] field) {
+        int length = to - from;
+        if (length == 0 || length > field.length) {
+            throw new NumberFormatException("invalid number");
+        }
+        for (int i = 0; i < length; i++) {
+            field[i] = (char) line[from + i];
+        }
+        return new BigDecimal(field, 0, length);
+    }
+
+    private static byte[] error(String message) {
+        String sanitized = message == null ? "invalid row" : message.replace(',', ';').replace('\n', ' ');
+        return (",,," + sanitized + "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int trimLineEnd(byte[] line, int from, int length) {
+        while (length > from && (line[length - 1] == '\r' || line[length - 1] == '\n')) {
+            length--;
+        }
+        return length;
+    }
+
+    private static long write(Chunk chunk, FileChannel out) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(chunk.bytes());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            return chunk.rows();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long peakHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private record Chunk(byte[] bytes, int rows) {
+    }
+
+    public record Summary(long rows, long durationNanos, long peakHeapBytes) {
+        public long durationMillis() {
+            return durationNanos / 1_000_000;
+        }
+
+        public long rowsPerSecond() {
+            return durationNanos == 0 ? rows : rows * 1_000_000_000L / durationNanos;
+        }
+    }
+}
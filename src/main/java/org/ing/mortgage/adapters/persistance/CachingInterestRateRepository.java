@@ -0,0 +1,213 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process near-cache in front of a {@link JdbcInterestRateRepository}. The latest publication is
+ * held with a dense maturity index like {@link DenseInterestRateRepository}, so a lookup within the
+ * time to live is a clock read and an array read.
+ * <p>
+ * Writes through this repository replace the cached publication at once. Publications by other
+ * nodes are picked up when the time to live has expired: one reader, or {@link #poll()} on a schedule
+ * so that engines that never read the store still see them, then asks the database for the latest
+ * version, keeps the cached rates for another period when it is unchanged and reloads them only when
+ * it is not. A newer publication found this way is passed to the listeners like an own write. As-of
+ * lookups read the database.
+ */
+public class CachingInterestRateRepository implements InterestRateRepository {
+    private static final Logger log = LoggerFactory.getLogger(CachingInterestRateRepository.class);
+
+    private final JdbcInterestRateRepository delegate;
+    private final ObjectProvider<RateChangeListener> listeners;
+    private final long ttlNanos;
+    /** Not a monitor: a refresh queries the database, and a virtual thread would pin its carrier meanwhile. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Entry entry;
+    /** The latest version passed to the listeners; guarded by {@link #lock}. */
+    private long notifiedVersion;
+
+    public CachingInterestRateRepository(JdbcInterestRateRepository delegate, Duration ttl) {
+        this(delegate, null, ttl);
+    }
+
+    /** @param delegate a repository without listeners; this one notifies them once its cache holds the publication */
+    public CachingInterestRateRepository(JdbcInterestRateRepository delegate,
+                                         ObjectProvider<RateChangeListener> listeners, Duration ttl) {
+        this.delegate = delegate;
+        this.listeners = listeners;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public List<InterestRate> findAll() {
+        return fresh().snapshot().rates();
+    }
+
+    @Override
+    public Optional<InterestRate> findByMaturity(int years) {
+        return Optional.ofNullable(findByMaturityOrNull(years));
+    }
+
+    @Override
+    public InterestRate findByMaturityOrNull(int years) {
+        InterestRate[] byMaturity = fresh().byMaturity();
+        return years >= 0 && years < byMaturity.length ? byMaturity[years] : null;
+    }
+
+    @Override
+    public RateSnapshot snapshot() {
+        return fresh().snapshot();
+    }
+
+    @Override
+    public Optional<RateSnapshot> snapshotAsOf(Instant asOf) {
+        return delegate.snapshotAsOf(asOf);
+    }
+
+    @Override
+    public void saveRates(List<InterestRate> rates) {
+        published(delegate.publish(rates));
+    }
+
+    @Override
+    public Optional<RateSnapshot> saveRatesIfVersion(long expectedVersion, List<InterestRate> rates) {
+        Optional<RateSnapshot> saved = delegate.saveRatesIfVersion(expectedVersion, rates);
+        saved.ifPresent(this::published);
+        return saved;
+    }
+
+    /** Reads the latest publication from the database and notifies the listeners of it. */
+    @Override
+    public void republish() {
+        RateSnapshot snapshot;
+        lock.lock();
+        try {
+            snapshot = cache(delegate.snapshot()).snapshot();
+            notifiedVersion = Math.max(notifiedVersion, snapshot.version());
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners(snapshot);
+    }
+
+    /**
+     * Checks the database for a newer publication once the time to live has expired. A failure is
+     * logged rather than thrown, so that a scheduled poll carries on once the database is back.
+     */
+    public void poll() {
+        try {
+            fresh();
+        } catch (RuntimeException e) {
+            log.warn("Polling the rate store failed", e);
+        }
+    }
+
+    /** Drops the cached publication, so the next read goes to the database. */
+    public void invalidate() {
+        entry = null;
+    }
+
+    private void published(RateSnapshot snapshot) {
+        lock.lock();
+        try {
+            cache(snapshot);
+            notifiedVersion = Math.max(notifiedVersion, snapshot.version());
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners(snapshot);
+    }
+
+    private void notifyListeners(RateSnapshot snapshot) {
+        (listeners == null ? Stream.<RateChangeListener>empty() : listeners.orderedStream())
+                .forEach(l -> l.onRatesChanged(snapshot));
+    }
+
+    private Entry fresh() {
+        Entry current = entry;
+        if (current != null && System.nanoTime() - current.expiresAt() < 0) {
+            return current;
+        }
+        return refresh();
+    }
+
+    /** Listeners are notified of a newer publication after the lock is released. */
+    private Entry refresh() {
+        Entry refreshed;
+        boolean newer;
+        lock.lock();
+        try {
+            Entry current = entry;
+            if (current != null && System.nanoTime() - current.expiresAt() < 0) {
+                return current;
+            }
+            if (current != null && current.snapshot().version() == delegate.currentVersion()) {
+                current = current.renewed(System.nanoTime() + ttlNanos);
+                entry = current;
+                return current;
+            }
+            refreshed = cache(delegate.snapshot());
+            newer = refreshed.snapshot().version() > notifiedVersion;
+            if (newer) {
+                notifiedVersion = refreshed.snapshot().version();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (newer) {
+            notifyListeners(refreshed.snapshot());
+        }
+        return refreshed;
+    }
+
+    /** Caches the publication unless a newer one is already cached. */
+    private Entry cache(RateSnapshot snapshot) {
+        lock.lock();
+        try {
+            Entry current = entry;
+            if (current != null && current.snapshot().version() > snapshot.version()) {
+                return current;
+            }
+            current = Entry.of(snapshot, System.nanoTime() + ttlNanos);
+            entry = current;
+            return current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(RateSnapshot snapshot, InterestRate[] byMaturity, long expiresAt) {
+        static Entry of(RateSnapshot snapshot, long expiresAt) {
+            int size = snapshot.rates().stream()
+                    .map(InterestRate::maturityPeriod)
+                    .filter(m -> m != null && m >= 0)
+                    .mapToInt(Integer::intValue)
+                    .max().orElse(-1) + 1;
+            InterestRate[] byMaturity = new InterestRate[size];
+            for (var rate : snapshot.rates()) {
+                Integer maturity = rate.maturityPeriod();
+                if (maturity != null && maturity >= 0) {
+                    byMaturity[maturity] = rate;
+                }
+            }
+            return new Entry(snapshot, byMaturity, expiresAt);
+        }
+
+        Entry renewed(long expiresAt) {
+            return new Entry(snapshot, byMaturity, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rate store indexed by a dense array over the maturity in years, so a lookup is a bounds check and
+ * an array read: no boxing, no hashing and, through {@link #findByMaturityOrNull(int)}, no allocation.
+ * {@link #findAll()} returns the snapshot's precomputed sorted list.
+ * <p>
+ * Publication works like {@link InMemoryInterestRateRepository}: index and snapshot are swapped
+ * together through one {@link AtomicReference}, so readers never see a partial update.
+ */
+@Repository
+@ConditionalOnProperty(name = "mortgage.rates.store", havingValue = "dense")
+public class DenseInterestRateRepository extends PublishingInterestRateRepository {
+    private final AtomicReference<Index> current = new AtomicReference<>(Index.EMPTY);
+
+    public DenseInterestRateRepository() {
+        this(null);
+    }
+
+    public DenseInterestRateRepository(ObjectProvider<RateChangeListener> listeners) {
+        this(listeners, DEFAULT_HISTORY_BUDGET);
+    }
+
+    @Autowired
+    public DenseInterestRateRepository(ObjectProvider<RateChangeListener> listeners,
+                                       @Value("${mortgage.rates.history.memoryBudget:8MB}") DataSize historyBudget) {
+        super(listeners, historyBudget);
+    }
+
+    @Override
+    public List<InterestRate> findAll() {
+        return current.get().snapshot().rates();
+    }
+
+    @Override
+    public Optional<InterestRate> findByMaturity(int years) {
+        return Optional.ofNullable(findByMaturityOrNull(years));
+    }
+
+    @Override
+    public InterestRate findByMaturityOrNull(int years) {
+        InterestRate[] byMaturity = current.get().byMaturity();
+        return years >= 0 && years < byMaturity.length ? byMaturity[years] : null;
+    }
+
+    @Override
+    public RateSnapshot snapshot() {
+        return current.get().snapshot();
+    }
+
+    @Override
+    public void saveRates(List<InterestRate> rates) {
+        published(current.updateAndGet(previous -> Index.of(previous.snapshot().next(rates))).snapshot());
+    }
+
+    @Override
+    public Optional<RateSnapshot> saveRatesIfVersion(long expectedVersion, List<InterestRate> rates) {
+        Index previous = current.get();
+        if (previous.snapshot().version() != expectedVersion) {
+            return Optional.empty();
+        }
+        Index next = Index.of(previous.snapshot().next(rates));
+        if (!current.compareAndSet(previous, next)) {
+            return Optional.empty();
+        }
+        published(next.snapshot());
+        return Optional.of(next.snapshot());
+    }
+
+    private record Index(RateSnapshot snapshot, InterestRate[] byMaturity) {
+        static final Index EMPTY = new Index(RateSnapshot.EMPTY, new InterestRate[0]);
+
+        static Index of(RateSnapshot snapshot) {
+            int size = snapshot.rates().stream()
+                    .map(InterestRate::maturityPeriod)
+                    .filter(m -> m != null && m >= 0)
+                    .mapToInt(Integer::intValue)
+                    .max().orElse(-1) + 1;
+            InterestRate[] byMaturity = new InterestRate[size];
+            for (var rate : snapshot.rates()) {
+                Integer maturity = rate.maturityPeriod();
+                if (maturity != null && maturity >= 0) {
+                    byMaturity[maturity] = rate;
+                }
+            }
+            return new Index(snapshot, byMaturity);
+        }
+    }
+}
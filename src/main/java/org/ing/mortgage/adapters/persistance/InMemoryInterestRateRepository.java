@@ -1,28 +1,79 @@
 package org.ing.mortgage.adapters.persistance;
 
 import org.ing.mortgage.domain.InterestRate;
-import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Keeps the published rates as one immutable {@link RateSnapshot} behind an {@link AtomicReference}.
+ * Readers take no locks and always see a complete publication; {@link #saveRates} swaps in a new
+ * snapshot whose version is one higher than the one it replaces, and {@link #saveRatesIfVersion} does
+ * the same with a single compare-and-set, so conditional writers never block readers either.
+ */
 @Repository
-public class InMemoryInterestRateRepository implements InterestRateRepository {
-    private final Map<Integer, InterestRate> map = new HashMap<>();
+@ConditionalOnProperty(name = "mortgage.rates.store", havingValue = "map", matchIfMissing = true)
+public class InMemoryInterestRateRepository extends PublishingInterestRateRepository {
+    private final AtomicReference<RateSnapshot> current = new AtomicReference<>(RateSnapshot.EMPTY);
 
+    public InMemoryInterestRateRepository() {
+        this(null);
+    }
+
+    public InMemoryInterestRateRepository(ObjectProvider<RateChangeListener> listeners) {
+        this(listeners, DEFAULT_HISTORY_BUDGET);
+    }
+
+    @Autowired
+    public InMemoryInterestRateRepository(ObjectProvider<RateChangeListener> listeners,
+                                          @Value("${mortgage.rates.history.memoryBudget:8MB}") DataSize historyBudget) {
+        super(listeners, historyBudget);
+    }
 
     @Override
     public List<InterestRate> findAll() {
-        return new ArrayList<>(map.values());
+        return current.get().rates();
     }
 
     @Override
     public Optional<InterestRate> findByMaturity(int years) {
-        return Optional.ofNullable(map.get(years));
+        return Optional.ofNullable(current.get().find(years));
+    }
+
+    @Override
+    public InterestRate findByMaturityOrNull(int years) {
+        return current.get().find(years);
     }
 
+    @Override
+    public RateSnapshot snapshot() {
+        return current.get();
+    }
+
+    @Override
     public void saveRates(List<InterestRate> rates){
-        map.clear();
-        for(var r:rates) map.put(r.maturityPeriod(), r);
+        published(current.updateAndGet(previous -> previous.next(rates)));
+    }
+
+    @Override
+    public Optional<RateSnapshot> saveRatesIfVersion(long expectedVersion, List<InterestRate> rates) {
+        RateSnapshot previous = current.get();
+        if (previous.version() != expectedVersion) {
+            return Optional.empty();
+        }
+        RateSnapshot next = previous.next(rates);
+        if (!current.compareAndSet(previous, next)) {
+            return Optional.empty();
+        }
+        published(next);
+        return Optional.of(next);
     }
 }
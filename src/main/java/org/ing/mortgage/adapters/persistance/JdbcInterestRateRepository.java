@@ -0,0 +1,157 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Rate store in a relational database, schema {@code db/rates-schema.sql}. Every publication is a
+ * {@code rate_publication} row plus its {@code interest_rate} rows, inserted in one transaction and
+ * never updated, so the table is also the as-of history and a snapshot read by version is always
+ * complete.
+ * <p>
+ * The version is the primary key: a write inserts version + 1 of the publication it replaces, and the
+ * key constraint rejects a concurrent writer, in this process or on another node, that got there first.
+ * {@link #saveRatesIfVersion} reports that as a conflict; {@link #saveRates} retries on the new version.
+ * <p>
+ * Every call is a database round trip; {@link CachingInterestRateRepository} keeps lookups in memory.
+ */
+public class JdbcInterestRateRepository implements InterestRateRepository {
+    private static final String LATEST = "SELECT version, published_at FROM rate_publication ORDER BY version DESC FETCH FIRST 1 ROWS ONLY";
+    private static final String AS_OF = "SELECT version, published_at FROM rate_publication WHERE published_at <= ? ORDER BY version DESC FETCH FIRST 1 ROWS ONLY";
+    private static final String RATES = "SELECT maturity_period, interest_rate, last_update FROM interest_rate WHERE version = ?";
+    private static final String RATE = "SELECT r.maturity_period, r.interest_rate, r.last_update FROM interest_rate r "
+            + "WHERE r.maturity_period = ? AND r.version = (SELECT MAX(version) FROM rate_publication)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<RateChangeListener> listeners;
+
+    public JdbcInterestRateRepository(DataSource dataSource) {
+        this(dataSource, null);
+    }
+
+    public JdbcInterestRateRepository(DataSource dataSource, ObjectProvider<RateChangeListener> listeners) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.listeners = listeners;
+    }
+
+    @Override
+    public List<InterestRate> findAll() {
+        return snapshot().rates();
+    }
+
+    @Override
+    public Optional<InterestRate> findByMaturity(int years) {
+        return jdbcTemplate.query(RATE, JdbcInterestRateRepository::rate, years).stream().findFirst();
+    }
+
+    @Override
+    public RateSnapshot snapshot() {
+        return header(LATEST).map(this::withRates).orElse(RateSnapshot.EMPTY);
+    }
+
+    @Override
+    public Optional<RateSnapshot> snapshotAsOf(Instant asOf) {
+        return header(AS_OF, timestamp(asOf)).map(this::withRates);
+    }
+
+    /** The latest version without loading its rates; 0 before the first publication. */
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT MAX(version) FROM rate_publication", Long.class);
+        return version == null ? 0 : version;
+    }
+
+    @Override
+    public void saveRates(List<InterestRate> rates) {
+        publish(rates);
+    }
+
+    /** {@link #saveRates} returning the publication it made. */
+    RateSnapshot publish(List<InterestRate> rates) {
+        while (true) {
+            Optional<RateSnapshot> saved = insertNext(header(LATEST).orElse(RateSnapshot.EMPTY), rates);
+            if (saved.isPresent()) {
+                return saved.get();
+            }
+        }
+    }
+
+    @Override
+    public Optional<RateSnapshot> saveRatesIfVersion(long expectedVersion, List<InterestRate> rates) {
+        RateSnapshot previous = header(LATEST).orElse(RateSnapshot.EMPTY);
+        return previous.version() == expectedVersion ? insertNext(previous, rates) : Optional.empty();
+    }
+
+    /** A publication with its version and instant but without rates; enough to derive the next one. */
+    private Optional<RateSnapshot> header(String sql, Object... args) {
+        return jdbcTemplate.query(sql, (rs, n) -> RateSnapshot.of(rs.getLong(1), instant(rs, 2), List.of()), args)
+                .stream().findFirst();
+    }
+
+    private RateSnapshot withRates(RateSnapshot header) {
+        return RateSnapshot.of(header.version(), header.publishedAt(),
+                jdbcTemplate.query(RATES, JdbcInterestRateRepository::rate, header.version()));
+    }
+
+    private Optional<RateSnapshot> insertNext(RateSnapshot previous, List<InterestRate> rates) {
+        RateSnapshot next = previous.next(rates);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                jdbcTemplate.update("INSERT INTO rate_publication (version, published_at) VALUES (?, ?)",
+                        next.version(), timestamp(next.publishedAt()));
+                jdbcTemplate.batchUpdate("INSERT INTO interest_rate (version, maturity_period, interest_rate, last_update) VALUES (?, ?, ?, ?)",
+                        next.rates(), next.rates().size(), (ps, rate) -> {
+                            ps.setLong(1, next.version());
+                            ps.setObject(2, rate.maturityPeriod());
+                            ps.setBigDecimal(3, rate.interestRate());
+                            ps.setObject(4, timestamp(rate.lastUpdate()));
+                        });
+            });
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        notifyListeners(next);
+        return Optional.of(next);
+    }
+
+    @Override
+    public void republish() {
+        notifyListeners(snapshot());
+    }
+
+    private void notifyListeners(RateSnapshot snapshot) {
+        (listeners == null ? Stream.<RateChangeListener>empty() : listeners.orderedStream())
+                .forEach(l -> l.onRatesChanged(snapshot));
+    }
+
+    private static InterestRate rate(ResultSet rs, int rowNum) throws SQLException {
+        return new InterestRate(rs.getObject(1, Integer.class), rs.getBigDecimal(2), instant(rs, 3));
+    }
+
+    private static Instant instant(ResultSet rs, int column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,45 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selected with {@code mortgage.rates.store=jdbc}, which the {@code jdbc} profile sets. The store is
+ * cached in process unless {@code mortgage.rates.jdbc.cache.ttl} is 0; the cache is then polled every
+ * time to live, so publications by other nodes reach the listeners without waiting for a read.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "mortgage.rates.store", havingValue = "jdbc")
+public class JdbcRateStoreConfiguration implements DisposableBean {
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("rate-store-poll").factory());
+
+    @Bean
+    public InterestRateRepository jdbcInterestRateRepository(DataSource dataSource,
+                                                             ObjectProvider<RateChangeListener> listeners,
+                                                             @Value("${mortgage.rates.jdbc.cache.ttl:1s}") Duration ttl) {
+        if (ttl.isZero()) {
+            return new JdbcInterestRateRepository(dataSource, listeners);
+        }
+        var repository = new CachingInterestRateRepository(new JdbcInterestRateRepository(dataSource), listeners, ttl);
+        poller.scheduleWithFixedDelay(repository::poll, ttl.toMillis(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        return repository;
+    }
+
+    @Override
+    public void destroy() {
+        poller.shutdownNow();
+    }
+}
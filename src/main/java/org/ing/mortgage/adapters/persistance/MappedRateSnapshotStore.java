@@ -0,0 +1,206 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.ing.mortgage.ports.RateSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes every published {@link RateSnapshot} to a small binary file and reads it back on startup.
+ * <p>
+ * Layout, big-endian: magic {@code MRS1}, format version, snapshot version and {@code publishedAt}, the
+ * rate count, then per rate its maturity, {@code lastUpdate} and the rate as scale plus unscaled bytes,
+ * followed by a CRC32C of everything before it. The file is written through a memory mapping of a
+ * {@code .tmp} sibling, forced to disk and renamed over the previous file, so a crash leaves either the
+ * old or the new snapshot. A file that is truncated, fails its checksum or has an unknown layout is
+ * treated as absent.
+ * <p>
+ * Write failures are logged and never fail the publication itself. Enabled by setting
+ * {@code mortgage.rates.snapshot.path}.
+ */
+@Repository
+@ConditionalOnProperty(name = "mortgage.rates.snapshot.path")
+public class MappedRateSnapshotStore implements RateSnapshotStore, RateChangeListener {
+    private static final Logger log = LoggerFactory.getLogger(MappedRateSnapshotStore.class);
+    static final int MAGIC = 0x4D525331;
+    static final short FORMAT = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 8 + 8 + 4 + 4;
+    private static final int RATE_BYTES = 4 + 8 + 4 + 4 + 1;
+    private static final int CHECKSUM_BYTES = 4;
+    private static final int NULL_MATURITY = Integer.MIN_VALUE;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+    private static final int MAX_UNSCALED_BYTES = 0xFF;
+
+    private final Path file;
+    private final Path staging;
+    /** Not a monitor: saves run on the publishing thread, which may be virtual, and do file I/O. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private long savedVersion;
+
+    public MappedRateSnapshotStore(@Value("${mortgage.rates.snapshot.path}") Path file) {
+        this.file = file.toAbsolutePath().normalize();
+        this.staging = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+    }
+
+    @Override
+    public void onRatesChanged(List<InterestRate> rates) {
+        long next;
+        lock.lock();
+        try {
+            next = savedVersion + 1;
+        } finally {
+            lock.unlock();
+        }
+        onRatesChanged(RateSnapshot.of(next, rates));
+    }
+
+    /**
+     * Saves the publication unless a newer one has already been written by this process. Versions
+     * restart with the store after a restart, so the version found in the file is not compared.
+     */
+    @Override
+    public void onRatesChanged(RateSnapshot snapshot) {
+        try {
+            save(snapshot);
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            log.error("rates.snapshot.write.failed file={} version={} error={}", file, snapshot.version(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void save(RateSnapshot snapshot) {
+        lock.lock();
+        try {
+            if (snapshot.version() <= savedVersion) {
+                return;
+            }
+            Files.createDirectories(file.getParent());
+            write(snapshot);
+            Files.move(staging, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedVersion = snapshot.version();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(RateSnapshot snapshot) throws IOException {
+        List<byte[]> unscaled = new ArrayList<>(snapshot.rates().size());
+        int size = HEADER_BYTES + CHECKSUM_BYTES;
+        for (InterestRate rate : snapshot.rates()) {
+            byte[] bytes = rate.interestRate() == null ? new byte[0] : rate.interestRate().unscaledValue().toByteArray();
+            if (bytes.length > MAX_UNSCALED_BYTES) {
+                throw new IllegalArgumentException("Interest rate has too many digits to persist: " + rate.interestRate());
+            }
+            unscaled.add(bytes);
+            size += RATE_BYTES + bytes.length;
+        }
+        try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(MAGIC).putShort(FORMAT).putLong(snapshot.version());
+            putInstant(out, snapshot.publishedAt());
+            out.putInt(snapshot.rates().size());
+            for (int i = 0; i < snapshot.rates().size(); i++) {
+                InterestRate rate = snapshot.rates().get(i);
+                out.putInt(rate.maturityPeriod() == null ? NULL_MATURITY : rate.maturityPeriod());
+                putInstant(out, rate.lastUpdate());
+                out.putInt(rate.interestRate() == null ? 0 : rate.interestRate().scale());
+                out.put((byte) unscaled.get(i).length).put(unscaled.get(i));
+            }
+            out.putInt(checksum(out, size - CHECKSUM_BYTES));
+            out.force();
+        }
+    }
+
+    @Override
+    public Optional<RateSnapshot> load() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + CHECKSUM_BYTES || size > Integer.MAX_VALUE) {
+                return corrupt("unexpected size " + size);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (checksum(in, (int) size - CHECKSUM_BYTES) != in.getInt((int) size - CHECKSUM_BYTES)) {
+                return corrupt("checksum mismatch");
+            }
+            if (in.getInt() != MAGIC || in.getShort() != FORMAT) {
+                return corrupt("unknown layout");
+            }
+            long version = in.getLong();
+            Instant publishedAt = getInstant(in);
+            int count = in.getInt();
+            if (count < 0 || (long) count * RATE_BYTES > size) {
+                return corrupt("invalid rate count " + count);
+            }
+            List<InterestRate> rates = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int maturity = in.getInt();
+                Instant lastUpdate = getInstant(in);
+                int scale = in.getInt();
+                byte[] bytes = new byte[in.get() & 0xFF];
+                in.get(bytes);
+                rates.add(new InterestRate(maturity == NULL_MATURITY ? null : maturity,
+                        bytes.length == 0 ? null : new BigDecimal(new BigInteger(bytes), scale), lastUpdate));
+            }
+            if (in.position() != size - CHECKSUM_BYTES) {
+                return corrupt("trailing bytes");
+            }
+            return Optional.of(RateSnapshot.of(version, publishedAt, rates));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("rates.snapshot.read.failed file={} error={}", file, e.getMessage());
+            return Optional.empty();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            return corrupt("truncated");
+        }
+    }
+
+    private Optional<RateSnapshot> corrupt(String reason) {
+        log.warn("rates.snapshot.corrupt file={} reason={}", file, reason);
+        return Optional.empty();
+    }
+
+    private static int checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return (int) crc.getValue();
+    }
+
+    private static void putInstant(ByteBuffer out, Instant instant) {
+        out.putLong(instant == null ? NULL_INSTANT : instant.getEpochSecond()).putInt(instant == null ? 0 : instant.getNano());
+    }
+
+    private static Instant getInstant(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == NULL_INSTANT ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+}
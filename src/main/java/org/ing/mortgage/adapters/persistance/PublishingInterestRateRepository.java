@@ -0,0 +1,47 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * What the in-memory stores share once a new snapshot has been swapped in: recording it in the
+ * {@link RateHistory} for as-of lookups and notifying the {@link RateChangeListener}s.
+ */
+abstract class PublishingInterestRateRepository implements InterestRateRepository {
+    static final DataSize DEFAULT_HISTORY_BUDGET = DataSize.ofMegabytes(8);
+
+    private final ObjectProvider<RateChangeListener> listeners;
+    private final RateHistory history;
+
+    PublishingInterestRateRepository(ObjectProvider<RateChangeListener> listeners, DataSize historyBudget) {
+        this.listeners = listeners;
+        this.history = new RateHistory(historyBudget.toBytes());
+    }
+
+    @Override
+    public Optional<RateSnapshot> snapshotAsOf(Instant asOf) {
+        return history.asOf(asOf);
+    }
+
+    @Override
+    public void republish() {
+        notifyListeners(snapshot());
+    }
+
+    protected void published(RateSnapshot snapshot) {
+        history.record(snapshot);
+        notifyListeners(snapshot);
+    }
+
+    private void notifyListeners(RateSnapshot snapshot) {
+        (listeners == null ? Stream.<RateChangeListener>empty() : listeners.orderedStream())
+                .forEach(l -> l.onRatesChanged(snapshot));
+    }
+}
@@ -0,0 +1,103 @@
+package org.ing.mortgage.adapters.persistance;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Every published {@link RateSnapshot}, indexed by the instant it took effect, for as-of lookups in
+ * O(log n).
+ * <p>
+ * The retained history is kept under a memory budget, estimated per snapshot and rate. When it is
+ * exceeded, publications that only repeat the rate values of the one before are merged into it first
+ * (as-of answers keep the same rates, only {@code lastUpdate} changes); if that is not enough, the oldest
+ * publications are dropped and as-of lookups before the remaining history fail instead of answering empty.
+ * Compaction brings the history down to three quarters of the budget, so it runs once per batch of
+ * publications rather than on every one.
+ */
+public class RateHistory {
+    static final long ESTIMATED_SNAPSHOT_BYTES = 128;
+    static final long ESTIMATED_RATE_BYTES = 160;
+
+    private final NavigableMap<Instant, RateSnapshot> snapshots = new ConcurrentSkipListMap<>();
+    private final long memoryBudgetBytes;
+    private final long compactedBytes;
+    private long estimatedBytes;
+    private volatile Instant compactedBefore;
+
+    public RateHistory(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.compactedBytes = memoryBudgetBytes / 4 * 3;
+    }
+
+    public synchronized void record(RateSnapshot snapshot) {
+        RateSnapshot replaced = snapshots.get(snapshot.publishedAt());
+        if (replaced != null && replaced.version() > snapshot.version()) {
+            return;
+        }
+        snapshots.put(snapshot.publishedAt(), snapshot);
+        estimatedBytes += estimate(snapshot) - (replaced == null ? 0 : estimate(replaced));
+        if (estimatedBytes > memoryBudgetBytes) {
+            compact();
+        }
+    }
+
+    /**
+     * @return the publication in effect at {@code asOf}, or empty when nothing had been published yet
+     * @throws IllegalArgumentException when {@code asOf} lies before history that has been compacted away
+     */
+    public Optional<RateSnapshot> asOf(Instant asOf) {
+        var entry = snapshots.floorEntry(asOf);
+        if (entry == null) {
+            Instant horizon = compactedBefore;
+            if (horizon != null) {
+                throw new IllegalArgumentException("Rate history before " + horizon + " has been compacted");
+            }
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue());
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private void compact() {
+        Map<Integer, BigDecimal> previous = null;
+        Iterator<RateSnapshot> it = snapshots.values().iterator();
+        while (it.hasNext() && estimatedBytes > compactedBytes) {
+            RateSnapshot snapshot = it.next();
+            Map<Integer, BigDecimal> values = values(snapshot);
+            if (values.equals(previous) && it.hasNext()) {
+                it.remove();
+                estimatedBytes -= estimate(snapshot);
+            } else {
+                previous = values;
+            }
+        }
+        while (estimatedBytes > compactedBytes && snapshots.size() > 1) {
+            compactedBefore = snapshots.higherKey(snapshots.firstKey());
+            estimatedBytes -= estimate(snapshots.pollFirstEntry().getValue());
+        }
+    }
+
+    private static Map<Integer, BigDecimal> values(RateSnapshot snapshot) {
+        Map<Integer, BigDecimal> values = new HashMap<>();
+        for (InterestRate rate : snapshot.rates()) {
+            values.put(rate.maturityPeriod(), rate.interestRate() == null ? null : rate.interestRate().stripTrailingZeros());
+        }
+        return values;
+    }
+
+    private static long estimate(RateSnapshot snapshot) {
+        return ESTIMATED_SNAPSHOT_BYTES + ESTIMATED_RATE_BYTES * snapshot.rates().size();
+    }
+}
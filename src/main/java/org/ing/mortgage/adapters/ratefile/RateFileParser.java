@@ -0,0 +1,137 @@
+package org.ing.mortgage.adapters.ratefile;
+
+import org.ing.mortgage.domain.Rate;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a complete set of rates from a {@code .yml}/{@code .yaml} or {@code .csv} file and validates
+ * all of it before anything is returned, so a partially valid file is never published.
+ * <p>
+ * YAML is either a list or a {@code rates:} key holding a list of {@code maturityPeriod}/{@code interestRate}
+ * entries, like {@code mortgage.startup.rates}. CSV has one {@code maturityPeriod,interestRate} row per
+ * line; an optional header, blank lines and {@code #} comments are skipped.
+ */
+final class RateFileParser {
+    static final int MIN_MATURITY = 1;
+    static final int MAX_MATURITY = 30;
+    static final BigDecimal MAX_RATE = BigDecimal.valueOf(100);
+
+    private RateFileParser() {
+    }
+
+    /**
+     * @throws IllegalArgumentException when the file is malformed or any rate is invalid
+     */
+    static List<Rate> parse(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        if (name.endsWith(".csv")) {
+            return parseCsv(content);
+        }
+        if (name.endsWith(".yml") || name.endsWith(".yaml")) {
+            return parseYaml(content);
+        }
+        throw new IllegalArgumentException("Unsupported rate file type: " + file.getFileName() + " (expected .yml, .yaml or .csv)");
+    }
+
+    static List<Rate> parseCsv(String content) {
+        List<Rate> rates = new ArrayList<>();
+        String[] lines = content.split("\\R");
+        boolean headerAllowed = true;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String location = "line " + (i + 1);
+            if (headerAllowed && !Character.isDigit(line.charAt(0))) {
+                headerAllowed = false;
+                continue;
+            }
+            headerAllowed = false;
+            String[] fields = line.split(",", -1);
+            if (fields.length != 2) {
+                throw new IllegalArgumentException(location + ": expected maturityPeriod,interestRate");
+            }
+            rates.add(rate(fields[0].strip(), fields[1].strip(), location));
+        }
+        return validated(rates);
+    }
+
+    static List<Rate> parseYaml(String content) {
+        Object document;
+        try {
+            document = new Yaml(new SafeConstructor(new LoaderOptions())).load(content);
+        } catch (YAMLException e) {
+            throw new IllegalArgumentException("Malformed YAML: " + e.getMessage(), e);
+        }
+        if (document instanceof Map<?, ?> map && map.containsKey("rates")) {
+            document = map.get("rates");
+        }
+        if (!(document instanceof List<?> entries)) {
+            throw new IllegalArgumentException("Expected a list of rates or a 'rates' key holding one");
+        }
+        List<Rate> rates = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String location = "rates[" + i + "]";
+            if (!(entries.get(i) instanceof Map<?, ?> entry)) {
+                throw new IllegalArgumentException(location + ": expected maturityPeriod and interestRate");
+            }
+            rates.add(rate(entry.get("maturityPeriod"), entry.get("interestRate"), location));
+        }
+        return validated(rates);
+    }
+
+    private static Rate rate(Object maturity, Object interestRate, String location) {
+        if (maturity == null || interestRate == null) {
+            throw new IllegalArgumentException(location + ": maturityPeriod and interestRate are required");
+        }
+        int maturityPeriod;
+        BigDecimal rate;
+        try {
+            maturityPeriod = Integer.parseInt(maturity.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(location + ": maturityPeriod must be a whole number of years");
+        }
+        try {
+            rate = new BigDecimal(interestRate.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(location + ": interestRate must be a number");
+        }
+        if (maturityPeriod < MIN_MATURITY || maturityPeriod > MAX_MATURITY) {
+            throw new IllegalArgumentException(location + ": maturityPeriod must be between " + MIN_MATURITY + " and " + MAX_MATURITY);
+        }
+        if (rate.signum() < 0 || rate.compareTo(MAX_RATE) > 0) {
+            throw new IllegalArgumentException(location + ": interestRate must be between 0 and " + MAX_RATE);
+        }
+        return new Rate(maturityPeriod, rate);
+    }
+
+    private static List<Rate> validated(List<Rate> rates) {
+        if (rates.isEmpty()) {
+            throw new IllegalArgumentException("Rate file contains no rates");
+        }
+        Set<Integer> maturities = new HashSet<>();
+        for (Rate rate : rates) {
+            if (!maturities.add(rate.maturityPeriod())) {
+                throw new IllegalArgumentException("Duplicate maturityPeriod " + rate.maturityPeriod());
+            }
+        }
+        return List.copyOf(rates);
+    }
+}
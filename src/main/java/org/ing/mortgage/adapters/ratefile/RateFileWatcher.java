@@ -0,0 +1,232 @@
+package org.ing.mortgage.adapters.ratefile;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes rates from a local YAML or CSV file (see {@link RateFileParser}) and republishes them
+ * whenever the file changes, without a restart.
+ * <p>
+ * The file is loaded after {@code StartupDataLoader}, so its rates replace {@code mortgage.startup.rates}.
+ * Its directory is registered with a {@link WatchService} before that first load, so a change made
+ * while it runs is not missed, and watched by a daemon thread; events are collected
+ * until the directory has been quiet for {@link #SETTLE}, so an editor's write-then-rename is reloaded
+ * once. An event for another entry of the directory reloads the file when its real path, modification
+ * time or size changed, which is how a Kubernetes ConfigMap update shows: the file is a symlink through
+ * {@code ..data}, and only that symlink is swapped. Parsing and validation happen on that thread and the result is handed to
+ * {@link InterestRateRepository#saveRates}, which swaps the whole set in atomically. A file that
+ * repeats the current rates is not republished, so caches keyed by rate version survive a touch.
+ * <p>
+ * The file is the source of truth for the rates it lists: when its content changes, it replaces all
+ * rates, including any written through the admin API since the last load. A file whose content did not
+ * change, touched or re-synced with the same rates, is not republished and leaves such writes in place.
+ * <p>
+ * A malformed file keeps the last good rates. The failure is reported by the
+ * {@code mortgage.rates.reload.failing} gauge and a {@code DEGRADED} {@code rateFile} health component,
+ * which does not take the application out of service. Every reload attempt is timed under
+ * {@code mortgage.rates.reload}, tagged {@code outcome=published|unchanged|failed}.
+ * <p>
+ * Enabled by setting {@code mortgage.rates.file.path}.
+ */
+@Component("rateFile")
+@ConditionalOnProperty(name = "mortgage.rates.file.path")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RateFileWatcher implements ApplicationRunner, HealthIndicator, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(RateFileWatcher.class);
+    static final Duration SETTLE = Duration.ofMillis(100);
+
+    private final InterestRateRepository interestRateRepository;
+    private final Path file;
+    private final Timer published;
+    private final Timer unchanged;
+    private final Timer failed;
+
+    private volatile String lastError;
+    private volatile Instant lastPublished;
+    private volatile FileStamp loadedStamp;
+    private List<Rate> lastLoaded;
+    private WatchService watchService;
+
+    public RateFileWatcher(InterestRateRepository interestRateRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${mortgage.rates.file.path}") Path file) {
+        this.interestRateRepository = interestRateRepository;
+        this.file = file.toAbsolutePath().normalize();
+        this.published = reloadTimer(meterRegistry, "published");
+        this.unchanged = reloadTimer(meterRegistry, "unchanged");
+        this.failed = reloadTimer(meterRegistry, "failed");
+        Gauge.builder("mortgage.rates.reload.failing", this, watcher -> watcher.lastError == null ? 0 : 1)
+                .description("1 while the rate file is malformed and the last good rates are being served")
+                .register(meterRegistry);
+    }
+
+    private static Timer reloadTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("mortgage.rates.reload")
+                .description("Reading, validating and publishing the watched rate file")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        watch();
+        reload();
+    }
+
+    /**
+     * Reads the file and publishes its rates if they are valid and differ from the current ones.
+     *
+     * @return {@code false} when the file could not be read or is invalid; the current rates are kept
+     */
+    public synchronized boolean reload() {
+        long start = System.nanoTime();
+        loadedStamp = FileStamp.of(file);
+        List<Rate> rates;
+        try {
+            rates = RateFileParser.parse(file);
+        } catch (IOException | IllegalArgumentException e) {
+            failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            lastError = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            log.warn("rates.reload.failed file={} error={}", file, lastError);
+            return false;
+        }
+        lastError = null;
+        if (rates.equals(lastLoaded) || sameAsPublished(rates)) {
+            lastLoaded = rates;
+            unchanged.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("rates.reload.unchanged file={}", file);
+            return true;
+        }
+        Instant now = Instant.now();
+        interestRateRepository.saveRates(rates.stream()
+                .map(r -> new InterestRate(r.maturityPeriod(), r.interestRate(), now))
+                .toList());
+        lastPublished = now;
+        lastLoaded = rates;
+        long elapsed = System.nanoTime() - start;
+        published.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("rates.reloaded file={} rates={} version={} durationMs={}",
+                file, rates.size(), interestRateRepository.snapshot().version(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return true;
+    }
+
+    private boolean sameAsPublished(List<Rate> rates) {
+        List<InterestRate> current = interestRateRepository.findAll();
+        if (current.size() != rates.size()) {
+            return false;
+        }
+        Map<Integer, BigDecimal> values = new HashMap<>();
+        for (InterestRate rate : current) {
+            values.put(rate.maturityPeriod(), rate.interestRate());
+        }
+        for (Rate rate : rates) {
+            BigDecimal value = values.get(rate.maturityPeriod());
+            if (value == null || value.compareTo(rate.interestRate()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized void watch() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchService events = watchService;
+        Thread.ofPlatform().daemon().name("rate-file-watcher").start(() -> watchLoop(events));
+        log.info("rates.watching file={}", file);
+    }
+
+    private void watchLoop(WatchService events) {
+        try {
+            while (true) {
+                boolean changed = drain(events.take());
+                WatchKey more;
+                while ((more = events.poll(SETTLE.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(more);
+                }
+                if (changed || !Objects.equals(FileStamp.of(file), loadedStamp)) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("rates.watch.stopped file={}", file);
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context());
+        }
+        key.reset();
+        return changed;
+    }
+
+    /** Where the file resolves to and what it looked like there; {@code null} when it cannot be read. */
+    private record FileStamp(Path realPath, FileTime modified, long size) {
+        static FileStamp of(Path file) {
+            try {
+                Path realPath = file.toRealPath();
+                BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+                return new FileStamp(realPath, attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = lastError == null ? Health.up() : Health.status("DEGRADED").withDetail("error", lastError);
+        health.withDetail("file", file.toString());
+        if (lastPublished != null) {
+            health.withDetail("lastPublished", lastPublished.toString());
+        }
+        return health.build();
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
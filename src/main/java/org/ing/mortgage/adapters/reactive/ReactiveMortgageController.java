@@ -0,0 +1,61 @@
+package org.ing.mortgage.adapters.reactive;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.MortgageController;
+import org.ing.mortgage.adapters.web.MortgageControllerSupport;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.ing.mortgage.config.ReactiveRateLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * {@link MortgageController} on the non-blocking stack, active when the application runs as a reactive
+ * web application ({@code reactive} profile). Both delegate to {@link MortgageControllerSupport}, so it
+ * serves the same rate bytes and {@code ETag}s over the same services; {@link ReactiveRateLimitFilter}
+ * charges the caller's rate limit before a request gets here. The engine and the in-memory rate stores
+ * never block, so requests stay on the event loop; with {@code mortgage.rates.store=jdbc} rate-store
+ * reads move to the bounded elastic scheduler.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+public class ReactiveMortgageController {
+    private final MortgageControllerSupport support;
+
+    private Scheduler storeScheduler = Schedulers.immediate();
+
+    @Value("${mortgage.rates.store:map}")
+    void setRateStore(String store) {
+        storeScheduler = "jdbc".equals(store) ? Schedulers.boundedElastic() : Schedulers.immediate();
+    }
+
+    @GetMapping("/interest-rates")
+    public Mono<ResponseEntity<?>> getInterestRates(@RequestParam(name = "asOf", required = false) Instant asOf,
+                                                    @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                    @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return fromStore(() -> asOf != null ? support.ratesAsOf(asOf) : support.currentRates(ifNoneMatch, acceptEncoding));
+    }
+
+    @PostMapping("/mortgage-check")
+    public Mono<MortgageCheckResponse> mortgageCheck(@Valid @RequestBody Mono<MortgageCheckRequest> request) {
+        return request.flatMap(body -> body.getAsOf() == null
+                ? Mono.fromSupplier(() -> support.mortgageCheck(body))
+                : fromStore(() -> support.mortgageCheck(body)));
+    }
+
+    private <T> Mono<T> fromStore(Supplier<T> read) {
+        return Mono.fromSupplier(read).subscribeOn(storeScheduler);
+    }
+}
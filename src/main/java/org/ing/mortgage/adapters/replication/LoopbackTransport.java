@@ -0,0 +1,66 @@
+package org.ing.mortgage.adapters.replication;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Transport between nodes in one JVM, for tests and local experiments. Every transport connected to
+ * the same {@link Bus} receives the messages of the others, in send order, on the bus's delivery
+ * thread, so a receiver never runs on the sender's thread.
+ */
+public class LoopbackTransport implements ReplicationTransport {
+    private final Bus bus;
+    private volatile Consumer<ReplicationMessage> receiver;
+
+    public LoopbackTransport(Bus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void start(Consumer<ReplicationMessage> receiver) {
+        this.receiver = receiver;
+        bus.members.add(this);
+    }
+
+    @Override
+    public void send(ReplicationMessage message) {
+        bus.deliver(this, message);
+    }
+
+    @Override
+    public void close() {
+        bus.members.remove(this);
+    }
+
+    /** A shared medium; {@link #DEFAULT} connects every loopback node of the JVM. */
+    public static class Bus implements AutoCloseable {
+        public static final Bus DEFAULT = new Bus();
+
+        private final Set<LoopbackTransport> members = ConcurrentHashMap.newKeySet();
+        private final ExecutorService delivery = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().daemon().name("rate-replication-loopback").factory());
+
+        void deliver(LoopbackTransport from, ReplicationMessage message) {
+            try {
+                delivery.execute(() -> {
+                    for (LoopbackTransport member : members) {
+                        if (member != from) {
+                            member.receiver.accept(message);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // bus closed
+            }
+        }
+
+        @Override
+        public void close() {
+            delivery.shutdownNow();
+        }
+    }
+}
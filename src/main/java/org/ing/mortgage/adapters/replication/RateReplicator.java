@@ -0,0 +1,270 @@
+package org.ing.mortgage.adapters.replication;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the rates of all nodes equal by broadcasting every local publication through a
+ * {@link ReplicationTransport} and publishing the rates received from other nodes locally.
+ * <p>
+ * Store versions are local to a node, so publications are ordered by {@link ReplicationClock}: the
+ * instant published at the origin, then the origin node id. A node applies rates only when their clock
+ * is newer than that of the rates it holds, so concurrent writes on different nodes converge on the
+ * last one. Received rates are checked like an admin write (maturities 1 to 30 years, each once,
+ * rates between 0 and 100) and dropped when invalid. A local write made after applying a remote one always gets a newer clock, even with skewed
+ * wall clocks. Rates published before replication starts, from {@code mortgage.startup.rates} or a
+ * snapshot file, carry {@link ReplicationClock#BOOTSTRAP}, so a (re)starting node adopts the cluster's
+ * rates instead of overwriting them.
+ * <p>
+ * Every {@code mortgage.rates.replication.heartbeat} each node broadcasts its clock. A node that
+ * hears of a newer clock than its own (it missed a publication, or just started) asks that node for
+ * a full snapshot, once per clock unless no answer arrives within three heartbeats; on startup every
+ * node is asked once.
+ * <p>
+ * Metrics: {@code mortgage.rates.replication.version} is the local store version,
+ * {@code mortgage.rates.replication.lag} the time from publication at the origin until applied here,
+ * tagged {@code via=publish|sync}, and {@code mortgage.rates.replication.syncs} counts full-snapshot
+ * catch-ups requested.
+ * <p>
+ * Enabled by {@code mortgage.rates.replication.transport}, see {@link ReplicationConfiguration}.
+ */
+public class RateReplicator implements RateChangeListener, ApplicationRunner, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(RateReplicator.class);
+    /** The bounds of {@code InterestRateUpdate}. */
+    private static final int MIN_MATURITY = 1;
+    private static final int MAX_MATURITY = 30;
+    private static final BigDecimal MAX_RATE = BigDecimal.valueOf(100);
+
+    private final InterestRateRepository interestRateRepository;
+    private final ReplicationTransport transport;
+    private final String nodeId;
+    private final Duration heartbeat;
+    private final Timer publishLag;
+    private final Timer syncLag;
+    private final Counter syncs;
+    private final ThreadLocal<Boolean> applying = ThreadLocal.withInitial(() -> false);
+    /** Not a monitor: local publications arrive on request threads, which may be virtual, and send. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean started;
+    private volatile Replicated current = new Replicated(ReplicationClock.BOOTSTRAP, List.of());
+    private volatile ReplicationClock requested;
+    private volatile long requestedAt;
+
+    /** The rates this node holds and the clock of the publication they came from. */
+    private record Replicated(ReplicationClock clock, List<InterestRate> rates) {
+    }
+
+    public RateReplicator(InterestRateRepository interestRateRepository,
+                          ReplicationTransport transport,
+                          MeterRegistry meterRegistry,
+                          String nodeId,
+                          Duration heartbeat) {
+        this.interestRateRepository = interestRateRepository;
+        this.transport = transport;
+        this.nodeId = nodeId;
+        this.heartbeat = heartbeat;
+        this.publishLag = lagTimer(meterRegistry, "publish");
+        this.syncLag = lagTimer(meterRegistry, "sync");
+        this.syncs = Counter.builder("mortgage.rates.replication.syncs")
+                .description("Full rate snapshots requested from other nodes to catch up")
+                .register(meterRegistry);
+        Gauge.builder("mortgage.rates.replication.version", interestRateRepository, r -> r.snapshot().version())
+                .description("Version of the rates held by this node")
+                .register(meterRegistry);
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, String via) {
+        return Timer.builder("mortgage.rates.replication.lag")
+                .description("Time from publication on the origin node until the rates are applied on this one")
+                .tag("via", via)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        start();
+    }
+
+    /** Adopts the rates published so far as bootstrap rates and joins the cluster. */
+    public void start() throws IOException {
+        lock.lock();
+        try {
+            current = new Replicated(ReplicationClock.BOOTSTRAP, interestRateRepository.findAll());
+            transport.start(this::receive);
+            started = true;
+            heartbeats = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon().name("rate-replication-heartbeat").factory());
+            heartbeats.scheduleAtFixedRate(() -> transport.send(ReplicationMessage.heartbeat(nodeId, current.clock())),
+                    heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+            syncs.increment();
+            transport.send(ReplicationMessage.syncRequest(nodeId, null));
+            log.info("rates.replication.started node={} heartbeat={}", nodeId, heartbeat);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /** The clock of the publication whose rates this node holds. */
+    public ReplicationClock clock() {
+        return current.clock();
+    }
+
+    @Override
+    public void onRatesChanged(List<InterestRate> rates) {
+        onRatesChanged(RateSnapshot.of(interestRateRepository.snapshot().version(), rates));
+    }
+
+    @Override
+    public void onRatesChanged(RateSnapshot snapshot) {
+        lock.lock();
+        try {
+            if (!started || applying.get()) {
+                if (!started) {
+                    current = new Replicated(ReplicationClock.BOOTSTRAP, snapshot.rates());
+                }
+                return;
+            }
+            if (snapshot.version() < interestRateRepository.snapshot().version()) {
+                // rates from another node were applied while this write waited; this write is the newer one
+                republish(snapshot.rates());
+            }
+            ReplicationClock clock = new ReplicationClock(snapshot.publishedAt(), nodeId);
+            if (!clock.isAfter(current.clock())) {
+                clock = new ReplicationClock(current.clock().publishedAt().plusNanos(1), nodeId);
+            }
+            current = new Replicated(clock, snapshot.rates());
+            transport.send(new ReplicationMessage(ReplicationMessage.Type.PUBLISH, nodeId, null, clock, snapshot.rates()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void receive(ReplicationMessage message) {
+        if (nodeId.equals(message.sender())) {
+            return;
+        }
+        switch (message.type()) {
+            case PUBLISH -> apply(message, publishLag);
+            case SYNC_RESPONSE -> apply(message, syncLag);
+            case HEARTBEAT -> {
+                if (message.clock().isAfter(current.clock()) && !awaitingSync(message.clock())) {
+                    log.info("rates.replication.behind node={} clock={} peer={} peerClock={}",
+                            nodeId, current.clock(), message.sender(), message.clock());
+                    requested = message.clock();
+                    requestedAt = System.nanoTime();
+                    syncs.increment();
+                    transport.send(ReplicationMessage.syncRequest(nodeId, message.sender()));
+                }
+            }
+            case SYNC_REQUEST -> {
+                Replicated replicated = current;
+                if ((message.target() == null || nodeId.equals(message.target()))
+                        && replicated.clock().isAfter(ReplicationClock.BOOTSTRAP)) {
+                    transport.send(new ReplicationMessage(ReplicationMessage.Type.SYNC_RESPONSE, nodeId, message.sender(),
+                            replicated.clock(), replicated.rates()));
+                }
+            }
+        }
+    }
+
+    /** Whether that clock was requested recently enough that the answer may still be on its way. */
+    private boolean awaitingSync(ReplicationClock clock) {
+        return clock.equals(requested) && System.nanoTime() - requestedAt < 3 * heartbeat.toNanos();
+    }
+
+    private void apply(ReplicationMessage message, Timer lag) {
+        String invalid = invalid(message.rates());
+        if (invalid != null) {
+            log.warn("rates.replication.rejected node={} origin={} sender={} error={}",
+                    nodeId, message.clock().node(), message.sender(), invalid);
+            return;
+        }
+        lock.lock();
+        try {
+            if (!message.clock().isAfter(current.clock())) {
+                return;
+            }
+            republish(message.rates());
+            current = new Replicated(message.clock(), message.rates());
+            Duration elapsed = Duration.between(message.clock().publishedAt(), Instant.now());
+            lag.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+            log.info("rates.replication.applied node={} origin={} via={} version={} lagMillis={}", nodeId,
+                    message.clock().node(), message.type(), interestRateRepository.snapshot().version(), elapsed.toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return why the rates could not be written through the admin API, or {@code null} when they could */
+    static String invalid(List<InterestRate> rates) {
+        Set<Integer> maturities = new HashSet<>();
+        for (InterestRate rate : rates) {
+            Integer maturity = rate.maturityPeriod();
+            if (maturity == null || maturity < MIN_MATURITY || maturity > MAX_MATURITY) {
+                return "Maturity Period must be between " + MIN_MATURITY + " and " + MAX_MATURITY + " years, got " + maturity;
+            }
+            if (!maturities.add(maturity)) {
+                return "Duplicate maturityPeriod " + maturity;
+            }
+            BigDecimal value = rate.interestRate();
+            if (value == null || value.signum() < 0 || value.compareTo(MAX_RATE) > 0) {
+                return "Interest Rate must be between 0 and 100, got " + value + " for maturityPeriod " + maturity;
+            }
+        }
+        return null;
+    }
+
+    /** Publishes rates in the local store without broadcasting them. */
+    private void republish(List<InterestRate> rates) {
+        applying.set(true);
+        try {
+            interestRateRepository.saveRates(rates);
+        } finally {
+            applying.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            started = false;
+            if (heartbeats != null) {
+                heartbeats.shutdownNow();
+            }
+            transport.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
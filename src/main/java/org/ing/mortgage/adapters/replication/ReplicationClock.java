@@ -0,0 +1,25 @@
+package org.ing.mortgage.adapters.replication;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Orders rate publications across nodes: by the instant they were published at their origin, ties
+ * broken by origin node id. The newest clock wins, so nodes agree on the rates without coordinating.
+ */
+public record ReplicationClock(Instant publishedAt, String node) implements Comparable<ReplicationClock> {
+    /** Older than any publication; the clock of rates loaded at startup, which any replicated rates replace. */
+    static final ReplicationClock BOOTSTRAP = new ReplicationClock(Instant.EPOCH, "");
+
+    private static final Comparator<ReplicationClock> ORDER =
+            Comparator.comparing(ReplicationClock::publishedAt).thenComparing(ReplicationClock::node);
+
+    @Override
+    public int compareTo(ReplicationClock other) {
+        return ORDER.compare(this, other);
+    }
+
+    public boolean isAfter(ReplicationClock other) {
+        return compareTo(other) > 0;
+    }
+}
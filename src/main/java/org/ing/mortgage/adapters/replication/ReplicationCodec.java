@@ -0,0 +1,128 @@
+package org.ing.mortgage.adapters.replication;
+
+import org.ing.mortgage.domain.InterestRate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wire format of a {@link ReplicationMessage}, big-endian: magic {@code MRR1}, type, sender, target
+ * (empty for none), clock as epoch seconds, nanos and node, the rate count, then per rate a presence
+ * flag and maturity, the rate as scale plus up to 255 unscaled bytes (none for a {@code null} rate), and
+ * {@code lastUpdate} (-1 seconds for none). The message ends with an HMAC-SHA256 of everything before it,
+ * keyed by the secret the nodes share, so only a node that knows it can publish rates; a replayed message
+ * carries an old clock and is ignored by the replicator. A whole message fits in one datagram for any
+ * realistic number of maturities.
+ */
+final class ReplicationCodec {
+    static final int MAGIC = 0x4D525231;
+    private static final int MAX_UNSCALED_BYTES = 0xFF;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    static final int MAC_BYTES = 32;
+
+    private ReplicationCodec() {
+    }
+
+    /** @throws IllegalArgumentException when a rate has more digits than the format holds */
+    static byte[] encode(ReplicationMessage message, byte[] secret) {
+        var bytes = new ByteArrayOutputStream(64 + 32 * message.rates().size());
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(message.type().ordinal());
+            out.writeUTF(message.sender());
+            out.writeUTF(message.target() == null ? "" : message.target());
+            writeInstant(out, message.clock().publishedAt());
+            out.writeUTF(message.clock().node());
+            out.writeShort(message.rates().size());
+            for (InterestRate rate : message.rates()) {
+                out.writeBoolean(rate.maturityPeriod() != null);
+                out.writeInt(rate.maturityPeriod() == null ? 0 : rate.maturityPeriod());
+                byte[] unscaled = rate.interestRate() == null ? new byte[0] : rate.interestRate().unscaledValue().toByteArray();
+                if (unscaled.length > MAX_UNSCALED_BYTES) {
+                    throw new IllegalArgumentException("Interest rate has too many digits to replicate: " + rate.interestRate());
+                }
+                out.writeInt(rate.interestRate() == null ? 0 : rate.interestRate().scale());
+                out.writeByte(unscaled.length);
+                out.write(unscaled);
+                writeInstant(out, rate.lastUpdate());
+            }
+            out.write(mac(secret, bytes.toByteArray(), bytes.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** @throws IllegalArgumentException when the bytes are not a message in this format signed with {@code secret} */
+    static ReplicationMessage decode(byte[] data, int length, byte[] secret) {
+        int payload = length - MAC_BYTES;
+        if (payload < 0 || !MessageDigest.isEqual(mac(secret, data, payload), Arrays.copyOfRange(data, payload, length))) {
+            throw new IllegalArgumentException("Rate replication message without a valid signature");
+        }
+        try (var in = new DataInputStream(new ByteArrayInputStream(data, 0, payload))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a rate replication message");
+            }
+            int type = in.readUnsignedByte();
+            if (type >= ReplicationMessage.Type.values().length) {
+                throw new IllegalArgumentException("Unknown replication message type=" + type);
+            }
+            String sender = in.readUTF();
+            String target = in.readUTF();
+            ReplicationClock clock = new ReplicationClock(readInstant(in), in.readUTF());
+            int count = in.readUnsignedShort();
+            List<InterestRate> rates = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean hasMaturity = in.readBoolean();
+                int maturity = in.readInt();
+                int scale = in.readInt();
+                byte[] unscaled = in.readNBytes(in.readUnsignedByte());
+                rates.add(new InterestRate(hasMaturity ? maturity : null,
+                        unscaled.length == 0 ? null : new BigDecimal(new BigInteger(unscaled), scale), readInstant(in)));
+            }
+            return new ReplicationMessage(ReplicationMessage.Type.values()[type], sender,
+                    target.isEmpty() ? null : target, clock, List.copyOf(rates));
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof IllegalArgumentException iae) {
+                throw iae;
+            }
+            throw new IllegalArgumentException("Malformed rate replication message", e);
+        }
+    }
+
+    private static byte[] mac(byte[] secret, byte[] data, int length) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, MAC_ALGORITHM));
+            mac.update(data, 0, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " unavailable", e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant == null ? -1 : instant.getEpochSecond());
+        out.writeInt(instant == null ? 0 : instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        return seconds == -1 ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+}
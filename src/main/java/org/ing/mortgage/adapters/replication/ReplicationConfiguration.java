@@ -0,0 +1,87 @@
+package org.ing.mortgage.adapters.replication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Replicates rates between instances when {@code mortgage.rates.replication.transport} is set:
+ * {@code loopback} connects the instances of one JVM, {@code udp} those listed in
+ * {@code mortgage.rates.replication.udp.peers} or, without peers, those that join the same multicast group.
+ * UDP messages are signed with {@code mortgage.rates.replication.secret}, which every node must share;
+ * with peers the node listens on {@code mortgage.rates.replication.udp.bind}, by default only loopback.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "mortgage.rates.replication.transport")
+public class ReplicationConfiguration {
+    private static final int MIN_SECRET_BYTES = 16;
+
+    @Bean(destroyMethod = "")
+    public ReplicationTransport replicationTransport(
+            @Value("${mortgage.rates.replication.transport}") String transport,
+            @Value("${mortgage.rates.replication.udp.port:4446}") int port,
+            @Value("${mortgage.rates.replication.udp.bind:127.0.0.1}") String bind,
+            @Value("${mortgage.rates.replication.secret:}") String secret,
+            @Value("${mortgage.rates.replication.udp.peers:}") List<String> peers,
+            @Value("${mortgage.rates.replication.udp.group:239.255.77.1}") String group,
+            @Value("${mortgage.rates.replication.udp.interface:lo}") String networkInterface) throws IOException {
+        return switch (transport) {
+            case "loopback" -> new LoopbackTransport(LoopbackTransport.Bus.DEFAULT);
+            case "udp" -> peers.isEmpty()
+                    ? UdpTransport.multicast(InetAddress.getByName(group), port, networkInterface(networkInterface), key(secret))
+                    : UdpTransport.peers(new InetSocketAddress(InetAddress.getByName(bind), port),
+                    peers.stream().map(ReplicationConfiguration::address).toList(), key(secret));
+            default -> throw new IllegalArgumentException("Unknown mortgage.rates.replication.transport=" + transport
+                    + ", expected loopback or udp");
+        };
+    }
+
+    private static byte[] key(String secret) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("mortgage.rates.replication.secret must be at least " + MIN_SECRET_BYTES
+                    + " bytes for the udp transport");
+        }
+        return key;
+    }
+
+    /** {@code host:port} */
+    private static InetSocketAddress address(String peer) {
+        int colon = peer.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Expected host:port in mortgage.rates.replication.udp.peers, got " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, colon).strip(), Integer.parseInt(peer.substring(colon + 1).strip()));
+    }
+
+    private static NetworkInterface networkInterface(String name) throws SocketException {
+        NetworkInterface networkInterface = NetworkInterface.getByName(name);
+        if (networkInterface == null) {
+            throw new IllegalArgumentException("No network interface " + name + " for mortgage.rates.replication.udp.interface");
+        }
+        return networkInterface;
+    }
+
+    @Bean
+    public RateReplicator rateReplicator(InterestRateRepository interestRateRepository,
+                                         ReplicationTransport replicationTransport,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${mortgage.rates.replication.nodeId:}") String nodeId,
+                                         @Value("${mortgage.rates.replication.heartbeat:1s}") Duration heartbeat) {
+        return new RateReplicator(interestRateRepository, replicationTransport, meterRegistry,
+                nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId, heartbeat);
+    }
+}
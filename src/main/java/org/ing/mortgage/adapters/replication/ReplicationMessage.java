@@ -0,0 +1,34 @@
+package org.ing.mortgage.adapters.replication;
+
+import org.ing.mortgage.domain.InterestRate;
+
+import java.util.List;
+
+/**
+ * What nodes exchange through a {@link ReplicationTransport}.
+ *
+ * @param sender the node that sent the message
+ * @param target for {@link Type#SYNC_REQUEST}, the node asked to answer, or {@code null} for every node
+ * @param clock  the publication the rates belong to; for a heartbeat, the latest one the sender has
+ * @param rates  the complete rates of {@code clock}; empty for heartbeats and sync requests
+ */
+public record ReplicationMessage(Type type, String sender, String target, ReplicationClock clock, List<InterestRate> rates) {
+    public enum Type {
+        /** A publication made on the sender. */
+        PUBLISH,
+        /** The sender's latest clock, sent periodically so lost publications are noticed. */
+        HEARTBEAT,
+        /** Asks for the current rates of {@code target}. */
+        SYNC_REQUEST,
+        /** Full current rates, in answer to a sync request. */
+        SYNC_RESPONSE
+    }
+
+    static ReplicationMessage heartbeat(String sender, ReplicationClock clock) {
+        return new ReplicationMessage(Type.HEARTBEAT, sender, null, clock, List.of());
+    }
+
+    static ReplicationMessage syncRequest(String sender, String target) {
+        return new ReplicationMessage(Type.SYNC_REQUEST, sender, target, ReplicationClock.BOOTSTRAP, List.of());
+    }
+}
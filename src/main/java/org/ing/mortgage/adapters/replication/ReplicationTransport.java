@@ -0,0 +1,20 @@
+package org.ing.mortgage.adapters.replication;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Broadcast channel between the nodes of a cluster. Delivery is best effort and unordered: messages
+ * may be lost or duplicated, and {@link RateReplicator} recovers through heartbeats and full syncs.
+ * A node may or may not receive its own messages.
+ */
+public interface ReplicationTransport extends AutoCloseable {
+    /** Starts delivering received messages to {@code receiver}, on a thread of the transport. */
+    void start(Consumer<ReplicationMessage> receiver) throws IOException;
+
+    /** Sends to every node; failures are logged, not thrown. */
+    void send(ReplicationMessage message);
+
+    @Override
+    void close();
+}
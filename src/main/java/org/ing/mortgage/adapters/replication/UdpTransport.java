@@ -0,0 +1,159 @@
+package org.ing.mortgage.adapters.replication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.InterfaceAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * UDP transport; each message is a single datagram (see {@link ReplicationCodec}). Either every node
+ * joins one multicast group ({@link #multicast}), which needs no configuration of peers but a network
+ * interface with multicast enabled, or every node sends to a fixed list of peers ({@link #peers}),
+ * which works on any machine, e.g. several instances on {@code 127.0.0.1} with their own ports.
+ * Datagrams can be lost; the replicator's heartbeats and full syncs make up for it.
+ * <p>
+ * A datagram is only accepted from a configured peer or, with multicast, from an address on the
+ * joined interface's networks, and only when it is signed with the shared secret; everything else is
+ * dropped before it reaches the replicator. The channel listens on the configured bind address, or
+ * the multicast group, rather than on every interface.
+ */
+public class UdpTransport implements ReplicationTransport {
+    private static final Logger log = LoggerFactory.getLogger(UdpTransport.class);
+    private static final int MAX_DATAGRAM = 65_507;
+
+    private final InetSocketAddress bind;
+    private final List<InetSocketAddress> destinations;
+    private final NetworkInterface multicastInterface;
+    private final byte[] secret;
+    private DatagramChannel channel;
+
+    private UdpTransport(InetSocketAddress bind, List<InetSocketAddress> destinations, NetworkInterface multicastInterface,
+                         byte[] secret) {
+        this.bind = bind;
+        this.destinations = destinations;
+        this.multicastInterface = multicastInterface;
+        this.secret = secret.clone();
+    }
+
+    /** Joins {@code group:port} on {@code networkInterface}; this node also receives its own messages. */
+    public static UdpTransport multicast(InetAddress group, int port, NetworkInterface networkInterface, byte[] secret) {
+        InetSocketAddress groupAddress = new InetSocketAddress(group, port);
+        return new UdpTransport(groupAddress, List.of(groupAddress), networkInterface, secret);
+    }
+
+    /** Receives on {@code bind} and sends every message to each of {@code peers}, the only accepted senders. */
+    public static UdpTransport peers(InetSocketAddress bind, List<InetSocketAddress> peers, byte[] secret) {
+        return new UdpTransport(bind, List.copyOf(peers), null, secret);
+    }
+
+    @Override
+    public void start(Consumer<ReplicationMessage> receiver) throws IOException {
+        InetAddress group = destinations.get(0).getAddress();
+        if (multicastInterface == null) {
+            channel = DatagramChannel.open().bind(bind);
+        } else {
+            channel = DatagramChannel.open(group instanceof Inet6Address ? StandardProtocolFamily.INET6 : StandardProtocolFamily.INET)
+                    .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_IF, multicastInterface)
+                    .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true)
+                    .bind(bind);
+            channel.join(group, multicastInterface);
+        }
+        Thread.ofPlatform().daemon().name("rate-replication-udp").start(() -> receive(receiver));
+        log.info("rates.replication.listening bind={} destinations={}", channel.getLocalAddress(), destinations);
+    }
+
+    private void receive(Consumer<ReplicationMessage> receiver) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_DATAGRAM);
+        while (channel.isOpen()) {
+            try {
+                buffer.clear();
+                SocketAddress source = channel.receive(buffer);
+                if (!accepts((InetSocketAddress) source)) {
+                    log.debug("rates.replication.receive.dropped source={}", source);
+                    continue;
+                }
+                receiver.accept(ReplicationCodec.decode(buffer.array(), buffer.position(), secret));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("rates.replication.receive.failed error={}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("rates.replication.apply.failed", e);
+            }
+        }
+    }
+
+    private boolean accepts(InetSocketAddress source) {
+        if (multicastInterface == null) {
+            return destinations.contains(source);
+        }
+        for (InterfaceAddress network : multicastInterface.getInterfaceAddresses()) {
+            if (sameNetwork(network.getAddress(), source.getAddress(), network.getNetworkPrefixLength())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameNetwork(InetAddress a, InetAddress b, int prefixLength) {
+        byte[] x = a.getAddress();
+        byte[] y = b.getAddress();
+        if (x.length != y.length) {
+            return false;
+        }
+        for (int bit = 0; bit < prefixLength; bit++) {
+            int mask = 0x80 >>> (bit % 8);
+            if ((x[bit / 8] & mask) != (y[bit / 8] & mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void send(ReplicationMessage message) {
+        byte[] datagram;
+        try {
+            datagram = ReplicationCodec.encode(message, secret);
+        } catch (IllegalArgumentException e) {
+            log.error("rates.replication.send.failed type={} error={}", message.type(), e.getMessage());
+            return;
+        }
+        if (datagram.length > MAX_DATAGRAM) {
+            log.error("rates.replication.send.failed type={} bytes={} error=too large for a datagram", message.type(), datagram.length);
+            return;
+        }
+        for (InetSocketAddress destination : destinations) {
+            try {
+                channel.send(ByteBuffer.wrap(datagram), destination);
+            } catch (IOException e) {
+                log.warn("rates.replication.send.failed type={} destination={} error={}", message.type(), destination, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("rates.replication.close.failed error={}", e.getMessage());
+        }
+    }
+}
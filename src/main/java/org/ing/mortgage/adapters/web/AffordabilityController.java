@@ -0,0 +1,34 @@
+package org.ing.mortgage.adapters.web;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.AffordabilityRequest;
+import org.ing.mortgage.adapters.web.dto.MaxLoanDto;
+import org.ing.mortgage.application.engine.AffordabilityCalculator;
+import org.ing.mortgage.config.RateLimited;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class AffordabilityController {
+    private final AffordabilityCalculator affordabilityCalculator;
+
+    @PostMapping("/mortgage-affordability")
+    @RateLimited
+    public ResponseEntity<List<MaxLoanDto>> mortgageAffordability(@Valid @RequestBody AffordabilityRequest request) {
+        List<MaxLoanDto> dto = affordabilityCalculator
+                .maxLoans(request.getIncome(), request.getMonthlyBudget(), request.getHomeValue()).stream()
+                .map(m -> new MaxLoanDto(m.maturityPeriod(), m.interestRate(), m.maxLoanValue(), m.monthlyCost(), m.limitedBy().name()))
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+}
@@ -0,0 +1,97 @@
+package org.ing.mortgage.adapters.web;
+
+import jakarta.validation.Valid;
+import org.ing.mortgage.adapters.web.dto.InterestRateDto;
+import org.ing.mortgage.adapters.web.dto.InterestRatePatchRequest;
+import org.ing.mortgage.adapters.web.dto.InterestRatesReplaceRequest;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Runtime rate administration. Every write is conditional: {@code If-Match} must carry the {@code ETag}
+ * of the rates it was based on (the publication {@link RateSnapshot#tag() tag}, as returned by
+ * {@code GET /api/interest-rates}), and a write based on any other publication, including one of another
+ * node or from before a restart, is answered with 412 and the current {@code ETag}. A write is
+ * published as one new snapshot through a compare-and-set, so readers are never blocked and every cache
+ * keyed by rate version sees the change. The response carries the new {@code ETag}.
+ * <p>
+ * Callers authenticate with {@code Authorization: Bearer <mortgage.admin.token>}; without a configured
+ * token, writes are refused.
+ */
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class InterestRateAdminController {
+    private static final String BEARER = "Bearer ";
+
+    private final InterestRateService interestRateService;
+    private final byte[] expectedAuthorization;
+
+    public InterestRateAdminController(InterestRateService interestRateService,
+                                       @Value("${mortgage.admin.token:}") String adminToken) {
+        this.interestRateService = interestRateService;
+        this.expectedAuthorization = adminToken.isBlank() ? null : (BEARER + adminToken).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PutMapping("/interest-rates")
+    public ResponseEntity<List<InterestRateDto>> replaceRates(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody InterestRatesReplaceRequest request) {
+        authorize(authorization);
+        List<Rate> rates = request.getRates().stream()
+                .map(r -> new Rate(r.getMaturityPeriod(), r.getInterestRate()))
+                .toList();
+        return published(interestRateService.replaceRates(expectedTag(ifMatch), rates));
+    }
+
+    @PatchMapping("/interest-rates/{maturity}")
+    public ResponseEntity<List<InterestRateDto>> updateRate(
+            @PathVariable(name = "maturity") int maturity,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody InterestRatePatchRequest request) {
+        authorize(authorization);
+        return published(interestRateService.updateRate(expectedTag(ifMatch), maturity, request.getInterestRate()));
+    }
+
+    private void authorize(String authorization) {
+        if (expectedAuthorization == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Rate administration is disabled");
+        }
+        if (authorization == null
+                || !MessageDigest.isEqual(expectedAuthorization, authorization.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing or invalid admin token");
+        }
+    }
+
+    /** Unquotes a single strong ETag such as {@code "12-9f2c..."}; weak tags, lists and {@code *} are refused. */
+    static String expectedTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED, "If-Match with the ETag of the current rates is required");
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"") && tag.indexOf('"', 1) == tag.length() - 1) {
+            return tag.substring(1, tag.length() - 1);
+        }
+        throw new IllegalArgumentException("If-Match must be the single ETag of the current rates");
+    }
+
+    private static ResponseEntity<List<InterestRateDto>> published(RateSnapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.tag())
+                .body(MortgageControllerSupport.toDtos(snapshot.rates()));
+    }
+}
@@ -0,0 +1,56 @@
+package org.ing.mortgage.adapters.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.config.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class MortgageBatchController {
+    private final MortgageBatchEngine mortgageBatchEngine;
+    private final MortgageCheckItems mortgageCheckItems;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Value("${mortgage.batch.maxItems:1000}")
+    private int maxItems;
+
+    /**
+     * Checks every request in the batch; invalid items are reported in place without failing the batch.
+     * The caller's rate limit is charged one permit per item, so a batch may hold at most the burst of
+     * the caller's tier, besides {@code mortgage.batch.maxItems}; a larger one is refused with 400 since
+     * waiting would never admit it. When the limit refuses, the 429 has been written and this returns
+     * {@code null}.
+     */
+    @PostMapping("/mortgage-check/batch")
+    public ResponseEntity<List<MortgageCheckBatchItem>> mortgageCheckBatch(@RequestBody List<MortgageCheckRequest> requests,
+                                                                           HttpServletRequest request,
+                                                                           HttpServletResponse response) throws IOException {
+        long limit = Math.min(maxItems, rateLimitInterceptor.maxPermits(request));
+        if (requests.isEmpty() || requests.size() > limit) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + limit + " items");
+        }
+        if (!rateLimitInterceptor.admit(request, response, requests.size())) {
+            return null;
+        }
+
+        List<String>[] violations = mortgageCheckItems.validateAll(requests);
+        var outcomes = mortgageBatchEngine.calculateAll(mortgageCheckItems.toInputs(requests, violations));
+        return ResponseEntity.ok(mortgageCheckItems.toItems(violations, outcomes));
+    }
+}
@@ -0,0 +1,197 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@value #MEDIA_TYPE} wire format: fixed-layout little-endian records for service-to-service
+ * callers that send mortgage checks in volume. Decimals travel as a 64-bit unscaled value and a scale
+ * of 0 to {@value #MAX_SCALE}, so every request field has exactly one encoding.
+ * <pre>
+ * request, {@value #REQUEST_BYTES} bytes       response, {@value #RESPONSE_BYTES} bytes
+ *  0 int64 income unscaled              0 int64 monthlyCost unscaled (0 when absent)
+ *  8 int64 loanValue unscaled           8 int8  monthlyCost scale
+ * 16 int64 homeValue unscaled           9 uint8 flags: 1 feasible, 2 monthlyCost present, 4 error
+ * 24 int64 asOf epoch seconds, {@code Long.MIN_VALUE} when absent
+ * 32 int32 asOf nanos, 0 when absent
+ * 36 int8  income scale
+ * 37 int8  loanValue scale
+ * 38 int8  homeValue scale
+ * 39 uint8 maturityPeriod
+ * </pre>
+ * A batch is its records back to back, without a header. A batch item with the error flag is followed by
+ * the error and its details: a uint16 byte length and UTF-8 text, a uint8 detail count, then each detail
+ * as length and text. Failures of the whole call (validation, rate limit) stay JSON {@code ApiError}s.
+ */
+final class MortgageCheckBinary {
+    static final String MEDIA_TYPE = "application/vnd.mortgage-check.v1";
+    static final int REQUEST_BYTES = 40;
+    static final int RESPONSE_BYTES = 10;
+    static final int MAX_SCALE = 18;
+
+    static final int FEASIBLE = 1;
+    static final int MONTHLY_COST = 2;
+    static final int ERROR = 4;
+
+    private static final long NO_AS_OF = Long.MIN_VALUE;
+    private static final int MAX_TEXT_BYTES = 0xFFFF;
+    private static final int MAX_DETAILS = 0xFF;
+
+    private MortgageCheckBinary() {
+    }
+
+    /** @throws IllegalArgumentException with the offset and reason when {@code in[0, length)} is not one request */
+    static MortgageCheckRequest readRequest(byte[] in, int length) {
+        if (length != REQUEST_BYTES) {
+            throw new IllegalArgumentException("Request body must be " + REQUEST_BYTES + " bytes, got " + length);
+        }
+        return read(buffer(in, length), 0);
+    }
+
+    /** @throws IllegalArgumentException with the offset and reason when {@code in[0, length)} is not a sequence of requests */
+    static List<MortgageCheckRequest> readRequests(byte[] in, int length) {
+        if (length % REQUEST_BYTES != 0) {
+            throw new IllegalArgumentException("Batch body must be a multiple of " + REQUEST_BYTES + " bytes, got " + length);
+        }
+        ByteBuffer buffer = buffer(in, length);
+        List<MortgageCheckRequest> requests = new ArrayList<>(length / REQUEST_BYTES);
+        for (int offset = 0; offset < length; offset += REQUEST_BYTES) {
+            requests.add(read(buffer, offset));
+        }
+        return requests;
+    }
+
+    private static ByteBuffer buffer(byte[] in, int length) {
+        return ByteBuffer.wrap(in, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static MortgageCheckRequest read(ByteBuffer in, int offset) {
+        MortgageCheckRequest request = new MortgageCheckRequest();
+        request.setIncome(decimal(in, offset, 0, 36));
+        request.setLoanValue(decimal(in, offset, 8, 37));
+        request.setHomeValue(decimal(in, offset, 16, 38));
+        request.setAsOf(instant(in, offset));
+        request.setMaturityPeriod(Byte.toUnsignedInt(in.get(offset + 39)));
+        return request;
+    }
+
+    private static BigDecimal decimal(ByteBuffer in, int offset, int valueAt, int scaleAt) {
+        int scale = in.get(offset + scaleAt);
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw malformed(offset + scaleAt, "scale " + scale + " is outside 0.." + MAX_SCALE);
+        }
+        return BigDecimal.valueOf(in.getLong(offset + valueAt), scale);
+    }
+
+    private static Instant instant(ByteBuffer in, int offset) {
+        long seconds = in.getLong(offset + 24);
+        int nanos = in.getInt(offset + 32);
+        if (seconds == NO_AS_OF) {
+            if (nanos != 0) {
+                throw malformed(offset + 32, "asOf nanos without asOf seconds");
+            }
+            return null;
+        }
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw malformed(offset + 32, "asOf nanos " + nanos + " is outside 0..999999999");
+        }
+        if (seconds < Instant.MIN.getEpochSecond() || seconds > Instant.MAX.getEpochSecond()) {
+            throw malformed(offset + 24, "asOf is out of range");
+        }
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    private static IllegalArgumentException malformed(int offset, String reason) {
+        return new IllegalArgumentException("Malformed binary body at offset " + offset + ": " + reason);
+    }
+
+    static byte[] writeResponse(MortgageCheckResponse response) {
+        ByteBuffer out = ByteBuffer.allocate(RESPONSE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        writeResult(out, response.feasible(), response.monthlyCost(), 0);
+        return out.array();
+    }
+
+    static byte[] writeItems(List<MortgageCheckBatchItem> items) {
+        int size = 0;
+        for (MortgageCheckBatchItem item : items) {
+            size += RESPONSE_BYTES + (item.error() == null ? 0 : errorBytes(item));
+        }
+        ByteBuffer out = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        for (MortgageCheckBatchItem item : items) {
+            if (item.error() == null) {
+                writeResult(out, item.feasible(), item.monthlyCost(), 0);
+            } else {
+                writeResult(out, null, null, ERROR);
+                writeText(out, item.error());
+                List<String> details = item.details() == null ? List.of() : item.details();
+                int count = Math.min(details.size(), MAX_DETAILS);
+                out.put((byte) count);
+                for (int i = 0; i < count; i++) {
+                    writeText(out, details.get(i));
+                }
+            }
+        }
+        return out.array();
+    }
+
+    private static void writeResult(ByteBuffer out, Boolean feasible, BigDecimal monthlyCost, int flags) {
+        if (Boolean.TRUE.equals(feasible)) {
+            flags |= FEASIBLE;
+        }
+        if (monthlyCost == null) {
+            out.putLong(0).put((byte) 0);
+        } else {
+            if (monthlyCost.scale() < 0) {
+                monthlyCost = monthlyCost.setScale(0);
+            }
+            if (monthlyCost.scale() > MAX_SCALE) {
+                throw new IllegalStateException("monthlyCost scale " + monthlyCost.scale() + " exceeds " + MAX_SCALE);
+            }
+            out.putLong(monthlyCost.unscaledValue().longValueExact()).put((byte) monthlyCost.scale());
+            flags |= MONTHLY_COST;
+        }
+        out.put((byte) flags);
+    }
+
+    private static int errorBytes(MortgageCheckBatchItem item) {
+        int size = textBytes(item.error()) + 1;
+        if (item.details() != null) {
+            for (int i = 0; i < Math.min(item.details().size(), MAX_DETAILS); i++) {
+                size += textBytes(item.details().get(i));
+            }
+        }
+        return size;
+    }
+
+    private static int textBytes(String text) {
+        return 2 + utf8(text).length;
+    }
+
+    private static void writeText(ByteBuffer out, String text) {
+        byte[] bytes = utf8(text);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    /** Texts longer than the uint16 length allows are cut after the last whole character that fits. */
+    private static byte[] utf8(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_TEXT_BYTES) {
+            return bytes;
+        }
+        int length = MAX_TEXT_BYTES;
+        while ((bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+}
@@ -0,0 +1,29 @@
+package org.ing.mortgage.adapters.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds {@link MortgageCheckBinaryConverter} after all other converters rather than as a converter bean,
+ * which Spring Boot would put first: a client accepting any media type then still gets JSON, and only
+ * one that asks for {@value MortgageCheckBinary#MEDIA_TYPE} gets the binary format.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "mortgage.codec.binary.enabled", havingValue = "true", matchIfMissing = true)
+class MortgageCheckBinaryConfiguration implements WebMvcConfigurer {
+
+    @Value("${mortgage.batch.maxItems:1000}")
+    private int maxItems;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MortgageCheckBinaryConverter(maxItems));
+    }
+}
@@ -0,0 +1,90 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads and writes the bodies of {@code POST /api/mortgage-check} and {@code POST /api/mortgage-check/batch}
+ * in the {@link MortgageCheckBinary} format. The generic signatures are checked, so no other endpoint
+ * taking or returning a list is affected. A batch body is read up to one record past
+ * {@code mortgage.batch.maxItems}, enough for the controller to reject it.
+ */
+class MortgageCheckBinaryConverter extends AbstractGenericHttpMessageConverter<Object> {
+    static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MortgageCheckBinary.MEDIA_TYPE);
+
+    private final int maxBatchBytes;
+
+    MortgageCheckBinaryConverter(int maxItems) {
+        super(MEDIA_TYPE);
+        this.maxBatchBytes = (maxItems + 1) * MortgageCheckBinary.REQUEST_BYTES;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == MortgageCheckRequest.class || clazz == MortgageCheckResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (type == MortgageCheckRequest.class || isListOf(type, MortgageCheckRequest.class)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (clazz == MortgageCheckResponse.class || isListOf(type, MortgageCheckBatchItem.class)) && canWrite(mediaType);
+    }
+
+    /** Asked only once {@code canRead} or {@code canWrite} passed, which the raw class of a list would not. */
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return getSupportedMediaTypes();
+    }
+
+    private static boolean isListOf(Type type, Class<?> element) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        return resolved.resolve() == List.class && resolved.getGeneric(0).resolve() == element;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        boolean batch = type != MortgageCheckRequest.class;
+        byte[] body = inputMessage.getBody().readNBytes(batch ? maxBatchBytes : MortgageCheckBinary.REQUEST_BYTES + 1);
+        try {
+            return batch ? MortgageCheckBinary.readRequests(body, body.length) : MortgageCheckBinary.readRequest(body, body.length);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = body instanceof MortgageCheckResponse response
+                    ? MortgageCheckBinary.writeResponse(response)
+                    : MortgageCheckBinary.writeItems((List<MortgageCheckBatchItem>) body);
+        } catch (ArithmeticException | IllegalStateException e) {
+            throw new HttpMessageNotWritableException("Result does not fit " + MortgageCheckBinary.MEDIA_TYPE, e);
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package org.ing.mortgage.adapters.web;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.domain.MortgageInput;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Request-to-result plumbing shared by the multi-item endpoints, where each item is validated
+ * and reported on its own instead of failing the whole call.
+ */
+@RequiredArgsConstructor
+@Component
+class MortgageCheckItems {
+    private final Validator validator;
+
+    /** Validates the requests in parallel; an empty list means the request at that index is valid. */
+    @SuppressWarnings("unchecked")
+    List<String>[] validateAll(List<MortgageCheckRequest> requests) {
+        List<String>[] violations = new List[requests.size()];
+        IntStream.range(0, requests.size()).parallel().forEach(i -> violations[i] = validate(requests.get(i)));
+        return violations;
+    }
+
+    List<String> validate(MortgageCheckRequest request) {
+        if (request == null) {
+            return List.of("request: must not be null");
+        }
+        var violations = validator.validate(request).stream().map(MortgageCheckItems::describe);
+        if (request.getAsOf() != null) {
+            violations = Stream.concat(violations, Stream.of("asOf: only supported on /api/mortgage-check"));
+        }
+        return violations.toList();
+    }
+
+    /** Inputs for the valid requests, {@code null} at the index of an invalid one. */
+    List<MortgageInput> toInputs(List<MortgageCheckRequest> requests, List<String>[] violations) {
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> violations[i].isEmpty() ? toInput(requests.get(i)) : null)
+                .toList();
+    }
+
+    List<MortgageCheckBatchItem> toItems(List<String>[] violations, List<MortgageBatchEngine.Outcome> outcomes) {
+        return IntStream.range(0, violations.length)
+                .mapToObj(i -> toItem(violations[i], outcomes.get(i)))
+                .toList();
+    }
+
+    static MortgageCheckBatchItem toItem(List<String> violations, MortgageBatchEngine.Outcome outcome) {
+        if (!violations.isEmpty()) {
+            return new MortgageCheckBatchItem(null, null, "Validation failed", violations);
+        }
+        if (outcome.error() != null) {
+            return new MortgageCheckBatchItem(null, null, outcome.error(), null);
+        }
+        return new MortgageCheckBatchItem(outcome.result().feasible(), outcome.result().monthlyCost(), null, null);
+    }
+
+    static MortgageInput toInput(MortgageCheckRequest request) {
+        return MortgageInput.builder()
+                .income(request.getIncome())
+                .maturityPeriod(request.getMaturityPeriod())
+                .loanValue(request.getLoanValue())
+                .homeValue(request.getHomeValue()).build();
+    }
+
+    private static String describe(ConstraintViolation<MortgageCheckRequest> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+}
@@ -0,0 +1,316 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Reads {@link MortgageCheckRequest} and writes {@link MortgageCheckResponse} as JSON straight from and
+ * to bytes, without a token stream, a tree or reflection. The reader accepts exactly the request
+ * object: the five known fields in any order, each at most once, numbers or {@code null}, an ISO-8601
+ * string or {@code null} for {@code asOf}, and nothing after the object. It rejects everything else,
+ * including string escapes, non-integral maturities and decimals with more than
+ * {@value #MAX_INTEGER_DIGITS} integer digits or {@value #MAX_SCALE} fraction digits. Where Jackson
+ * would accept such input leniently (coercion, unknown fields, duplicates), this reader is stricter;
+ * whatever it accepts, Jackson reads to an equal request.
+ */
+final class MortgageCheckJson {
+    static final int MAX_DOCUMENT_BYTES = 4096;
+    static final int MAX_INTEGER_DIGITS = 18;
+    static final int MAX_SCALE = 18;
+    private static final int MAX_NUMBER_LENGTH = 64;
+    private static final int MAX_INSTANT_LENGTH = 40;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final int INCOME = 0;
+    private static final int MATURITY_PERIOD = 1;
+    private static final int LOAN_VALUE = 2;
+    private static final int HOME_VALUE = 3;
+    private static final int AS_OF = 4;
+    private static final String[] FIELDS = {"income", "maturityPeriod", "loanValue", "homeValue", "asOf"};
+    private static final byte[][] FIELD_BYTES = new byte[FIELDS.length][];
+
+    static {
+        for (int i = 0; i < FIELDS.length; i++) {
+            FIELD_BYTES[i] = FIELDS[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final byte[] FEASIBLE = "{\"feasible\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MONTHLY_COST = ",\"monthlyCost\":".getBytes(StandardCharsets.US_ASCII);
+
+    private MortgageCheckJson() {
+    }
+
+    /** @throws IllegalArgumentException with the offset and reason when {@code in[0, length)} is not a valid request */
+    static MortgageCheckRequest readRequest(byte[] in, int length) {
+        if (length > MAX_DOCUMENT_BYTES) {
+            throw new IllegalArgumentException("Request body exceeds " + MAX_DOCUMENT_BYTES + " bytes");
+        }
+        return new Reader(in, length).request();
+    }
+
+    /** The bytes Jackson writes for {@code response}: fields in declaration order, nulls included. */
+    static byte[] writeResponse(MortgageCheckResponse response) {
+        String feasible = String.valueOf(response.feasible());
+        String monthlyCost = String.valueOf(response.monthlyCost());
+        byte[] out = new byte[FEASIBLE.length + feasible.length() + MONTHLY_COST.length + monthlyCost.length() + 1];
+        int position = copy(FEASIBLE, out, 0);
+        position = copy(feasible, out, position);
+        position = copy(MONTHLY_COST, out, position);
+        position = copy(monthlyCost, out, position);
+        out[position] = '}';
+        return out;
+    }
+
+    private static int copy(byte[] from, byte[] to, int position) {
+        System.arraycopy(from, 0, to, position, from.length);
+        return position + from.length;
+    }
+
+    private static int copy(String ascii, byte[] to, int position) {
+        for (int i = 0; i < ascii.length(); i++) {
+            to[position++] = (byte) ascii.charAt(i);
+        }
+        return position;
+    }
+
+    private static final class Reader {
+        private final byte[] in;
+        private final int end;
+        private int position;
+
+        Reader(byte[] in, int end) {
+            this.in = in;
+            this.end = end;
+        }
+
+        MortgageCheckRequest request() {
+            MortgageCheckRequest request = new MortgageCheckRequest();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (!consume('}')) {
+                int seen = 0;
+                do {
+                    skipWhitespace();
+                    int fieldStart = position;
+                    int field = field();
+                    if ((seen & 1 << field) != 0) {
+                        throw malformed(fieldStart, "duplicate field '" + FIELDS[field] + "'");
+                    }
+                    seen |= 1 << field;
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    switch (field) {
+                        case INCOME -> request.setIncome(decimal());
+                        case MATURITY_PERIOD -> request.setMaturityPeriod(integer());
+                        case LOAN_VALUE -> request.setLoanValue(decimal());
+                        case HOME_VALUE -> request.setHomeValue(decimal());
+                        default -> request.setAsOf(instant());
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+                expect('}');
+            }
+            skipWhitespace();
+            if (position != end) {
+                throw malformed("unexpected content after the request object");
+            }
+            return request;
+        }
+
+        /** Index of the quoted field name at the current position. */
+        private int field() {
+            int start = quoted();
+            int length = position - 1 - start;
+            for (int i = 0; i < FIELD_BYTES.length; i++) {
+                byte[] name = FIELD_BYTES[i];
+                if (name.length == length && Arrays.equals(in, start, start + length, name, 0, length)) {
+                    return i;
+                }
+            }
+            throw malformed(start - 1, "unknown field '" + new String(in, start, Math.min(length, 32), StandardCharsets.US_ASCII) + "'");
+        }
+
+        /** Skips a string of printable ASCII without escapes and returns the offset of its first character. */
+        private int quoted() {
+            expect('"');
+            int start = position;
+            while (true) {
+                if (position == end) {
+                    throw malformed("unterminated string");
+                }
+                byte b = in[position++];
+                if (b == '"') {
+                    return start;
+                }
+                if (b < 0x20 || b == '\\' || b == 0x7f) {
+                    position--;
+                    throw malformed("unsupported character in string");
+                }
+            }
+        }
+
+        private BigDecimal decimal() {
+            if (consumeNull()) {
+                return null;
+            }
+            int start = position;
+            boolean negative = consume('-');
+            long unscaled = 0;
+            int digits = 0;
+            int integerStart = position;
+            scanDigits();
+            int integerDigits = position - integerStart;
+            if (integerDigits == 0 || integerDigits > 1 && in[integerStart] == '0') {
+                throw malformed(start, "invalid number");
+            }
+            for (int i = integerStart; i < position; i++) {
+                if (digits > 0 || in[i] != '0') {
+                    digits++;
+                }
+                unscaled = digits <= MAX_LONG_DIGITS ? unscaled * 10 + (in[i] - '0') : unscaled;
+            }
+            int fractionDigits = 0;
+            if (consume('.')) {
+                int fractionStart = position;
+                scanDigits();
+                fractionDigits = position - fractionStart;
+                if (fractionDigits == 0) {
+                    throw malformed(start, "invalid number");
+                }
+                for (int i = fractionStart; i < position; i++) {
+                    if (digits > 0 || in[i] != '0') {
+                        digits++;
+                    }
+                    unscaled = digits <= MAX_LONG_DIGITS ? unscaled * 10 + (in[i] - '0') : unscaled;
+                }
+            }
+            long exponent = 0;
+            if (consume('e') || consume('E')) {
+                boolean negativeExponent = !consume('+') && consume('-');
+                int exponentStart = position;
+                scanDigits();
+                if (position == exponentStart) {
+                    throw malformed(start, "invalid number");
+                }
+                if (position - exponentStart > 9) {
+                    throw malformed(start, "number out of range");
+                }
+                for (int i = exponentStart; i < position; i++) {
+                    exponent = exponent * 10 + (in[i] - '0');
+                }
+                exponent = negativeExponent ? -exponent : exponent;
+            }
+            if (position - start > MAX_NUMBER_LENGTH) {
+                throw malformed(start, "number out of range");
+            }
+            BigDecimal value;
+            long scale = fractionDigits - exponent;
+            if (digits <= MAX_LONG_DIGITS) {
+                value = BigDecimal.valueOf(negative ? -unscaled : unscaled, (int) scale);
+            } else {
+                value = new BigDecimal(new String(in, start, position - start, StandardCharsets.US_ASCII));
+            }
+            if (value.scale() > MAX_SCALE || value.precision() - value.scale() > MAX_INTEGER_DIGITS) {
+                throw malformed(start, "number out of range");
+            }
+            return value;
+        }
+
+        private Integer integer() {
+            if (consumeNull()) {
+                return null;
+            }
+            int start = position;
+            boolean negative = consume('-');
+            int digitsStart = position;
+            scanDigits();
+            int digits = position - digitsStart;
+            if (digits == 0 || digits > 1 && in[digitsStart] == '0') {
+                throw malformed(start, "invalid number");
+            }
+            if (position < end && (in[position] == '.' || in[position] == 'e' || in[position] == 'E')) {
+                throw malformed(start, "maturityPeriod must be an integer");
+            }
+            if (digits > 10) {
+                throw malformed(start, "number out of range");
+            }
+            long value = 0;
+            for (int i = digitsStart; i < position; i++) {
+                value = value * 10 + (in[i] - '0');
+            }
+            value = negative ? -value : value;
+            if (value != (int) value) {
+                throw malformed(start, "number out of range");
+            }
+            return (int) value;
+        }
+
+        private Instant instant() {
+            if (consumeNull()) {
+                return null;
+            }
+            int start = quoted();
+            int length = position - 1 - start;
+            if (length > MAX_INSTANT_LENGTH) {
+                throw malformed(start, "invalid asOf, expected an ISO-8601 instant");
+            }
+            try {
+                return Instant.parse(new String(in, start, length, StandardCharsets.US_ASCII));
+            } catch (DateTimeParseException e) {
+                throw malformed(start, "invalid asOf, expected an ISO-8601 instant");
+            }
+        }
+
+        private void scanDigits() {
+            while (position < end && in[position] >= '0' && in[position] <= '9') {
+                position++;
+            }
+        }
+
+        private boolean consumeNull() {
+            if (end - position >= 4 && in[position] == 'n' && in[position + 1] == 'u'
+                    && in[position + 2] == 'l' && in[position + 3] == 'l') {
+                position += 4;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < end && (in[position] == ' ' || in[position] == '\n' || in[position] == '\r' || in[position] == '\t')) {
+                position++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (position < end && in[position] == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw malformed(position == end ? "unexpected end of input" : "expected '" + expected + "'");
+            }
+        }
+
+        private IllegalArgumentException malformed(String reason) {
+            return malformed(position, reason);
+        }
+
+        private static IllegalArgumentException malformed(int offset, String reason) {
+            return new IllegalArgumentException("Malformed JSON at offset " + offset + ": " + reason);
+        }
+    }
+}
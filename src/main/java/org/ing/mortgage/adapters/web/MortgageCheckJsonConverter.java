@@ -0,0 +1,68 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads {@link MortgageCheckRequest} and writes {@link MortgageCheckResponse} with {@link MortgageCheckJson}
+ * instead of Jackson, for the media types in {@code mortgage.codec.json.mediaTypes}. Spring Boot puts
+ * converter beans ahead of its defaults, so Jackson still handles every other type, other media types
+ * and bodies in a charset other than UTF-8.
+ */
+@Component
+@ConditionalOnProperty(name = "mortgage.codec.json.enabled", havingValue = "true", matchIfMissing = true)
+class MortgageCheckJsonConverter extends AbstractHttpMessageConverter<Object> {
+
+    MortgageCheckJsonConverter(@Value("${mortgage.codec.json.mediaTypes:application/json}") String mediaTypes) {
+        super(StandardCharsets.UTF_8, MediaType.parseMediaTypes(mediaTypes).toArray(MediaType[]::new));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == MortgageCheckRequest.class || clazz == MortgageCheckResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == MortgageCheckRequest.class && canRead(mediaType) && isUtf8(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == MortgageCheckResponse.class && canWrite(mediaType) && isUtf8(mediaType);
+    }
+
+    private static boolean isUtf8(MediaType mediaType) {
+        Charset charset = mediaType == null ? null : mediaType.getCharset();
+        return charset == null || charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] body = inputMessage.getBody().readNBytes(MortgageCheckJson.MAX_DOCUMENT_BYTES + 1);
+        try {
+            return MortgageCheckJson.readRequest(body, body.length);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object response, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = MortgageCheckJson.writeResponse((MortgageCheckResponse) response);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
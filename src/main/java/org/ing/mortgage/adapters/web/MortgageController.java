@@ -1,57 +1,39 @@
 package org.ing.mortgage.adapters.web;
 
-import io.github.resilience4j.ratelimiter.RequestNotPermitted;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.ing.mortgage.adapters.web.dto.InterestRateDto;
 import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
 import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
-import org.ing.mortgage.application.engine.MortgageEngine;
-import org.ing.mortgage.application.service.InterestRateService;
-import org.ing.mortgage.domain.MortgageInput;
-import org.ing.mortgage.domain.MortgageResult;
-import org.springframework.http.HttpStatus;
+import org.ing.mortgage.config.RateLimited;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Comparator;
-import java.util.List;
+import java.time.Instant;
 
 @RequiredArgsConstructor
 @RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 public class MortgageController {
-    private final InterestRateService interestRateService;
-    private final MortgageEngine mortgageEngine;
+    private final MortgageControllerSupport support;
 
+    /**
+     * The current rates are served from bytes serialized once per publication, see
+     * {@link MortgageControllerSupport#currentRates}; historic rates ({@code asOf}) per request.
+     */
     @GetMapping("/interest-rates")
-    @RateLimiter(name = "apiRateLimiter", fallbackMethod = "rateLimitFallback")
-    public ResponseEntity<List<InterestRateDto>> getInterestRates(){
-        List<InterestRateDto> dto = interestRateService.getAllRates().stream()
-                .filter(interestRate -> interestRate.maturityPeriod() != null)
-                .map(r -> new InterestRateDto(r.maturityPeriod(), r.interestRate(), r.lastUpdate()))
-                .sorted(Comparator.comparingInt(InterestRateDto::maturityPeriod))
-                .toList();
-        return ResponseEntity.ok(dto);
-    }
-
-    public ResponseEntity rateLimitFallback(RequestNotPermitted ex) {
-        throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests");
+    @RateLimited
+    public ResponseEntity<?> getInterestRates(@RequestParam(name = "asOf", required = false) Instant asOf,
+                                              @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        return asOf != null ? support.ratesAsOf(asOf) : support.currentRates(ifNoneMatch, acceptEncoding);
     }
 
     @PostMapping("/mortgage-check")
-    @RateLimiter(name = "apiRateLimiter", fallbackMethod = "rateLimitFallback")
+    @RateLimited
     public ResponseEntity<MortgageCheckResponse> mortgageCheck(@Valid @RequestBody MortgageCheckRequest request){
-        MortgageInput mortgageInput = MortgageInput.builder()
-                .income(request.getIncome())
-                .maturityPeriod(request.getMaturityPeriod())
-                .loanValue(request.getLoanValue())
-                .homeValue(request.getHomeValue()).build();
-        MortgageResult result = mortgageEngine.calculateMortgageCost(mortgageInput);
-        return ResponseEntity.ok(new MortgageCheckResponse(result.feasible(), result.monthlyCost()));
+        return ResponseEntity.ok(support.mortgageCheck(request));
     }
 }
-
-
@@ -0,0 +1,105 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.InterestRateDto;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.MortgageEngine;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageResult;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Request handling shared by {@link MortgageController} and its reactive counterpart, so both stacks
+ * serve the same rate bytes, {@code ETag}s and mortgage checks; the controllers only add their stack's
+ * threading and rate limiting.
+ */
+@RequiredArgsConstructor
+@ConditionalOnWebApplication
+@Component
+public class MortgageControllerSupport {
+    private final InterestRateService interestRateService;
+    private final MortgageEngine mortgageEngine;
+    private final AnnuityFactorTable annuityFactorTable;
+    private final ObjectMapper objectMapper;
+
+    private volatile SerializedRates serializedRates;
+    private String ratesCacheControl = CacheControl.noCache().getHeaderValue();
+
+    @Value("${mortgage.rates.http.maxAge:0s}")
+    void setRatesMaxAge(Duration maxAge) {
+        ratesCacheControl = (maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge).mustRevalidate())
+                .cachePublic().getHeaderValue();
+    }
+
+    /**
+     * The current rates, from bytes serialized once per publication (plain and gzip) with the strong
+     * {@code ETag} of the publication; a matching {@code If-None-Match} gets 304 without a body.
+     */
+    public ResponseEntity<?> currentRates(String ifNoneMatch, String acceptEncoding) {
+        SerializedRates rates = serialized(interestRateService.getSnapshot());
+        if (rates.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(rates.eTag())
+                    .header(HttpHeaders.CACHE_CONTROL, ratesCacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        var response = ResponseEntity.ok()
+                .eTag(rates.eTag())
+                .header(HttpHeaders.CACHE_CONTROL, ratesCacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (SerializedRates.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rates.gzip());
+        }
+        return response.body(rates.json());
+    }
+
+    /** Historic rates are rare and serialized per request. */
+    public ResponseEntity<List<InterestRateDto>> ratesAsOf(Instant asOf) {
+        return ResponseEntity.ok(toDtos(interestRateService.getAllRates(asOf)));
+    }
+
+    public MortgageCheckResponse mortgageCheck(MortgageCheckRequest request) {
+        MortgageResult result = request.getAsOf() == null
+                ? mortgageEngine.calculateMortgageCost(MortgageCheckItems.toInput(request))
+                : mortgageEngine.calculateMortgageCost(MortgageCheckItems.toInput(request),
+                        annuityFactorTable.snapshotOf(interestRateService.getSnapshotAsOf(request.getAsOf())));
+        return new MortgageCheckResponse(result.feasible(), result.monthlyCost());
+    }
+
+    /** Serializes a publication the first time it is requested; snapshots are immutable, so identity is the key. */
+    private SerializedRates serialized(RateSnapshot snapshot) {
+        SerializedRates rates = serializedRates;
+        if (rates == null || rates.snapshot() != snapshot) {
+            rates = SerializedRates.of(snapshot, toDtos(snapshot.rates()), objectMapper);
+            serializedRates = rates;
+        }
+        return rates;
+    }
+
+    static List<InterestRateDto> toDtos(List<InterestRate> rates) {
+        return rates.stream()
+                .filter(interestRate -> interestRate.maturityPeriod() != null)
+                .map(r -> new InterestRateDto(r.maturityPeriod(), r.interestRate(), r.lastUpdate()))
+                .sorted(Comparator.comparingInt(InterestRateDto::maturityPeriod))
+                .toList();
+    }
+}
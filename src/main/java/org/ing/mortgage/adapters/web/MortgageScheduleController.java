@@ -0,0 +1,71 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.MortgageScheduleRequest;
+import org.ing.mortgage.application.engine.AmortizationCalculator;
+import org.ing.mortgage.application.engine.AmortizationSchedule;
+import org.ing.mortgage.config.RateLimited;
+import org.ing.mortgage.domain.AmortizationRow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Month-by-month amortization schedule, written to the response as a JSON array while the rows are
+ * computed. {@code fromMonth}/{@code toMonth} select a slice; each row is computed independently, so a
+ * slice costs time proportional to its length. Parameters are checked before anything is written, so
+ * errors are still reported with the usual status and body.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class MortgageScheduleController {
+    private final AmortizationCalculator amortizationCalculator;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/mortgage-schedule")
+    @RateLimited
+    public void getMortgageSchedule(@Valid @ModelAttribute MortgageScheduleRequest request,
+                                    HttpServletResponse response) throws IOException {
+        writeSchedule(request, response);
+    }
+
+    @PostMapping(value = "/mortgage-schedule", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited
+    public void postMortgageSchedule(@Valid @RequestBody MortgageScheduleRequest request,
+                                     HttpServletResponse response) throws IOException {
+        writeSchedule(request, response);
+    }
+
+    private void writeSchedule(MortgageScheduleRequest request, HttpServletResponse response) throws IOException {
+        AmortizationSchedule schedule = amortizationCalculator.schedule(request.getLoanValue(), request.getMaturityPeriod());
+        int fromMonth = request.getFromMonth() == null ? 1 : request.getFromMonth();
+        int toMonth = request.getToMonth() == null ? schedule.months() : request.getToMonth();
+        Stream<AmortizationRow> rows = schedule.rows(fromMonth, toMonth);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator out = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            out.writeStartArray();
+            for (Iterator<AmortizationRow> it = rows.iterator(); it.hasNext(); ) {
+                AmortizationRow row = it.next();
+                out.writeStartObject();
+                out.writeNumberField("month", row.month());
+                out.writeNumberField("payment", row.payment());
+                out.writeNumberField("interest", row.interest());
+                out.writeNumberField("principal", row.principal());
+                out.writeNumberField("remainingBalance", row.remainingBalance());
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+        }
+    }
+}
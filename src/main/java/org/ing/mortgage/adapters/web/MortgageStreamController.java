@@ -0,0 +1,132 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.config.RateLimited;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores newline-delimited mortgage checks as they arrive.
+ * <p>
+ * Records are read, evaluated and written in chunks of {@code mortgage.stream.chunkSize}, so memory
+ * stays bounded by one chunk. Reading and writing use blocking servlet I/O on the request thread:
+ * when the client reads slowly the write blocks and no further input is consumed.
+ */
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class MortgageStreamController {
+    private static final Logger log = LoggerFactory.getLogger(MortgageStreamController.class);
+
+    private final MortgageBatchEngine mortgageBatchEngine;
+    private final MortgageCheckItems mortgageCheckItems;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
+    private final Counter rows;
+    private final DistributionSummary throughput;
+
+    @Value("${mortgage.stream.chunkSize:512}")
+    private int chunkSize;
+
+    public MortgageStreamController(MortgageBatchEngine mortgageBatchEngine,
+                                    MortgageCheckItems mortgageCheckItems,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.mortgageBatchEngine = mortgageBatchEngine;
+        this.mortgageCheckItems = mortgageCheckItems;
+        this.objectMapper = objectMapper;
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.rows = Counter.builder("mortgage.stream.rows")
+                .description("Records scored through the streaming endpoint")
+                .register(meterRegistry);
+        this.throughput = DistributionSummary.builder("mortgage.stream.throughput")
+                .description("Rows per second of each completed stream")
+                .baseUnit("rows.per.second")
+                .register(meterRegistry);
+    }
+
+    @PostMapping(value = "/mortgage-check/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @RateLimited
+    public void mortgageCheckStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        var rates = mortgageBatchEngine.snapshot();
+        long start = System.nanoTime();
+        long count = 0;
+        List<MortgageCheckRequest> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<MortgageCheckRequest> records = objectMapper.readerFor(MortgageCheckRequest.class)
+                .readValues(request.getInputStream());
+             JsonGenerator out = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            out.setRootValueSeparator(new SerializedString("\n"));
+            while (true) {
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    chunk.add(records.nextValue());
+                } catch (JsonProcessingException ex) {
+                    log.warn("Stream stopped at malformed record after {} records: {}", count + chunk.size(), ex.getOriginalMessage());
+                    count += writeChunk(chunk, rates, out);
+                    itemWriter.writeValue(out, new MortgageCheckBatchItem(null, null, "Malformed record: " + ex.getOriginalMessage(), null));
+                    break;
+                }
+                if (chunk.size() == chunkSize) {
+                    count += writeChunk(chunk, rates, out);
+                }
+            }
+            count += writeChunk(chunk, rates, out);
+            if (out.getOutputContext().getEntryCount() > 0) {
+                out.writeRaw('\n');
+            }
+        } finally {
+            record(count, System.nanoTime() - start);
+        }
+    }
+
+    private int writeChunk(List<MortgageCheckRequest> chunk, AnnuityFactorTable.Snapshot rates, JsonGenerator out) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<String>[] violations = mortgageCheckItems.validateAll(chunk);
+        var outcomes = mortgageBatchEngine.calculateAll(mortgageCheckItems.toInputs(chunk, violations), rates);
+        for (var item : mortgageCheckItems.toItems(violations, outcomes)) {
+            itemWriter.writeValue(out, item);
+        }
+        out.flush();
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    private void record(long count, long elapsedNanos) {
+        rows.increment(count);
+        if (count > 0 && elapsedNanos > 0) {
+            throughput.record(count * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.ing.mortgage.adapters.web;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.adapters.web.dto.RateGridRequest;
+import org.ing.mortgage.adapters.web.dto.RateGridResponse;
+import org.ing.mortgage.application.engine.RateGridCalculator;
+import org.ing.mortgage.domain.RateGrid;
+import org.ing.mortgage.config.RateLimited;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class RateGridController {
+    private final RateGridCalculator rateGridCalculator;
+
+    @GetMapping("/mortgage-rate-grid")
+    @RateLimited
+    public ResponseEntity<RateGridResponse> getRateGrid(@Valid @ModelAttribute RateGridRequest request) {
+        RateGrid grid = rateGridCalculator.grid(request.getMaxShiftBasisPoints(), request.getStepBasisPoints(), request.getLoanValues());
+        return ResponseEntity.ok(new RateGridResponse(grid.rateVersion(), grid.loanValues(), grid.rows().stream()
+                .map(r -> new RateGridResponse.Row(r.maturityPeriod(), r.shiftBasisPoints(), r.interestRate(), r.monthlyCosts()))
+                .toList()));
+    }
+}
@@ -0,0 +1,327 @@
+package org.ing.mortgage.adapters.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ing.mortgage.adapters.web.dto.InterestRateDto;
+import org.ing.mortgage.adapters.web.dto.RateDeltaEvent;
+import org.ing.mortgage.adapters.web.dto.RateSnapshotEvent;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans rate publications out to the {@code /api/interest-rates/stream} subscribers.
+ * <p>
+ * Connections are async {@link SseEmitter}s and hold no thread while idle. Connects, publications and
+ * heartbeats run on one broadcaster thread, which only puts their events on each connection's queue of
+ * at most {@code mortgage.rates.stream.queue} events; so every subscriber sees its initial state
+ * followed by each later delta exactly once, in version order. A sender thread drains a queue while it
+ * holds events, so a client whose socket buffer is full stalls only its own connection until the write
+ * times out, neither the publisher nor the other clients. A client that falls a whole queue behind is
+ * disconnected and resumes with {@code Last-Event-ID}.
+ * <p>
+ * Every event carries {@code <version>@<publishedAt>} as its id: versions count the publications of one
+ * rate store, so after a restart, or from another node with a store of its own, the same version can
+ * stand for other rates, whereas the publication instant tells them apart. A reconnect with
+ * {@code Last-Event-ID} is answered with nothing when the id is the current one, with the deltas since
+ * it while they are among the last {@code mortgage.rates.stream.replay} publications, and with a full
+ * snapshot for any other id. A send that fails
+ * (client gone) drops the subscriber.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class RateStreamBroadcaster implements RateChangeListener, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(RateStreamBroadcaster.class);
+    static final String SNAPSHOT = "snapshot";
+    static final String DELTA = "delta";
+
+    private final InterestRateService interestRateService;
+    private final ScheduledExecutorService broadcaster;
+    /**
+     * Platform threads, started only while a queue holds events: {@link SseEmitter#send} is synchronized,
+     * so a virtual thread blocked in a write would pin its carrier.
+     */
+    private final ExecutorService senders = Executors.newCachedThreadPool(
+            Thread.ofPlatform().daemon().name("rate-stream-sender-", 0).factory());
+    private final Map<SseEmitter, Connection> connections = new ConcurrentHashMap<>();
+    private final Set<Connection> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Published> recent = new ArrayDeque<>();
+    private final long timeoutMillis;
+    private final int replay;
+    private final int maxConnections;
+    private final int queue;
+
+    private RateSnapshot current;
+
+    public RateStreamBroadcaster(InterestRateService interestRateService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${mortgage.rates.stream.heartbeat:15s}") Duration heartbeat,
+                                 @Value("${mortgage.rates.stream.timeout:30m}") Duration timeout,
+                                 @Value("${mortgage.rates.stream.replay:64}") int replay,
+                                 @Value("${mortgage.rates.stream.maxConnections:1000}") int maxConnections,
+                                 @Value("${mortgage.rates.stream.queue:16}") int queue) {
+        this.interestRateService = interestRateService;
+        this.timeoutMillis = timeout.toMillis();
+        this.replay = replay;
+        this.maxConnections = maxConnections;
+        this.queue = queue;
+        this.broadcaster = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("rate-stream-broadcaster").factory());
+        this.broadcaster.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("mortgage.rates.stream.connections", connections, Map::size)
+                .description("Open /api/interest-rates/stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId the {@code Last-Event-ID} of a reconnecting client, or {@code null}
+     * @throws ResponseStatusException 503 when {@code mortgage.rates.stream.maxConnections} are open
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (connections.size() >= maxConnections) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many rate stream connections");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, String lastEventId) {
+        String lastId = lastEventId == null || lastEventId.isBlank() ? null : lastEventId.strip();
+        Connection connection = new Connection(emitter, new ArrayBlockingQueue<>(queue));
+        connections.put(emitter, connection);
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> disconnect(connection));
+        broadcaster.execute(() -> connect(connection, lastId));
+    }
+
+    @Override
+    public void onRatesChanged(List<InterestRate> rates) {
+        onRatesChanged(interestRateService.getSnapshot());
+    }
+
+    @Override
+    public void onRatesChanged(RateSnapshot snapshot) {
+        broadcaster.execute(() -> publish(snapshot));
+    }
+
+    private void connect(Connection connection, String lastId) {
+        RateSnapshot snapshot = current();
+        if (!eventId(snapshot).equals(lastId)) {
+            List<Published> missed = lastId == null ? null : publishedSince(lastId);
+            if (missed == null) {
+                connection.enqueue(snapshotEvent(snapshot));
+            } else {
+                for (Published published : missed) {
+                    connection.enqueue(deltaEvent(published));
+                }
+            }
+        }
+        if (connections.containsKey(connection.emitter())) {
+            subscribers.add(connection);
+        }
+    }
+
+    private void publish(RateSnapshot next) {
+        RateSnapshot previous = current();
+        if (next.version() <= previous.version()) {
+            return;
+        }
+        current = next;
+        Published published = new Published(eventId(next), eventId(previous), delta(previous, next));
+        recent.addLast(published);
+        while (recent.size() > replay) {
+            recent.removeFirst();
+        }
+        for (Connection connection : subscribers) {
+            connection.enqueue(deltaEvent(published));
+        }
+    }
+
+    private void heartbeat() {
+        for (Connection connection : subscribers) {
+            connection.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private RateSnapshot current() {
+        if (current == null) {
+            current = interestRateService.getSnapshot();
+        }
+        return current;
+    }
+
+    /** @return the publications after the event {@code id}, or {@code null} when they are not retained */
+    private List<Published> publishedSince(String id) {
+        List<Published> missed = new ArrayList<>();
+        for (Published published : recent) {
+            if (published.previousId().equals(id) || !missed.isEmpty()) {
+                missed.add(published);
+            }
+        }
+        return missed.isEmpty() ? null : missed;
+    }
+
+    static String eventId(RateSnapshot snapshot) {
+        return snapshot.version() + "@" + snapshot.publishedAt();
+    }
+
+    static RateDeltaEvent delta(RateSnapshot previous, RateSnapshot next) {
+        List<InterestRateDto> changed = new ArrayList<>();
+        for (InterestRate rate : next.rates()) {
+            if (rate.maturityPeriod() == null) {
+                continue;
+            }
+            InterestRate before = previous.find(rate.maturityPeriod());
+            if (before == null || !sameRate(before, rate)) {
+                changed.add(dto(rate));
+            }
+        }
+        List<Integer> removed = new ArrayList<>();
+        for (Map.Entry<Integer, InterestRate> before : previous.byMaturity().entrySet()) {
+            if (before.getKey() != null && next.find(before.getKey()) == null) {
+                removed.add(before.getKey());
+            }
+        }
+        removed.sort(null);
+        return new RateDeltaEvent(next.version(), previous.version(), changed, removed);
+    }
+
+    private static boolean sameRate(InterestRate a, InterestRate b) {
+        return Objects.equals(a.lastUpdate(), b.lastUpdate())
+                && (a.interestRate() == null ? b.interestRate() == null
+                : b.interestRate() != null && a.interestRate().compareTo(b.interestRate()) == 0);
+    }
+
+    private static SseEmitter.SseEventBuilder snapshotEvent(RateSnapshot snapshot) {
+        List<InterestRateDto> rates = snapshot.rates().stream()
+                .filter(r -> r.maturityPeriod() != null)
+                .map(RateStreamBroadcaster::dto)
+                .toList();
+        return SseEmitter.event()
+                .id(eventId(snapshot))
+                .name(SNAPSHOT)
+                .data(new RateSnapshotEvent(snapshot.version(), rates), MediaType.APPLICATION_JSON);
+    }
+
+    private static SseEmitter.SseEventBuilder deltaEvent(Published published) {
+        return SseEmitter.event()
+                .id(published.id())
+                .name(DELTA)
+                .data(published.delta(), MediaType.APPLICATION_JSON);
+    }
+
+    private static InterestRateDto dto(InterestRate rate) {
+        return new InterestRateDto(rate.maturityPeriod(), rate.interestRate(), rate.lastUpdate());
+    }
+
+    private void disconnect(Connection connection) {
+        subscribers.remove(connection);
+        connections.remove(connection.emitter());
+    }
+
+    /** A subscriber and its unsent events; at most one sender drains them at a time, so they go out in order. */
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> pending) {
+            this.emitter = emitter;
+            this.pending = pending;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        /** Called on the broadcaster thread; never blocks. */
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!connections.containsKey(emitter)) {
+                return;
+            }
+            if (!pending.offer(event)) {
+                log.debug("rates.stream.overflow pending={}", pending.size());
+                disconnect(this);
+                pending.clear();
+                // completing waits for a write in progress, so not on the broadcaster thread
+                senders.execute(emitter::complete);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event = pending.poll();
+                if (event == null) {
+                    draining.set(false);
+                    // an event enqueued after the poll but before the reset found draining still set
+                    if (pending.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                } else if (!send(event)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("rates.stream.dropped error={}", e.getMessage());
+                disconnect(this);
+                pending.clear();
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+
+    /** A delta with the event ids of the publications it leads from and to. */
+    private record Published(String id, String previousId, RateDeltaEvent delta) {
+    }
+
+    @Override
+    public void destroy() {
+        broadcaster.shutdownNow();
+        senders.shutdownNow();
+        for (SseEmitter emitter : connections.keySet()) {
+            emitter.complete();
+        }
+    }
+}
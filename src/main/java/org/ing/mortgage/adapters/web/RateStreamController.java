@@ -0,0 +1,30 @@
+package org.ing.mortgage.adapters.web;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.config.RateLimited;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events alternative to polling {@code /api/interest-rates}: a {@code snapshot} event on
+ * connect, a {@code delta} event per publication and comment heartbeats, see {@link RateStreamBroadcaster}.
+ * A connection is charged one permit of the caller's rate limit, reconnects included.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+public class RateStreamController {
+    private final RateStreamBroadcaster rateStreamBroadcaster;
+
+    @GetMapping(value = "/interest-rates/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RateLimited
+    public SseEmitter streamInterestRates(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return rateStreamBroadcaster.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,76 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ing.mortgage.adapters.web.dto.InterestRateDto;
+import org.ing.mortgage.domain.RateSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code GET /api/interest-rates} body of one rate publication, serialized once: plain and gzipped
+ * JSON plus the strong {@code ETag} of the publication, its {@link RateSnapshot#tag() tag}.
+ */
+public record SerializedRates(RateSnapshot snapshot, String eTag, byte[] json, byte[] gzip) {
+
+    public static SerializedRates of(RateSnapshot snapshot, List<InterestRateDto> body, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new SerializedRates(snapshot, "\"" + snapshot.tag() + "\"", json, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** {@code If-None-Match} uses weak comparison, so {@code W/"4-…"} matches {@code "4-…"}; {@code *} matches any. */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.strip();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Whether {@code Accept-Encoding} lists gzip without {@code q=0}. */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].strip().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].strip();
+                    if (param.startsWith("q=") && isZero(param.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String qValue) {
+        try {
+            return Double.parseDouble(qValue) == 0;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+}
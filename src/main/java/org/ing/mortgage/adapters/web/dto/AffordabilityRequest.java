@@ -0,0 +1,25 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class AffordabilityRequest {
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false, message = "Income must be greater than 0")
+    @DecimalMax(value = "1000000000", message = "Income must not exceed 1000000000")
+    private BigDecimal income;
+
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false, message = "Monthly Budget must be greater than 0")
+    @DecimalMax(value = "1000000000", message = "Monthly Budget must not exceed 1000000000")
+    private BigDecimal monthlyBudget;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Home Value must be greater than 0")
+    @DecimalMax(value = "1000000000", message = "Home Value must not exceed 1000000000")
+    private BigDecimal homeValue;
+}
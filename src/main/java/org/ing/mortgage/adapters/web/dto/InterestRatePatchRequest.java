@@ -0,0 +1,17 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/** Body of {@code PATCH /api/interest-rates/{maturity}}. */
+@Data
+public class InterestRatePatchRequest {
+    @NotNull
+    @DecimalMin(value = "0.0", message = "Interest Rate must be between 0 and 100")
+    @DecimalMax(value = "100.0", message = "Interest Rate must be between 0 and 100")
+    private BigDecimal interestRate;
+}
@@ -0,0 +1,27 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestRateUpdate {
+    @NotNull
+    @Min(value = 1, message = "Maturity Period must be between 1 and 30 years")
+    @Max(value = 30, message = "Maturity Period must be between 1 and 30 years")
+    private Integer maturityPeriod;
+
+    @NotNull
+    @DecimalMin(value = "0.0", message = "Interest Rate must be between 0 and 100")
+    @DecimalMax(value = "100.0", message = "Interest Rate must be between 0 and 100")
+    private BigDecimal interestRate;
+}
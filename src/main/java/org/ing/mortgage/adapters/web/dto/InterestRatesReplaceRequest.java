@@ -0,0 +1,14 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+/** Body of {@code PUT /api/interest-rates}: the complete new set of rates. */
+@Data
+public class InterestRatesReplaceRequest {
+    @NotEmpty
+    private List<@Valid InterestRateUpdate> rates;
+}
@@ -0,0 +1,6 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import java.math.BigDecimal;
+
+public record MaxLoanDto(Integer maturityPeriod, BigDecimal interestRate, BigDecimal maxLoanValue, BigDecimal monthlyCost, String limitedBy) {
+}
@@ -0,0 +1,10 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MortgageCheckBatchItem(Boolean feasible, BigDecimal monthlyCost, String error, List<String> details) {
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Data
 public class MortgageCheckRequest {
@@ -27,5 +28,8 @@ public class MortgageCheckRequest {
     @DecimalMin(value = "0.0", inclusive = false, message = "Home Value must be greater than 0")
     private BigDecimal homeValue;
 
+    /** Optional: evaluate against the rates that were in effect at this instant. */
+    private Instant asOf;
+
 
 }
@@ -0,0 +1,27 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class MortgageScheduleRequest {
+    @NotNull
+    @DecimalMin(value = "0.0", inclusive = false, message = "Loan Value must be greater than 0")
+    private BigDecimal loanValue;
+
+    @NotNull
+    @Min(value = 1, message = "Maturity Period must be between 1 and 30 years")
+    @Max(value = 30, message = "Maturity Period must be between 1 and 30 years")
+    private Integer maturityPeriod;
+
+    @Min(value = 1, message = "From Month must be at least 1")
+    private Integer fromMonth;
+
+    @Min(value = 1, message = "To Month must be at least 1")
+    private Integer toMonth;
+}
@@ -0,0 +1,11 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import java.util.List;
+
+/**
+ * Data of a {@code delta} event on {@code /api/interest-rates/stream}: what changed between
+ * {@code previousVersion} and {@code version}. Applying it to the rates of {@code previousVersion}
+ * gives the rates of {@code version}.
+ */
+public record RateDeltaEvent(long version, long previousVersion, List<InterestRateDto> changed, List<Integer> removed) {
+}
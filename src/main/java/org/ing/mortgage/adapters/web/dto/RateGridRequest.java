@@ -0,0 +1,29 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class RateGridRequest {
+    @NotNull
+    @Min(value = 0, message = "Max Shift must be between 0 and 1000 basis points")
+    @Max(value = 1000, message = "Max Shift must be between 0 and 1000 basis points")
+    private Integer maxShiftBasisPoints;
+
+    @NotNull
+    @Min(value = 1, message = "Step must be between 1 and 1000 basis points")
+    @Max(value = 1000, message = "Step must be between 1 and 1000 basis points")
+    private Integer stepBasisPoints;
+
+    @NotEmpty
+    @Size(max = 50, message = "At most 50 loan values per grid")
+    private List<@NotNull @DecimalMin(value = "0.0", inclusive = false, message = "Loan Value must be greater than 0") BigDecimal> loanValues;
+}
@@ -0,0 +1,9 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record RateGridResponse(Long rateVersion, List<BigDecimal> loanValues, List<Row> rows) {
+    public record Row(Integer maturityPeriod, Integer shiftBasisPoints, BigDecimal interestRate, List<BigDecimal> monthlyCosts) {
+    }
+}
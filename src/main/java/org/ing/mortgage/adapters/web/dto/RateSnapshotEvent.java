@@ -0,0 +1,7 @@
+package org.ing.mortgage.adapters.web.dto;
+
+import java.util.List;
+
+/** Data of a {@code snapshot} event on {@code /api/interest-rates/stream}: every current rate. */
+public record RateSnapshotEvent(long version, List<InterestRateDto> rates) {
+}
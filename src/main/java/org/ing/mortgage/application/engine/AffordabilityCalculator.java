@@ -0,0 +1,91 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.MaxLoan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Answers "how much can be borrowed for at most this monthly cost" for every configured maturity.
+ * <p>
+ * The budget limit is the annuity formula solved for the loan, {@code budget / annuityFactor}, in cents.
+ * Because the monthly cost is rounded to cents, the closed-form candidate is then corrected by at most
+ * a cent or two against {@link MortgageService#calculateMonthlyCost(BigDecimal, int, double)}, so the
+ * returned loan is the largest one whose mortgage check cost stays within the budget. The result is
+ * further capped by the income multiplier and, when given, the home value, mirroring
+ * {@link MortgageService#isFeasible}.
+ */
+@RequiredArgsConstructor
+@Service
+public class AffordabilityCalculator {
+    private final MortgageService mortgageService;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    @Value("${mortgage.incomeMultiplier:4}")
+    private int incomeMultiplier;
+
+    /**
+     * @param homeValue optional; {@code null} leaves the loan uncapped by the home value
+     * @return one entry per configured maturity, ordered by maturity
+     */
+    public List<MaxLoan> maxLoans(BigDecimal income, BigDecimal monthlyBudget, BigDecimal homeValue) {
+        List<MaxLoan> result = new ArrayList<>();
+        for (var quote : annuityFactorTable.snapshot().quotes().values()) {
+            result.add(maxLoan(income, monthlyBudget, homeValue, quote));
+        }
+        result.sort(Comparator.comparingInt(MaxLoan::maturityPeriod));
+        return result;
+    }
+
+    MaxLoan maxLoan(BigDecimal income, BigDecimal monthlyBudget, BigDecimal homeValue, AnnuityFactorTable.Quote quote) {
+        long budgetCents = toCentsDown(monthlyBudget);
+        long loanCents = budgetLimitCents(budgetCents, quote);
+        MaxLoan.Limit limit = MaxLoan.Limit.BUDGET;
+
+        long incomeCents = toCentsDown(income.multiply(BigDecimal.valueOf(incomeMultiplier)));
+        if (incomeCents < loanCents) {
+            loanCents = incomeCents;
+            limit = MaxLoan.Limit.INCOME;
+        }
+        if (homeValue != null && toCentsDown(homeValue) < loanCents) {
+            loanCents = toCentsDown(homeValue);
+            limit = MaxLoan.Limit.HOME_VALUE;
+        }
+        loanCents = Math.max(loanCents, 0);
+        return new MaxLoan(quote.rate().maturityPeriod(), quote.rate().interestRate(),
+                BigDecimal.valueOf(loanCents, 2), BigDecimal.valueOf(costCents(loanCents, quote), 2), limit);
+    }
+
+    /** Largest loan in cents whose monthly cost does not exceed {@code budgetCents}. */
+    private long budgetLimitCents(long budgetCents, AnnuityFactorTable.Quote quote) {
+        if (budgetCents <= 0) {
+            return 0;
+        }
+        long candidate = quote.annuityFactor() == 0
+                ? budgetCents * quote.maturityMonth() + quote.maturityMonth() / 2
+                : (long) ((budgetCents + 0.5) / quote.annuityFactor());
+        while (candidate > 0 && costCents(candidate, quote) > budgetCents) {
+            candidate--;
+        }
+        while (costCents(candidate + 1, quote) <= budgetCents) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private long costCents(long loanCents, AnnuityFactorTable.Quote quote) {
+        return mortgageService.calculateMonthlyCost(BigDecimal.valueOf(loanCents, 2), quote.maturityMonth(), quote.annuityFactor())
+                .unscaledValue().longValueExact();
+    }
+
+    private static long toCentsDown(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,37 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Creates {@link AmortizationSchedule}s from the currently published rates. The schedule's payment is
+ * the same figure the mortgage check reports as monthly cost.
+ */
+@RequiredArgsConstructor
+@Service
+public class AmortizationCalculator {
+    /** Keeps {@code loanCents * months} of the linear schedule within the long range. */
+    private static final long MAX_LOAN_CENTS = FixedPointMortgageEngine.MAX_CENTS / 1024;
+
+    private final MortgageService mortgageService;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    public AmortizationSchedule schedule(BigDecimal loanValue, int maturityPeriod) {
+        return schedule(loanValue, annuityFactorTable.lookupOrThrow(maturityPeriod));
+    }
+
+    public AmortizationSchedule schedule(BigDecimal loanValue, AnnuityFactorTable.Quote quote) {
+        if (loanValue.signum() <= 0 || loanValue.compareTo(BigDecimal.valueOf(MAX_LOAN_CENTS, 2)) > 0) {
+            throw new IllegalArgumentException("Loan Value must be between 0 and " + BigDecimal.valueOf(MAX_LOAN_CENTS, 2));
+        }
+        long loanCents = loanValue.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        BigDecimal payment = mortgageService.calculateMonthlyCost(loanValue, quote.maturityMonth(), quote.annuityFactor());
+        return new AmortizationSchedule(loanCents, quote.maturityMonth(),
+                mortgageService.monthlyRate(quote.rate().interestRate()),
+                payment.unscaledValue().longValueExact());
+    }
+}
@@ -0,0 +1,85 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.domain.AmortizationRow;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Month-by-month breakdown of an annuity loan, produced lazily.
+ * <p>
+ * Every row is derived from the closed-form remaining balance
+ * {@code B(k) = P((1+r)^n - (1+r)^k) / ((1+r)^n - 1)}, so any month can be computed without the
+ * months before it and a slice costs time proportional to its length. The payment is the monthly cost
+ * of the mortgage check; balances are rounded to cents and the principal is the difference of two
+ * rounded balances, so the balances chain exactly and the last one is zero.
+ * <p>
+ * Interest is the payment minus the principal, but never negative: where rounding makes a month's
+ * principal exceed the payment, that month pays the principal instead. At a zero rate the balance falls
+ * by exactly one payment a month and the last payment settles what is left, so every month but the
+ * last pays the monthly cost and no month shows interest.
+ */
+public final class AmortizationSchedule {
+    private final long loanCents;
+    private final int months;
+    private final double monthlyRate;
+    private final double compoundedTotal;
+    private final long paymentCents;
+
+    AmortizationSchedule(long loanCents, int months, double monthlyRate, long paymentCents) {
+        this.loanCents = loanCents;
+        this.months = months;
+        this.monthlyRate = monthlyRate;
+        this.compoundedTotal = Math.pow(1 + monthlyRate, months);
+        this.paymentCents = paymentCents;
+    }
+
+    public int months() {
+        return months;
+    }
+
+    public BigDecimal payment() {
+        return BigDecimal.valueOf(paymentCents, 2);
+    }
+
+    /**
+     * Rows {@code fromMonth..toMonth} (1-based, inclusive), computed as the stream is consumed.
+     *
+     * @throws IllegalArgumentException unless {@code 1 <= fromMonth <= toMonth <= months()}
+     */
+    public Stream<AmortizationRow> rows(int fromMonth, int toMonth) {
+        if (fromMonth < 1 || fromMonth > toMonth || toMonth > months) {
+            throw new IllegalArgumentException("Requested months must satisfy 1 <= fromMonth <= toMonth <= " + months);
+        }
+        return IntStream.rangeClosed(fromMonth, toMonth).mapToObj(this::row);
+    }
+
+    public AmortizationRow row(int month) {
+        long before = balanceCents(month - 1);
+        long after = balanceCents(month);
+        long principal = before - after;
+        long interest = monthlyRate == 0 ? 0 : Math.max(0, paymentCents - principal);
+        return new AmortizationRow(month,
+                BigDecimal.valueOf(principal + interest, 2),
+                BigDecimal.valueOf(interest, 2),
+                BigDecimal.valueOf(principal, 2),
+                BigDecimal.valueOf(after, 2));
+    }
+
+    /** Remaining balance after {@code month} payments, in cents. */
+    long balanceCents(int month) {
+        if (month <= 0) {
+            return loanCents;
+        }
+        if (month >= months) {
+            return 0;
+        }
+        if (monthlyRate == 0) {
+            return Math.max(0, loanCents - month * paymentCents);
+        }
+        double compounded = Math.pow(1 + monthlyRate, month);
+        return FixedPointMortgageEngine.roundToCents(
+                (loanCents / 100.0) * (compoundedTotal - compounded) / (compoundedTotal - 1));
+    }
+}
@@ -0,0 +1,141 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-maturity annuity factors, rebuilt whenever rates are published.
+ * <p>
+ * Each {@link Quote} carries the rate it was derived from, so a lookup can never pair
+ * a factor with a rate from a different publication. Callers that evaluate several inputs
+ * against the same rates take one {@link #snapshot()} and resolve all quotes from it.
+ */
+@RequiredArgsConstructor
+@Component
+public class AnnuityFactorTable implements RateChangeListener {
+    private final MortgageService mortgageService;
+
+    private volatile Snapshot current = Snapshot.EMPTY;
+
+    @Override
+    public synchronized void onRatesChanged(List<InterestRate> rates) {
+        current = build(rates, current.version() + 1);
+    }
+
+    /** Takes over the store's version; a publication older than the current table is ignored. */
+    @Override
+    public synchronized void onRatesChanged(RateSnapshot published) {
+        if (published.version() > current.version()) {
+            current = build(published.rates(), published.version());
+        }
+    }
+
+    /** Quotes for a publication other than the current one, e.g. historic rates; not cached. */
+    public Snapshot snapshotOf(RateSnapshot published) {
+        return build(published.rates(), published.version());
+    }
+
+    private Snapshot build(List<InterestRate> rates, long version) {
+        Map<Integer, Quote> rebuilt = new HashMap<>();
+        for (var rate : rates) {
+            int maturityMonth = rate.maturityPeriod() * 12;
+            double factor = mortgageService.annuityFactor(rate.interestRate(), maturityMonth);
+            rebuilt.put(rate.maturityPeriod(), new Quote(rate, maturityMonth, factor));
+        }
+        return new Snapshot(Map.copyOf(rebuilt), version);
+    }
+
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * @return the quote for the maturity, or {@code null} when no rate is configured
+     */
+    public Quote lookup(int maturityPeriod) {
+        return current.lookup(maturityPeriod);
+    }
+
+    public Quote lookupOrThrow(int maturityPeriod) {
+        return current.lookupOrThrow(maturityPeriod);
+    }
+
+    public record Quote(InterestRate rate, int maturityMonth, double annuityFactor) {
+    }
+
+    /**
+     * Immutable set of quotes from a single rate publication. {@code version} increases with every
+     * publication, so results derived from a snapshot can be cached against it.
+     * <p>
+     * Quotes are also indexed by a dense array over the maturity in years, like
+     * {@code DenseInterestRateRepository}, so the per-request {@link #lookup(int)} is a bounds check and
+     * an array read instead of boxing and hashing the maturity.
+     */
+    public static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Map.of());
+
+        private final Map<Integer, Quote> quotes;
+        private final long version;
+        private final Quote[] byMaturity;
+
+        public Snapshot(Map<Integer, Quote> quotes) {
+            this(quotes, 0);
+        }
+
+        public Snapshot(Map<Integer, Quote> quotes, long version) {
+            this.quotes = quotes;
+            this.version = version;
+            int size = quotes.keySet().stream().mapToInt(Integer::intValue).filter(m -> m >= 0).max().orElse(-1) + 1;
+            this.byMaturity = new Quote[size];
+            quotes.forEach((maturity, quote) -> {
+                if (maturity >= 0) {
+                    byMaturity[maturity] = quote;
+                }
+            });
+        }
+
+        public Map<Integer, Quote> quotes() {
+            return quotes;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public Quote lookup(int maturityPeriod) {
+            return maturityPeriod >= 0 && maturityPeriod < byMaturity.length ? byMaturity[maturityPeriod] : null;
+        }
+
+        public Quote lookupOrThrow(int maturityPeriod) {
+            var quote = lookup(maturityPeriod);
+            if (quote == null) {
+                throw new IllegalArgumentException("No interest rate configured for maturity period=" + maturityPeriod + "years");
+            }
+            return quote;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Snapshot other && version == other.version && quotes.equals(other.quotes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(quotes, version);
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot[quotes=" + quotes + ", version=" + version + "]";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.ing.mortgage.application.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Result cache in front of the configured {@link MortgageEngine} for repeated identical checks.
+ * <p>
+ * Entries are keyed by the normalized input (trailing zeros stripped, so {@code 100} and {@code 100.00}
+ * share an entry) and the {@link AnnuityFactorTable.Snapshot#version()} they were computed against; the
+ * first lookup after a new rate publication drops all entries. Eviction is Caffeine's size-bounded
+ * W-TinyLFU policy. Hits, misses and evictions are published as {@code cache.*} meters tagged
+ * {@code cache=mortgageResults}.
+ * <p>
+ * Only single checks are cached. Calls with an explicit snapshot come from the batch, stream and
+ * offline paths, which rarely repeat inputs, and go straight to the delegate.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "mortgage.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingMortgageEngine implements MortgageEngine {
+    private final MortgageEngine delegate;
+    private final AnnuityFactorTable annuityFactorTable;
+    private final Cache<Key, MortgageResult> results;
+
+    private volatile long cachedVersion;
+
+    @Autowired
+    public CachingMortgageEngine(MortgageEngine delegate,
+                                 AnnuityFactorTable annuityFactorTable,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${mortgage.cache.maximumSize:10000}") long maximumSize) {
+        this(delegate, annuityFactorTable, meterRegistry, maximumSize, ForkJoinPool.commonPool());
+    }
+
+    CachingMortgageEngine(MortgageEngine delegate, AnnuityFactorTable annuityFactorTable,
+                          MeterRegistry meterRegistry, long maximumSize, Executor maintenance) {
+        this.delegate = delegate;
+        this.annuityFactorTable = annuityFactorTable;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(maintenance)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "mortgageResults");
+    }
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput) {
+        var rates = annuityFactorTable.snapshot();
+        Key key = Key.of(mortgageInput, rates.version());
+        if (key == null) {
+            return delegate.calculateMortgageCost(mortgageInput, rates);
+        }
+        if (rates.version() > cachedVersion) {
+            cachedVersion = rates.version();
+            results.invalidateAll();
+        }
+        return results.get(key, k -> delegate.calculateMortgageCost(mortgageInput, rates));
+    }
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput, AnnuityFactorTable.Snapshot rates) {
+        return delegate.calculateMortgageCost(mortgageInput, rates);
+    }
+
+    private record Key(BigDecimal income, int maturityPeriod, BigDecimal loanValue, BigDecimal homeValue, long rateVersion) {
+        /** @return the key, or {@code null} for incomplete inputs, which are not cached */
+        static Key of(MortgageInput input, long rateVersion) {
+            if (input.income() == null || input.maturityPeriod() == null
+                    || input.loanValue() == null || input.homeValue() == null) {
+                return null;
+            }
+            return new Key(input.income().stripTrailingZeros(), input.maturityPeriod(),
+                    input.loanValue().stripTrailingZeros(), input.homeValue().stripTrailingZeros(), rateVersion);
+        }
+    }
+}
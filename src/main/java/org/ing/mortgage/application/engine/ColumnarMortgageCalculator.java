@@ -0,0 +1,115 @@
+package org.ing.mortgage.application.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Columnar variant of {@link FixedPointMortgageEngine} for the batch and offline paths: amounts in
+ * cents and maturities come in as parallel primitive arrays, feasibility flags and monthly costs go out
+ * the same way. Results are identical to the fixed-point engine for every record.
+ * <p>
+ * {@link #create(int)} returns the JDK Vector API implementation when it was compiled in (Maven
+ * profile {@code vector}) and {@code jdk.incubator.vector} is available at runtime, and a scalar loop
+ * otherwise. Unlike the per-record engines, no feasibility warnings are logged.
+ */
+public abstract class ColumnarMortgageCalculator {
+    private static final Logger log = LoggerFactory.getLogger(ColumnarMortgageCalculator.class);
+    private static final String VECTOR_IMPLEMENTATION = "org.ing.mortgage.application.engine.VectorColumnarMortgageCalculator";
+
+    /** Monthly cost reported for records that are not feasible. */
+    public static final long NO_COST = Long.MIN_VALUE;
+
+    protected final int incomeMultiplier;
+
+    protected ColumnarMortgageCalculator(int incomeMultiplier) {
+        this.incomeMultiplier = incomeMultiplier;
+    }
+
+    public static ColumnarMortgageCalculator create(int incomeMultiplier) {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (ColumnarMortgageCalculator) Class.forName(VECTOR_IMPLEMENTATION)
+                        .getConstructor(int.class)
+                        .newInstance(incomeMultiplier);
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                log.info("Vector API implementation not available, using scalar columnar calculator: {}", ex.toString());
+            }
+        }
+        return new ScalarColumnarMortgageCalculator(incomeMultiplier);
+    }
+
+    /**
+     * Evaluates {@code incomeCents.length} records against the given rates.
+     *
+     * @throws IllegalArgumentException when the arrays differ in length, an amount exceeds
+     *                                  {@link FixedPointMortgageEngine#MAX_CENTS} or a maturity has no rate
+     */
+    public final void calculate(AnnuityFactorTable.Snapshot rates,
+                                long[] incomeCents, long[] loanCents, long[] homeCents, int[] maturityPeriod,
+                                boolean[] feasible, long[] monthlyCostCents) {
+        int length = incomeCents.length;
+        if (loanCents.length != length || homeCents.length != length || maturityPeriod.length != length
+                || feasible.length != length || monthlyCostCents.length != length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        RateColumns columns = RateColumns.of(rates);
+        for (int i = 0; i < length; i++) {
+            columns.checkConfigured(maturityPeriod[i]);
+            if (Math.abs(incomeCents[i]) > FixedPointMortgageEngine.MAX_CENTS
+                    || Math.abs(loanCents[i]) > FixedPointMortgageEngine.MAX_CENTS
+                    || Math.abs(homeCents[i]) > FixedPointMortgageEngine.MAX_CENTS) {
+                throw new IllegalArgumentException("Amount out of range at index " + i);
+            }
+        }
+        compute(columns, incomeCents, loanCents, homeCents, maturityPeriod, feasible, monthlyCostCents);
+    }
+
+    protected abstract void compute(RateColumns rates,
+                                    long[] incomeCents, long[] loanCents, long[] homeCents, int[] maturityPeriod,
+                                    boolean[] feasible, long[] monthlyCostCents);
+
+    /** Evaluates record {@code i} exactly like {@link FixedPointMortgageEngine}. */
+    protected final void computeOne(RateColumns rates, int i,
+                                    long[] incomeCents, long[] loanCents, long[] homeCents, int[] maturityPeriod,
+                                    boolean[] feasible, long[] monthlyCostCents) {
+        long loan = loanCents[i];
+        boolean ok = !FixedPointMortgageEngine.exceedsIncome(incomeCents[i], loan, incomeMultiplier) && loan <= homeCents[i];
+        feasible[i] = ok;
+        monthlyCostCents[i] = ok ? rates.monthlyCostCents(loan, maturityPeriod[i]) : NO_COST;
+    }
+
+    /** Annuity factors and maturity months indexed directly by maturity period. */
+    protected record RateColumns(double[] annuityFactor, int[] maturityMonth, boolean[] configured) {
+        static RateColumns of(AnnuityFactorTable.Snapshot rates) {
+            int size = rates.quotes().keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+            double[] factors = new double[size];
+            int[] months = new int[size];
+            boolean[] configured = new boolean[size];
+            for (Map.Entry<Integer, AnnuityFactorTable.Quote> entry : rates.quotes().entrySet()) {
+                int maturity = entry.getKey();
+                if (maturity >= 0) {
+                    factors[maturity] = entry.getValue().annuityFactor();
+                    months[maturity] = entry.getValue().maturityMonth();
+                    configured[maturity] = true;
+                }
+            }
+            return new RateColumns(factors, months, configured);
+        }
+
+        void checkConfigured(int maturityPeriod) {
+            if (maturityPeriod < 0 || maturityPeriod >= configured.length || !configured[maturityPeriod]) {
+                throw new IllegalArgumentException("No interest rate configured for maturity period=" + maturityPeriod + "years");
+            }
+        }
+
+        long monthlyCostCents(long loanCents, int maturityPeriod) {
+            double factor = annuityFactor[maturityPeriod];
+            if (factor == 0) {
+                return FixedPointMortgageEngine.divideHalfUp(loanCents, maturityMonth[maturityPeriod]);
+            }
+            return FixedPointMortgageEngine.roundToCents((loanCents / 100.0) * factor);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(name = "mortgage.engine.mode", havingValue = "decimal", matchIfMissing = true)
+public class DecimalMortgageEngine implements MortgageEngine {
+    private final MortgageService mortgageService;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput) {
+        return calculateMortgageCost(mortgageInput, annuityFactorTable.snapshot());
+    }
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput, AnnuityFactorTable.Snapshot rates) {
+        if (mortgageService.isFeasible(mortgageInput)) {
+            var quote = rates.lookupOrThrow(mortgageInput.maturityPeriod());
+            var monthlyCost = mortgageService.calculateMonthlyCost(
+                    mortgageInput.loanValue(), quote.maturityMonth(), quote.annuityFactor());
+            return new MortgageResult(true, monthlyCost);
+        }
+        return new MortgageResult(false, null);
+    }
+}
@@ -0,0 +1,145 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Mortgage engine working on {@code long} cents instead of {@link BigDecimal}.
+ * <p>
+ * Amounts are converted to cents once at the boundary; feasibility and the monthly cost are then
+ * computed with primitive arithmetic only. Results are identical to {@link DecimalMortgageEngine}
+ * to the cent: the rate part is taken from the same {@link AnnuityFactorTable} and the final
+ * rounding reproduces {@code BigDecimal.valueOf(double).setScale(2, HALF_UP)}. Inputs that do not
+ * fit in cents (more than two decimals, or beyond 2^53 cents) are delegated to the decimal path.
+ */
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(name = "mortgage.engine.mode", havingValue = "fixed-point")
+public class FixedPointMortgageEngine implements MortgageEngine {
+    private static final Logger log = LoggerFactory.getLogger(FixedPointMortgageEngine.class);
+
+    /** Marker for amounts that cannot be represented exactly in cents. */
+    static final long NOT_CENTS = Long.MIN_VALUE;
+    /** Largest amount in cents that still converts to {@code double} exactly. */
+    static final long MAX_CENTS = 1L << 53;
+    private static final long[] CENTS_PER_UNIT = {100, 10, 1};
+    private static final double[] POWERS_OF_TEN = {1, 10, 100};
+
+    private final MortgageService mortgageService;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    @Value("${mortgage.incomeMultiplier:4}")
+    private int incomeMultiplier;
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput) {
+        return calculateMortgageCost(mortgageInput, annuityFactorTable.snapshot());
+    }
+
+    @Override
+    public MortgageResult calculateMortgageCost(MortgageInput mortgageInput, AnnuityFactorTable.Snapshot rates) {
+        long income = toCents(mortgageInput.income());
+        long loan = toCents(mortgageInput.loanValue());
+        long home = toCents(mortgageInput.homeValue());
+        if (income == NOT_CENTS || loan == NOT_CENTS || home == NOT_CENTS) {
+            return calculateDecimal(mortgageInput, rates);
+        }
+        if (!isFeasible(income, loan, home)) {
+            return new MortgageResult(false, null);
+        }
+        var quote = rates.lookupOrThrow(mortgageInput.maturityPeriod());
+        return new MortgageResult(true, BigDecimal.valueOf(monthlyCostCents(loan, quote), 2));
+    }
+
+    public boolean isFeasible(long incomeCents, long loanCents, long homeCents) {
+        if (exceedsIncome(incomeCents, loanCents, incomeMultiplier)) {
+            log.warn("Loan Value exceeds {} time the income", incomeMultiplier);
+            return false;
+        }
+        if (loanCents > homeCents) {
+            log.warn("Loan value exceeds home value");
+            return false;
+        }
+        return true;
+    }
+
+    /** {@code loan > income * multiplier}, without overflowing when the product exceeds the long range. */
+    static boolean exceedsIncome(long incomeCents, long loanCents, int incomeMultiplier) {
+        long limit = incomeCents * incomeMultiplier;
+        long high = Math.multiplyHigh(incomeCents, incomeMultiplier);
+        return high == (limit >> 63) ? loanCents > limit : high < 0;
+    }
+
+    public static long monthlyCostCents(long loanCents, AnnuityFactorTable.Quote quote) {
+        if (quote.annuityFactor() == 0) {
+            return divideHalfUp(loanCents, quote.maturityMonth());
+        }
+        double amount = (loanCents / 100.0) * quote.annuityFactor();
+        return roundToCents(amount);
+    }
+
+    /**
+     * Converts an amount to cents without going through {@code unscaledValue}/{@code setScale}. Up to
+     * 15 digits the unscaled value is recovered from {@link BigDecimal#doubleValue()}, which the JDK
+     * derives from the compact long with one division: the double is within 2^-52 relative of it, so
+     * rounding it back is exact below 2^51. Measured with {@code MortgageEngineBenchmark.toCents
+     * -prof gc}: 0 B/op even with {@code -XX:-DoEscapeAnalysis}, leaving the 64 B/op of a whole
+     * {@code fixedPoint} check to its result. A 16-digit amount takes {@code movePointRight}, 40 B/op
+     * when escape analysis cannot remove the temporary.
+     *
+     * @return the amount in cents, or {@link #NOT_CENTS} when it has more than two decimals or
+     * is larger than {@link #MAX_CENTS}
+     */
+    static long toCents(BigDecimal amount) {
+        int scale = amount.scale();
+        int precision = amount.precision();
+        if (scale < 0 || scale > 2 || precision > 16) {
+            return NOT_CENTS;
+        }
+        long unscaled = precision <= 15
+                ? Math.round(amount.doubleValue() * POWERS_OF_TEN[scale])
+                : amount.movePointRight(scale).longValueExact();
+        long cents = unscaled * CENTS_PER_UNIT[scale];
+        return Math.abs(cents) > MAX_CENTS ? NOT_CENTS : cents;
+    }
+
+    static long divideHalfUp(long dividend, long divisor) {
+        long magnitude = (2 * Math.abs(dividend) + divisor) / (2 * divisor);
+        return dividend < 0 ? -magnitude : magnitude;
+    }
+
+    /**
+     * Same result as {@code BigDecimal.valueOf(amount).setScale(2, HALF_UP)} in cents.
+     * {@code BigDecimal.valueOf} rounds the shortest decimal representation of the double, so values
+     * within a few ulps of a half cent are ambiguous in binary; those rare cases take the exact path.
+     */
+    static long roundToCents(double amount) {
+        double cents = Math.abs(amount) * 100;
+        double whole = Math.floor(cents);
+        double fraction = cents - whole;
+        if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(cents) || cents >= MAX_CENTS) {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+        long rounded = (long) whole + (fraction > 0.5 ? 1 : 0);
+        return amount < 0 ? -rounded : rounded;
+    }
+
+    private MortgageResult calculateDecimal(MortgageInput mortgageInput, AnnuityFactorTable.Snapshot rates) {
+        if (!mortgageService.isFeasible(mortgageInput)) {
+            return new MortgageResult(false, null);
+        }
+        var quote = rates.lookupOrThrow(mortgageInput.maturityPeriod());
+        return new MortgageResult(true, mortgageService.calculateMonthlyCost(
+                mortgageInput.loanValue(), quote.maturityMonth(), quote.annuityFactor()));
+    }
+}
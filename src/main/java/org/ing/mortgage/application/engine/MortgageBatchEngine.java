@@ -0,0 +1,59 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates many mortgage checks at once, in parallel, against a single rate snapshot.
+ */
+@RequiredArgsConstructor
+@Service
+public class MortgageBatchEngine {
+    private final MortgageEngine mortgageEngine;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    public AnnuityFactorTable.Snapshot snapshot() {
+        return annuityFactorTable.snapshot();
+    }
+
+    /**
+     * @param inputs inputs to evaluate; {@code null} entries are skipped and yield {@code null}
+     * @return one outcome per input, in input order
+     */
+    public List<Outcome> calculateAll(List<MortgageInput> inputs) {
+        return calculateAll(inputs, annuityFactorTable.snapshot());
+    }
+
+    /**
+     * Same as {@link #calculateAll(List)} against a snapshot held by the caller, for callers that
+     * split one logical batch into several chunks.
+     */
+    public List<Outcome> calculateAll(List<MortgageInput> inputs, AnnuityFactorTable.Snapshot rates) {
+        Outcome[] outcomes = new Outcome[inputs.size()];
+        IntStream.range(0, outcomes.length).parallel().forEach(i -> {
+            MortgageInput input = inputs.get(i);
+            if (input != null) {
+                outcomes[i] = evaluate(input, rates);
+            }
+        });
+        return Arrays.asList(outcomes);
+    }
+
+    private Outcome evaluate(MortgageInput input, AnnuityFactorTable.Snapshot rates) {
+        try {
+            return new Outcome(mortgageEngine.calculateMortgageCost(input, rates), null);
+        } catch (IllegalArgumentException ex) {
+            return new Outcome(null, ex.getMessage());
+        }
+    }
+
+    /** Either a result or the reason the input could not be evaluated. */
+    public record Outcome(MortgageResult result, String error) {
+    }
+}
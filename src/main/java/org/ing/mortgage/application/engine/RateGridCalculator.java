@@ -0,0 +1,105 @@
+package org.ing.mortgage.application.engine;
+
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.RateGrid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Rate-sensitivity grids: monthly cost per maturity, basis-point shift of the published rate and loan
+ * amount. Cells are computed in parallel, one annuity factor per maturity and shift.
+ * <p>
+ * Grids are cached per {@link AnnuityFactorTable.Snapshot#version()}: a request against the same rates
+ * and parameters returns the cached grid, and the first request after a new publication starts a new
+ * cache. At most {@code mortgage.grid.cacheEntries} parameter combinations are kept per version.
+ */
+@RequiredArgsConstructor
+@Service
+public class RateGridCalculator {
+    private static final int MAX_SHIFTS_PER_SIDE = 50;
+
+    private final MortgageService mortgageService;
+    private final AnnuityFactorTable annuityFactorTable;
+
+    @Value("${mortgage.grid.cacheEntries:64}")
+    private int cacheEntries;
+
+    private volatile Cache cache = new Cache(-1);
+
+    /**
+     * @param maxShiftBasisPoints shifts run from {@code -maxShiftBasisPoints} to {@code +maxShiftBasisPoints}
+     * @param stepBasisPoints     distance between two shifts; must be positive
+     */
+    public RateGrid grid(int maxShiftBasisPoints, int stepBasisPoints, List<BigDecimal> loanValues) {
+        if (maxShiftBasisPoints < 0 || stepBasisPoints <= 0) {
+            throw new IllegalArgumentException("Shift must not be negative and step must be positive");
+        }
+        if (maxShiftBasisPoints / stepBasisPoints > MAX_SHIFTS_PER_SIDE) {
+            throw new IllegalArgumentException("At most " + (2 * MAX_SHIFTS_PER_SIDE + 1) + " rate shifts per grid");
+        }
+        var rates = annuityFactorTable.snapshot();
+        var key = new Key(maxShiftBasisPoints, stepBasisPoints,
+                loanValues.stream().map(v -> v.setScale(2, RoundingMode.HALF_UP)).toList());
+
+        Cache current = cache;
+        if (current.version < rates.version()) {
+            current = new Cache(rates.version());
+            cache = current;
+        } else if (current.version > rates.version()) {
+            return compute(rates, key);
+        }
+        RateGrid grid = current.grids.get(key);
+        if (grid == null) {
+            grid = compute(rates, key);
+            if (current.grids.size() >= cacheEntries) {
+                current.grids.clear();
+            }
+            current.grids.putIfAbsent(key, grid);
+        }
+        return grid;
+    }
+
+    private RateGrid compute(AnnuityFactorTable.Snapshot rates, Key key) {
+        List<AnnuityFactorTable.Quote> quotes = new ArrayList<>(rates.quotes().values());
+        quotes.sort(Comparator.comparingInt(AnnuityFactorTable.Quote::maturityMonth));
+        int shifts = 2 * (key.maxShiftBasisPoints() / key.stepBasisPoints()) + 1;
+        int firstShift = -(key.maxShiftBasisPoints() / key.stepBasisPoints()) * key.stepBasisPoints();
+
+        List<RateGrid.Row> rows = IntStream.range(0, quotes.size() * shifts)
+                .parallel()
+                .mapToObj(cell -> row(quotes.get(cell / shifts), firstShift + (cell % shifts) * key.stepBasisPoints(), key.loanValues()))
+                .toList();
+        return new RateGrid(rates.version(), key.loanValues(), rows);
+    }
+
+    private RateGrid.Row row(AnnuityFactorTable.Quote quote, int shiftBasisPoints, List<BigDecimal> loanValues) {
+        BigDecimal shifted = quote.rate().interestRate().add(BigDecimal.valueOf(shiftBasisPoints, 2)).max(BigDecimal.ZERO);
+        double factor = mortgageService.annuityFactor(shifted, quote.maturityMonth());
+        List<BigDecimal> costs = loanValues.stream()
+                .map(loan -> mortgageService.calculateMonthlyCost(loan, quote.maturityMonth(), factor))
+                .toList();
+        return new RateGrid.Row(quote.rate().maturityPeriod(), shiftBasisPoints, shifted, costs);
+    }
+
+    private record Key(int maxShiftBasisPoints, int stepBasisPoints, List<BigDecimal> loanValues) {
+    }
+
+    private static final class Cache {
+        private final long version;
+        private final Map<Key, RateGrid> grids = new ConcurrentHashMap<>();
+
+        private Cache(long version) {
+            this.version = version;
+        }
+    }
+}
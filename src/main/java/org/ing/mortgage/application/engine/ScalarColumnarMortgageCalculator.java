@@ -0,0 +1,20 @@
+package org.ing.mortgage.application.engine;
+
+/**
+ * Plain loop over the columns; the fallback when the Vector API is not available.
+ */
+public class ScalarColumnarMortgageCalculator extends ColumnarMortgageCalculator {
+
+    public ScalarColumnarMortgageCalculator(int incomeMultiplier) {
+        super(incomeMultiplier);
+    }
+
+    @Override
+    protected void compute(RateColumns rates,
+                           long[] incomeCents, long[] loanCents, long[] homeCents, int[] maturityPeriod,
+                           boolean[] feasible, long[] monthlyCostCents) {
+        for (int i = 0; i < incomeCents.length; i++) {
+            computeOne(rates, i, incomeCents, loanCents, homeCents, maturityPeriod, feasible, monthlyCostCents);
+        }
+    }
+}
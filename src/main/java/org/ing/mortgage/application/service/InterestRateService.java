@@ -2,11 +2,19 @@ package org.ing.mortgage.application.service;
 
 import lombok.RequiredArgsConstructor;
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.exception.RateVersionConflictException;
 import org.ing.mortgage.ports.InterestRateRepository;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -17,8 +25,79 @@ public class InterestRateService {
         return interestRateRepository.findAll();
     }
 
+    public RateSnapshot getSnapshot() {
+        return interestRateRepository.snapshot();
+    }
+
     public Optional<InterestRate> findByMaturity(Integer maturityPeriod) {
         return interestRateRepository.findByMaturity(maturityPeriod);
     }
 
+    public List<InterestRate> getAllRates(Instant asOf) {
+        return interestRateRepository.findAllAsOf(asOf);
+    }
+
+    /**
+     * @throws IllegalArgumentException when no rates had been published at {@code asOf}
+     */
+    public RateSnapshot getSnapshotAsOf(Instant asOf) {
+        return interestRateRepository.snapshotAsOf(asOf)
+                .orElseThrow(() -> new IllegalArgumentException("No interest rates published as of " + asOf));
+    }
+
+    /**
+     * Replaces all rates with one publication, provided the latest publication is still the one
+     * {@link RateSnapshot#tag() tagged} {@code expectedTag}.
+     *
+     * @throws RateVersionConflictException when rates have been published since {@code expectedTag}
+     * @throws IllegalArgumentException     when a maturity period occurs more than once
+     */
+    public RateSnapshot replaceRates(String expectedTag, List<Rate> rates) {
+        Set<Integer> maturities = new HashSet<>();
+        for (Rate rate : rates) {
+            if (!maturities.add(rate.maturityPeriod())) {
+                throw new IllegalArgumentException("Duplicate maturity period=" + rate.maturityPeriod());
+            }
+        }
+        RateSnapshot current = current(expectedTag);
+        Instant now = Instant.now();
+        return saveIfVersion(expectedTag, current, rates.stream()
+                .map(r -> new InterestRate(r.maturityPeriod(), r.interestRate(), now))
+                .toList());
+    }
+
+    /**
+     * Changes the rate of one maturity and republishes the others unchanged, provided the latest
+     * publication is still the one tagged {@code expectedTag}.
+     *
+     * @throws RateVersionConflictException when rates have been published since {@code expectedTag}
+     * @throws IllegalArgumentException     when no rate is configured for the maturity
+     */
+    public RateSnapshot updateRate(String expectedTag, int maturityPeriod, BigDecimal interestRate) {
+        RateSnapshot current = current(expectedTag);
+        if (current.find(maturityPeriod) == null) {
+            throw new IllegalArgumentException("No interest rate configured for maturity period=" + maturityPeriod + "years");
+        }
+        List<InterestRate> rates = new ArrayList<>(current.rates().size());
+        for (InterestRate rate : current.rates()) {
+            rates.add(rate.maturityPeriod() != null && rate.maturityPeriod() == maturityPeriod
+                    ? new InterestRate(maturityPeriod, interestRate, Instant.now())
+                    : rate);
+        }
+        return saveIfVersion(expectedTag, current, rates);
+    }
+
+    private RateSnapshot current(String expectedTag) {
+        RateSnapshot current = interestRateRepository.snapshot();
+        if (!current.tag().equals(expectedTag)) {
+            throw new RateVersionConflictException(expectedTag, current.tag());
+        }
+        return current;
+    }
+
+    /** The tag matched {@code current}; the compare-and-set on its version catches a publication since. */
+    private RateSnapshot saveIfVersion(String expectedTag, RateSnapshot current, List<InterestRate> rates) {
+        return interestRateRepository.saveRatesIfVersion(current.version(), rates)
+                .orElseThrow(() -> new RateVersionConflictException(expectedTag, interestRateRepository.snapshot().tag()));
+    }
 }
@@ -34,18 +34,36 @@ public class MortgageService {
 
     public BigDecimal calculateMonthlyCost(BigDecimal loanValue, InterestRate rate) {
         int maturityMonth = rate.maturityPeriod() * 12;
-        BigDecimal annualRate = rate.interestRate().divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
+        return calculateMonthlyCost(loanValue, maturityMonth, annuityFactor(rate.interestRate(), maturityMonth));
+    }
 
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0){
+    /**
+     * Monthly cost for a precomputed annuity factor, see {@link #annuityFactor(BigDecimal, int)}.
+     * A factor of zero means the rate is zero and the loan is amortized linearly.
+     */
+    public BigDecimal calculateMonthlyCost(BigDecimal loanValue, int maturityMonth, double annuityFactor) {
+        if (annuityFactor == 0) {
             return loanValue.divide(BigDecimal.valueOf(maturityMonth), 2, RoundingMode.HALF_UP);
         }
-        double P = loanValue.doubleValue();
-        double r = monthlyRate.doubleValue();
-        double amount = (P * (r * Math.pow(r + 1, maturityMonth))) / (Math.pow(1+r, maturityMonth) - 1);
-
-       return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+        return BigDecimal.valueOf(loanValue.doubleValue() * annuityFactor).setScale(2, RoundingMode.HALF_UP);
+    }
 
+    /**
+     * The part of the annuity formula that only depends on the rate: {@code r(1+r)^n / ((1+r)^n - 1)}.
+     * Returns zero for a zero rate.
+     */
+    public double annuityFactor(BigDecimal annualInterestPercent, int maturityMonth) {
+        double r = monthlyRate(annualInterestPercent);
+        if (r == 0) {
+            return 0;
+        }
+        double compounded = Math.pow(1 + r, maturityMonth);
+        return (r * compounded) / (compounded - 1);
+    }
 
+    /** Monthly rate as a fraction, rounded like the annuity formula: {@code annual / 100 / 12} at ten decimals. */
+    public double monthlyRate(BigDecimal annualInterestPercent) {
+        BigDecimal annualRate = annualInterestPercent.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+        return annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP).doubleValue();
     }
 }
@@ -0,0 +1,190 @@
+package org.ing.mortgage.config;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per client. A client that sends a configured API key is limited by that key's
+ * {@link Tier}; every other caller, including one with an unknown key, by its address and the default
+ * tier, so inventing keys does not buy extra buckets.
+ * <p>
+ * A bucket is a single {@code long}, the theoretical arrival time of the generic cell rate algorithm:
+ * a call of {@code n} permits moves it {@code n} emission intervals ahead and is admitted unless that
+ * passes now; it is never kept more than {@code burst} intervals behind now, which caps the tokens
+ * saved up. The refusal carries the time until the call would fit, for {@code Retry-After}.
+ * <p>
+ * Admitting is one map lookup and one compare-and-set, without locks or allocation for known clients;
+ * the maps are {@link ConcurrentHashMap}s, whose reads take no lock and whose inserts lock a single
+ * bin. A bucket that has been full for {@code idleTimeout} is
+ * indistinguishable from a new one and is dropped by {@link #evictIdle()}.
+ */
+public final class ClientRateLimiter {
+    /** Marks a bucket being evicted; a caller that finds it retries with a fresh bucket. */
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final Map<String, Tier> tiersByApiKey;
+    private final Tier defaultTier;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final ConcurrentHashMap<String, Bucket> byApiKey = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Bucket> byAddress = new ConcurrentHashMap<>();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * A quota of {@code limit} permits per {@code period}, of which up to {@code burst} can be spent at once.
+     */
+    public record Tier(String name, long limit, Duration period, long burst) {
+        public Tier {
+            Objects.requireNonNull(name, "name");
+            if (limit <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit tier '" + name + "' needs a positive limit, period and burst");
+            }
+            if (period.toNanos() / limit == 0) {
+                throw new IllegalArgumentException("Rate limit tier '" + name + "' allows more than one permit per nanosecond");
+            }
+        }
+
+        long intervalNanos() {
+            return period.toNanos() / limit;
+        }
+    }
+
+    public ClientRateLimiter(Map<String, Tier> tiersByApiKey, Tier defaultTier, Duration idleTimeout) {
+        this(tiersByApiKey, defaultTier, idleTimeout, System::nanoTime);
+    }
+
+    ClientRateLimiter(Map<String, Tier> tiersByApiKey, Tier defaultTier, Duration idleTimeout, LongSupplier nanoClock) {
+        this.tiersByApiKey = Map.copyOf(tiersByApiKey);
+        this.defaultTier = Objects.requireNonNull(defaultTier, "defaultTier");
+        this.idleNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes {@code permits} from the caller's bucket.
+     *
+     * @param apiKey  the caller's API key, or {@code null}
+     * @param address the caller's address, the key when {@code apiKey} is not configured
+     * @return 0 when admitted, otherwise the nanoseconds until the call would be; a call of more permits
+     * than the tier's burst is never admitted and gets the time to refill the whole bucket
+     */
+    public long acquire(String apiKey, String address, int permits) {
+        Tier tier = apiKey == null ? null : tiersByApiKey.get(apiKey);
+        long wait = tier == null
+                ? acquire(byAddress, address, defaultTier, permits)
+                : acquire(byApiKey, apiKey, tier, permits);
+        if (wait > 0) {
+            rejections.increment();
+        }
+        return wait;
+    }
+
+    /**
+     * The most permits one call of the caller can ever be admitted for: its tier's burst. Callers that
+     * charge by size use it to refuse a call outright rather than with a {@code Retry-After} that never helps.
+     */
+    public long burst(String apiKey) {
+        Tier tier = apiKey == null ? null : tiersByApiKey.get(apiKey);
+        return (tier == null ? defaultTier : tier).burst();
+    }
+
+    private long acquire(ConcurrentHashMap<String, Bucket> buckets, String client, Tier tier, int permits) {
+        long now = now();
+        long interval = tier.intervalNanos();
+        long tolerance = tier.burst() * interval;
+        long cost = permits * interval;
+        while (true) {
+            Bucket bucket = buckets.get(client);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(client, key -> new Bucket(now - tolerance, tolerance));
+            }
+            long tat = bucket.tat;
+            if (tat == EVICTED) {
+                buckets.remove(client, bucket);
+                continue;
+            }
+            long next = Math.max(tat, now - tolerance) + cost;
+            if (next - now > 0) {
+                return permits > tier.burst() ? tolerance : next - now;
+            }
+            if (Bucket.TAT.compareAndSet(bucket, tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops the buckets that have been full for at least {@code idleTimeout}.
+     *
+     * @return the number of buckets dropped
+     */
+    public int evictIdle() {
+        long now = now();
+        return evictIdle(byApiKey, now) + evictIdle(byAddress, now);
+    }
+
+    private int evictIdle(ConcurrentHashMap<String, Bucket> buckets, long now) {
+        int evicted = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long tat = bucket.tat;
+            if (tat != EVICTED && now - tat - bucket.tolerance >= idleNanos && Bucket.TAT.compareAndSet(bucket, tat, EVICTED)) {
+                buckets.remove(entry.getKey(), bucket);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /** {@code Retry-After} for a refusal: whole seconds, rounded up, at least one. */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+    }
+
+    /** Clients with a bucket. */
+    public int clients() {
+        return byApiKey.size() + byAddress.size();
+    }
+
+    /** Calls refused so far. */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /** Nanoseconds since construction, so that no live value collides with {@link #EVICTED}. */
+    private long now() {
+        return nanoClock.getAsLong() - origin;
+    }
+
+    /**
+     * The theoretical arrival time: the bucket holds {@code (now - tat) / interval} tokens, capped at the
+     * burst, and is full once {@code tat} lies {@code tolerance}, a burst of intervals, in the past.
+     */
+    private static final class Bucket {
+        static final VarHandle TAT;
+
+        static {
+            try {
+                TAT = MethodHandles.lookup().findVarHandle(Bucket.class, "tat", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final long tolerance;
+        volatile long tat;
+
+        Bucket(long tat, long tolerance) {
+            this.tat = tat;
+            this.tolerance = tolerance;
+        }
+    }
+}
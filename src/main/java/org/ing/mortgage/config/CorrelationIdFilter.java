@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,13 +15,26 @@ import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Puts the request's correlation id in the MDC for every thread that serves it. The id is kept as a
+ * request attribute, so async dispatches, which may run on another thread (virtual or not), restore
+ * it; tasks handed to the application task executor get it from {@link MdcTaskDecorator}. The
+ * completion line is logged once, when the last dispatch ends.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 public class CorrelationIdFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(CorrelationIdFilter.class);
 
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-    private static final String CORRELATION_ID_MDC_KEY = "CorrelationId";
+    static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    static final String CORRELATION_ID_MDC_KEY = "CorrelationId";
+    private static final String CORRELATION_ID_ATTRIBUTE = CorrelationIdFilter.class.getName() + ".correlationId";
+    private static final String START_ATTRIBUTE = CorrelationIdFilter.class.getName() + ".start";
 
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -28,32 +42,41 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        String correlationId = Optional.ofNullable(request.getHeader(CORRELATION_ID_HEADER))
-                .orElse(UUID.randomUUID().toString());
+        String correlationId = (String) request.getAttribute(CORRELATION_ID_ATTRIBUTE);
+        if (correlationId == null) {
+            correlationId = Optional.ofNullable(request.getHeader(CORRELATION_ID_HEADER))
+                    .orElse(UUID.randomUUID().toString());
+            request.setAttribute(CORRELATION_ID_ATTRIBUTE, correlationId);
+            request.setAttribute(START_ATTRIBUTE, System.currentTimeMillis());
+            response.setHeader(CORRELATION_ID_HEADER, correlationId);
+        }
 
         MDC.put(CORRELATION_ID_MDC_KEY, correlationId);
-        response.setHeader(CORRELATION_ID_HEADER, correlationId);
-        long start = System.currentTimeMillis();
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - start;
-            int status = response.getStatus();
-            String message = String.format("request.completed method=%s path=%s status=%d durationMs=%d",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    status,
-                    duration);
-
-            if (status >= 500) {
-                log.error(message);
-            } else if (status >= 400) {
-                log.warn(message);
-            } else {
-                log.info(message);
+            if (!request.isAsyncStarted()) {
+                logCompletion(request, response);
             }
-
             MDC.clear();
         }
     }
+
+    private static void logCompletion(HttpServletRequest request, HttpServletResponse response) {
+        long duration = System.currentTimeMillis() - (long) request.getAttribute(START_ATTRIBUTE);
+        int status = response.getStatus();
+        String message = String.format("request.completed method=%s path=%s status=%d durationMs=%d",
+                request.getMethod(),
+                request.getRequestURI(),
+                status,
+                duration);
+
+        if (status >= 500) {
+            log.error(message);
+        } else if (status >= 400) {
+            log.warn(message);
+        } else {
+            log.info(message);
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package org.ing.mortgage.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Runs tasks of the application task executor (async MVC handlers, {@code @Async}) with the MDC of
+ * the thread that submitted them, so their log lines carry the request's correlation id. Spring Boot
+ * applies it to the executor in both thread modes: pooled platform threads, and a virtual thread per
+ * task with {@code spring.threads.virtual.enabled}.
+ */
+@Component
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context == null) {
+                MDC.clear();
+            } else {
+                MDC.setContextMap(context);
+            }
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package org.ing.mortgage.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting of {@code /api/**}, configured under {@code mortgage.ratelimit}: the
+ * {@link ClientRateLimiter}, a daemon thread that evicts idle clients every half {@code idleTimeout},
+ * and on the servlet stack the {@link RateLimitInterceptor}; the reactive stack uses
+ * {@link ReactiveRateLimitFilter}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RateLimitConfiguration implements DisposableBean {
+    private final ScheduledExecutorService eviction = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("rate-limit-eviction").factory());
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter(RateLimitProperties rateLimitProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        ClientRateLimiter limiter = new ClientRateLimiter(rateLimitProperties.tiersByApiKey(),
+                rateLimitProperties.tier(rateLimitProperties.getDefaultTier()), rateLimitProperties.getIdleTimeout());
+        long period = Math.max(Duration.ofSeconds(1).toMillis(), rateLimitProperties.getIdleTimeout().toMillis() / 2);
+        eviction.scheduleWithFixedDelay(limiter::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("mortgage.ratelimit.clients", limiter, ClientRateLimiter::clients)
+                    .description("Clients with a rate limit bucket")
+                    .register(registry);
+            FunctionCounter.builder("mortgage.ratelimit.rejections", limiter, ClientRateLimiter::rejections)
+                    .description("Requests refused with 429")
+                    .register(registry);
+        });
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public RateLimitInterceptor rateLimitInterceptor(ClientRateLimiter clientRateLimiter,
+                                                     RateLimitProperties rateLimitProperties,
+                                                     ObjectMapper objectMapper) {
+        return new RateLimitInterceptor(clientRateLimiter, rateLimitProperties, objectMapper);
+    }
+
+    /** Picked up by Spring MVC for every handler mapping. */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappedInterceptor rateLimitMappedInterceptor(RateLimitInterceptor rateLimitInterceptor) {
+        return new MappedInterceptor(new String[]{"/api/**"}, rateLimitInterceptor);
+    }
+
+    @Override
+    public void destroy() {
+        eviction.shutdownNow();
+    }
+}
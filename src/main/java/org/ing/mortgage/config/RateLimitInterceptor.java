@@ -0,0 +1,63 @@
+package org.ing.mortgage.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ing.mortgage.exception.ApiError;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Charges handlers marked {@link RateLimited} to the caller's bucket, keyed by the API key header or
+ * else the remote address. A refused call is answered here with 429, {@code Retry-After} and the usual
+ * error body, without an exception, so a flood of refusals costs no stack traces.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final ClientRateLimiter clientRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST
+                || !(handler instanceof HandlerMethod method)
+                || !method.hasMethodAnnotation(RateLimited.class)) {
+            return true;
+        }
+        return admit(request, response, 1);
+    }
+
+    /** The most permits {@link #admit} can grant the caller in one call, see {@link ClientRateLimiter#burst}. */
+    public long maxPermits(HttpServletRequest request) {
+        return clientRateLimiter.burst(request.getHeader(rateLimitProperties.getApiKeyHeader()));
+    }
+
+    /**
+     * Takes {@code permits} from the caller's bucket, for handlers that charge by the size of the body.
+     *
+     * @return whether the call may proceed; if not, the 429 has been written
+     */
+    public boolean admit(HttpServletRequest request, HttpServletResponse response, int permits) throws IOException {
+        long wait = clientRateLimiter.acquire(request.getHeader(rateLimitProperties.getApiKeyHeader()),
+                request.getRemoteAddr(), permits);
+        if (wait == 0) {
+            return true;
+        }
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ClientRateLimiter.retryAfterSeconds(wait)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiError(status.value(), status.getReasonPhrase(),
+                "Too many requests", List.of(), request.getRequestURI()));
+        return false;
+    }
+}
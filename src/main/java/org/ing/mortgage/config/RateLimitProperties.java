@@ -0,0 +1,64 @@
+package org.ing.mortgage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mortgage.ratelimit")
+public class RateLimitProperties {
+    /** Header carrying the caller's API key. */
+    private String apiKeyHeader = "X-API-Key";
+    /** A client whose bucket has been full this long is forgotten. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    /** Tier of callers without a configured API key, limited per address. */
+    private String defaultTier = "anonymous";
+    private Map<String, Quota> tiers = new LinkedHashMap<>(Map.of("anonymous", new Quota()));
+    private List<ApiKey> apiKeys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Quota {
+        private long limit = 15;
+        private Duration period = Duration.ofMinutes(1);
+        /** Permits that can be spent at once; {@code limit} when not set. */
+        private Long burst;
+    }
+
+    @Getter
+    @Setter
+    public static class ApiKey {
+        private String key;
+        private String tier;
+    }
+
+    ClientRateLimiter.Tier tier(String name) {
+        Quota quota = tiers.get(name);
+        if (quota == null) {
+            throw new IllegalArgumentException("Unknown rate limit tier '" + name + "', configured: " + tiers.keySet());
+        }
+        return new ClientRateLimiter.Tier(name, quota.getLimit(), quota.getPeriod(),
+                quota.getBurst() == null ? quota.getLimit() : quota.getBurst());
+    }
+
+    /** Keys left empty, e.g. an unset environment variable, are skipped. */
+    Map<String, ClientRateLimiter.Tier> tiersByApiKey() {
+        Map<String, ClientRateLimiter.Tier> tiersByApiKey = new HashMap<>();
+        for (ApiKey apiKey : apiKeys) {
+            if (apiKey.getKey() != null && !apiKey.getKey().isBlank()) {
+                tiersByApiKey.put(apiKey.getKey(), tier(apiKey.getTier()));
+            }
+        }
+        return tiersByApiKey;
+    }
+}
@@ -0,0 +1,17 @@
+package org.ing.mortgage.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Charges one permit of the caller's bucket in {@link ClientRateLimiter} before the handler runs;
+ * a refused call gets a 429 from {@link RateLimitInterceptor} and never reaches the handler.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+}
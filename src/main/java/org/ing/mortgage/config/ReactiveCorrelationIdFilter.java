@@ -0,0 +1,75 @@
+package org.ing.mortgage.config;
+
+import io.micrometer.context.ContextRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.ing.mortgage.config.CorrelationIdFilter.CORRELATION_ID_HEADER;
+import static org.ing.mortgage.config.CorrelationIdFilter.CORRELATION_ID_MDC_KEY;
+
+/**
+ * {@link CorrelationIdFilter} for the reactive stack. A request has no thread of its own there, so the
+ * correlation id travels in the Reactor {@link Context} under the MDC key; the registered accessor lets
+ * Reactor's automatic context propagation ({@code spring.reactor.context-propagation=auto}) copy it
+ * into the MDC of whichever event-loop or worker thread runs the request's operators.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCorrelationIdFilter implements WebFilter {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCorrelationIdFilter.class);
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CORRELATION_ID_MDC_KEY,
+                () -> MDC.get(CORRELATION_ID_MDC_KEY),
+                correlationId -> MDC.put(CORRELATION_ID_MDC_KEY, correlationId),
+                () -> MDC.remove(CORRELATION_ID_MDC_KEY));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = Optional.ofNullable(exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER))
+                .orElseGet(() -> UUID.randomUUID().toString());
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        long start = System.currentTimeMillis();
+        return chain.filter(exchange)
+                .doFinally(signal -> logCompletion(exchange, correlationId, start))
+                .contextWrite(Context.of(CORRELATION_ID_MDC_KEY, correlationId));
+    }
+
+    private static void logCompletion(ServerWebExchange exchange, String correlationId, long start) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode == null ? 200 : statusCode.value();
+        String message = String.format("request.completed method=%s path=%s status=%d durationMs=%d",
+                request.getMethod(),
+                request.getPath().value(),
+                status,
+                System.currentTimeMillis() - start);
+
+        try (MDC.MDCCloseable ignored = MDC.putCloseable(CORRELATION_ID_MDC_KEY, correlationId)) {
+            if (status >= 500) {
+                log.error(message);
+            } else if (status >= 400) {
+                log.warn(message);
+            } else {
+                log.info(message);
+            }
+        }
+    }
+}
@@ -1,33 +1,97 @@
 package org.ing.mortgage.config;
 
-import lombok.RequiredArgsConstructor;
-import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.ing.mortgage.ports.RateSnapshotStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Publishes the initial rates: when the rate store is persistent and already holds rates, those are
+ * republished to the listeners without a new version, else the last snapshot saved by a
+ * {@link RateSnapshotStore} when one is configured and its file is intact, otherwise
+ * {@code mortgage.startup.rates}. The time taken is recorded once under
+ * {@code mortgage.rates.startup.load}, tagged with the {@code source} used.
+ */
 @Component
-@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class StartupDataLoader implements ApplicationRunner {
     private static final Logger log = LoggerFactory.getLogger(StartupDataLoader.class);
 
-    private final InMemoryInterestRateRepository interestRateRepository;
+    private final InterestRateRepository interestRateRepository;
     private final RateProperties rateProperties;
+    private final ObjectProvider<RateSnapshotStore> snapshotStore;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public StartupDataLoader(InterestRateRepository interestRateRepository, RateProperties rateProperties) {
+        this(interestRateRepository, rateProperties, null, null);
+    }
+
+    @Autowired
+    public StartupDataLoader(InterestRateRepository interestRateRepository, RateProperties rateProperties,
+                             ObjectProvider<RateSnapshotStore> snapshotStore, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.interestRateRepository = interestRateRepository;
+        this.rateProperties = rateProperties;
+        this.snapshotStore = snapshotStore;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
         log.info("Startup Loader initializing");
-        var list = rateProperties.getRates().stream()
+        long start = System.nanoTime();
+        String source = "none";
+        if (!interestRateRepository.findAll().isEmpty()) {
+            log.info("Rates already stored, republishing them instead of the startup rates");
+            interestRateRepository.republish();
+            source = "store";
+        } else {
+            Optional<RateSnapshot> saved = snapshotStore == null ? Optional.empty()
+                    : Optional.ofNullable(snapshotStore.getIfAvailable()).flatMap(RateSnapshotStore::load);
+            if (saved.isPresent() && !saved.get().rates().isEmpty()) {
+                log.info("Rates will be restored from snapshot version={} publishedAt={}", saved.get().version(), saved.get().publishedAt());
+                interestRateRepository.saveRates(saved.get().rates());
+                source = "snapshot";
+            } else {
+                var list = fromProperties();
+                if (!list.isEmpty()) {
+                    log.info("Rates will be saved");
+                    interestRateRepository.saveRates(list);
+                    source = "properties";
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        log.info("rates.startup.loaded source={} rates={} durationMicros={}",
+                source, interestRateRepository.findAll().size(), TimeUnit.NANOSECONDS.toMicros(elapsed));
+        MeterRegistry registry = meterRegistry == null ? null : meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder("mortgage.rates.startup.load")
+                    .description("Time to publish the initial rates at startup")
+                    .tag("source", source)
+                    .register(registry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<InterestRate> fromProperties() {
+        return rateProperties.getRates().stream()
                 .map(r -> new InterestRate(r.maturityPeriod(), r.interestRate(), Instant.now()))
                 .toList();
-        if (!list.isEmpty()) {
-            log.info("Rates will be saved");
-            interestRateRepository.saveRates(list);
-        }
     }
 }
@@ -0,0 +1,6 @@
+package org.ing.mortgage.domain;
+
+import java.math.BigDecimal;
+
+public record AmortizationRow(int month, BigDecimal payment, BigDecimal interest, BigDecimal principal, BigDecimal remainingBalance) {
+}
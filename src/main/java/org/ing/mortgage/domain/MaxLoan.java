@@ -0,0 +1,10 @@
+package org.ing.mortgage.domain;
+
+import java.math.BigDecimal;
+
+public record MaxLoan(int maturityPeriod, BigDecimal interestRate, BigDecimal maxLoanValue, BigDecimal monthlyCost, Limit limitedBy) {
+    /** The constraint that determined the maximum loan. */
+    public enum Limit {
+        INCOME, HOME_VALUE, BUDGET
+    }
+}
@@ -0,0 +1,13 @@
+package org.ing.mortgage.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Monthly cost for every maturity, rate shift and loan amount, computed from one rate publication.
+ * {@code monthlyCosts} of each row are in the order of {@code loanValues}.
+ */
+public record RateGrid(long rateVersion, List<BigDecimal> loanValues, List<Row> rows) {
+    public record Row(int maturityPeriod, int shiftBasisPoints, BigDecimal interestRate, List<BigDecimal> monthlyCosts) {
+    }
+}
@@ -0,0 +1,67 @@
+package org.ing.mortgage.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, complete set of interest rates as published by a rate store. {@code version} increases
+ * with every publication of the same store, so it can be used as a cache key; {@code publishedAt} is
+ * the instant from which the rates were in effect.
+ */
+public record RateSnapshot(long version, Instant publishedAt, List<InterestRate> rates, Map<Integer, InterestRate> byMaturity) {
+    public static final RateSnapshot EMPTY = new RateSnapshot(0, Instant.EPOCH, List.of(), Map.of());
+
+    /** Builds a snapshot from the given rates; a later rate for the same maturity replaces an earlier one. */
+    public static RateSnapshot of(long version, Instant publishedAt, Collection<InterestRate> rates) {
+        Map<Integer, InterestRate> byMaturity = new HashMap<>();
+        for (var rate : rates) {
+            byMaturity.put(rate.maturityPeriod(), rate);
+        }
+        List<InterestRate> sorted = new ArrayList<>(byMaturity.values());
+        sorted.sort(Comparator.comparing(InterestRate::maturityPeriod, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new RateSnapshot(version, publishedAt, List.copyOf(sorted), Collections.unmodifiableMap(byMaturity));
+    }
+
+    public static RateSnapshot of(long version, Collection<InterestRate> rates) {
+        return of(version, Instant.now(), rates);
+    }
+
+    /** The publication following this one: next version, published now but always after this one. */
+    public RateSnapshot next(Collection<InterestRate> rates) {
+        Instant now = Instant.now();
+        return of(version + 1, now.isAfter(publishedAt) ? now : publishedAt.plusNanos(1), rates);
+    }
+
+    /**
+     * Identifies this publication across processes: the version plus a digest of the published rates.
+     * The version alone restarts with every store, so two nodes, or one node before and after a
+     * restart, may publish different rates under the same version.
+     */
+    public String tag() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (InterestRate rate : rates) {
+                digest.update((rate.maturityPeriod() + ":" + rate.interestRate() + ":" + rate.lastUpdate() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            return version + "-" + HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** @return the rate for the maturity, or {@code null} when none is published */
+    public InterestRate find(int maturityPeriod) {
+        return byMaturity.get(maturityPeriod);
+    }
+}
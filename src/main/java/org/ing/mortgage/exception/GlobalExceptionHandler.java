@@ -3,8 +3,11 @@ package org.ing.mortgage.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +16,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.Collections;
 import java.util.List;
 
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ControllerAdvice
 public class GlobalExceptionHandler {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -25,11 +29,26 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Validation failed", details, req);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiError> handleNotReadable(HttpMessageNotReadableException ex, HttpServletRequest req){
+        return buildResponse(HttpStatus.BAD_REQUEST, "Malformed request body", List.of(ex.getMostSpecificCause().getMessage()), req);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiError> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest req){
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), Collections.emptyList(), req);
     }
 
+    /** 412 with the current version as {@code ETag}, so the client can re-read and retry. */
+    @ExceptionHandler(RateVersionConflictException.class)
+    public ResponseEntity<ApiError> handleRateVersionConflict(RateVersionConflictException ex, HttpServletRequest req){
+        ResponseEntity<ApiError> response = buildResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), Collections.emptyList(), req);
+        return ResponseEntity.status(response.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(ex.getCurrentTag())
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ApiError> handleResponseStatusException(ResponseStatusException ex, HttpServletRequest req){
         return buildResponse(HttpStatus.resolve(ex.getStatusCode().value()), ex.getMessage(), Collections.emptyList(), req);
@@ -41,10 +60,14 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), Collections.emptyList(), req);
     }
 
+    /**
+     * Errors are JSON whatever the request accepts, so a client of a binary format (see
+     * {@code MortgageCheckBinary}) still gets a readable error instead of a 406 or an empty 500.
+     */
     private ResponseEntity<ApiError> buildResponse(HttpStatus httpStatus, String message, List<String> details, HttpServletRequest req) {
         log.error("ERROR: path={} message={} details={}", req.getRequestURI(), message, details);
         ApiError err = new ApiError(httpStatus.value(), httpStatus.getReasonPhrase(), message, details, req.getRequestURI());
-        return ResponseEntity.status(httpStatus).body(err);
+        return ResponseEntity.status(httpStatus).contentType(MediaType.APPLICATION_JSON).body(err);
     }
 
 }
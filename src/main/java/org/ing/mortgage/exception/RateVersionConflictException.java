@@ -0,0 +1,18 @@
+package org.ing.mortgage.exception;
+
+/**
+ * A conditional rate write was based on a publication that is no longer the latest one.
+ */
+public class RateVersionConflictException extends RuntimeException {
+    private final String currentTag;
+
+    public RateVersionConflictException(String expectedTag, String currentTag) {
+        super("Interest rates have changed: expected " + expectedTag + ", current " + currentTag);
+        this.currentTag = currentTag;
+    }
+
+    /** The {@link org.ing.mortgage.domain.RateSnapshot#tag() tag} of the latest publication. */
+    public String getCurrentTag() {
+        return currentTag;
+    }
+}
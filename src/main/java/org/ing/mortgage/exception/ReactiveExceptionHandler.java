@@ -0,0 +1,52 @@
+package org.ing.mortgage.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collections;
+import java.util.List;
+
+/** {@link GlobalExceptionHandler} for the reactive stack: the same {@link ApiError} bodies and statuses. */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ControllerAdvice
+public class ReactiveExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiError> handleValidation(WebExchangeBindException ex, ServerHttpRequest req){
+        List<String> details = ex.getBindingResult().getFieldErrors().stream()
+                .map(f -> f.getField() + ": " + f.getDefaultMessage())
+                .toList();
+        return buildResponse(HttpStatus.BAD_REQUEST, "Validation failed", details, req);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiError> handleIllegalArgument(IllegalArgumentException ex, ServerHttpRequest req){
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), Collections.emptyList(), req);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiError> handleResponseStatusException(ResponseStatusException ex, ServerHttpRequest req){
+        return buildResponse(HttpStatus.resolve(ex.getStatusCode().value()), ex.getMessage(), Collections.emptyList(), req);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiError> handleGeneric(Exception ex, ServerHttpRequest req){
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), Collections.emptyList(), req);
+    }
+
+    private ResponseEntity<ApiError> buildResponse(HttpStatus httpStatus, String message, List<String> details, ServerHttpRequest req) {
+        String path = req.getPath().value();
+        log.error("ERROR: path={} message={} details={}", path, message, details);
+        ApiError err = new ApiError(httpStatus.value(), httpStatus.getReasonPhrase(), message, details, path);
+        return ResponseEntity.status(httpStatus).body(err);
+    }
+}
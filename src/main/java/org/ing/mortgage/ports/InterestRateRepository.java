@@ -1,7 +1,9 @@
 package org.ing.mortgage.ports;
 
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +11,43 @@ public interface InterestRateRepository {
     List<InterestRate> findAll();
     Optional<InterestRate> findByMaturity(int years);
 
+    /** Like {@link #findByMaturity(int)} without the {@link Optional}, for hot paths. */
+    default InterestRate findByMaturityOrNull(int years) {
+        return findByMaturity(years).orElse(null);
+    }
+
+    /** The complete set of rates of the latest publication, with its version. */
+    RateSnapshot snapshot();
+
+    /**
+     * The publication that was in effect at {@code asOf}, or empty when nothing had been published yet.
+     *
+     * @throws IllegalArgumentException when the history for {@code asOf} is no longer retained
+     */
+    Optional<RateSnapshot> snapshotAsOf(Instant asOf);
+
+    default List<InterestRate> findAllAsOf(Instant asOf) {
+        return snapshotAsOf(asOf).map(RateSnapshot::rates).orElse(List.of());
+    }
+
+    default Optional<InterestRate> findByMaturityAsOf(int years, Instant asOf) {
+        return snapshotAsOf(asOf).map(s -> s.find(years));
+    }
+
+    /** Replaces all rates with a new publication. */
+    void saveRates(List<InterestRate> rates);
+
+    /**
+     * Like {@link #saveRates(List)}, but only while the latest publication still has {@code expectedVersion};
+     * the check and the swap are one atomic step.
+     *
+     * @return the new publication, or empty when another write came first
+     */
+    Optional<RateSnapshot> saveRatesIfVersion(long expectedVersion, List<InterestRate> rates);
+
+    /**
+     * Notifies the rate change listeners of the latest publication without making a new one, for rates
+     * a persistent store already held when the application started.
+     */
+    void republish();
 }
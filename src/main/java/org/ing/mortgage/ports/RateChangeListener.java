@@ -0,0 +1,21 @@
+package org.ing.mortgage.ports;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+
+import java.util.List;
+
+/**
+ * Notified by rate stores whenever a new set of interest rates has been published.
+ */
+public interface RateChangeListener {
+    void onRatesChanged(List<InterestRate> rates);
+
+    /**
+     * Called by stores that version their publications. Concurrent publications may be delivered out
+     * of order; listeners that cache by version should ignore a snapshot older than the one they hold.
+     */
+    default void onRatesChanged(RateSnapshot snapshot) {
+        onRatesChanged(snapshot.rates());
+    }
+}
@@ -0,0 +1,17 @@
+package org.ing.mortgage.ports;
+
+import org.ing.mortgage.domain.RateSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Durable copy of the latest rate publication, so rates changed at runtime survive a restart.
+ */
+public interface RateSnapshotStore {
+    /**
+     * @return the last saved snapshot, or empty when none was saved or it cannot be read back intact
+     */
+    Optional<RateSnapshot> load();
+
+    void save(RateSnapshot snapshot);
+}
@@ -0,0 +1,16 @@
+-- Rate store of JdbcInterestRateRepository: one row per publication, its rates keyed by version.
+CREATE TABLE IF NOT EXISTS rate_publication (
+    version      BIGINT PRIMARY KEY,
+    published_at TIMESTAMP(9) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS rate_publication_published_at ON rate_publication (published_at);
+
+CREATE TABLE IF NOT EXISTS interest_rate (
+    version         BIGINT NOT NULL REFERENCES rate_publication (version),
+    maturity_period INT,
+    interest_rate   DECFLOAT,
+    last_update     TIMESTAMP(9) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS interest_rate_version ON interest_rate (version);
@@ -0,0 +1,48 @@
+package org.ing.mortgage.adapters.cli;
+
+import org.ing.mortgage.MortgageApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvBatchJobIT {
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("cli profile: scores the input file without a web server and leaves no thread that keeps the JVM alive")
+    void cliProfile_scoresFileAndExits() throws Exception {
+        Path in = Files.writeString(dir.resolve("in.csv"), """
+                income,maturityPeriod,loanValue,homeValue
+                60000,20,200000,250000
+                60000,31,200000,250000
+                """);
+        Path out = dir.resolve("out.csv");
+        Set<Thread> before = Thread.getAllStackTraces().keySet();
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(MortgageApplication.class,
+                "--spring.profiles.active=cli", "--mortgage.cli.input=" + in, "--mortgage.cli.output=" + out)) {
+            assertFalse(context instanceof WebServerApplicationContext);
+            assertEquals(List.of(
+                    "income,maturityPeriod,loanValue,homeValue,feasible,monthlyCost,error",
+                    "60000,20,200000,250000,true,1265.30,",
+                    "60000,31,200000,250000,,,Validation failed: maturityPeriod: Maturity Period must be between 1 and 30 years"),
+                    Files.readAllLines(out));
+            List<String> keepingAlive = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.isAlive() && !thread.isDaemon() && !before.contains(thread))
+                    .map(Thread::getName)
+                    .toList();
+            assertEquals(List.of(), keepingAlive);
+        }
+    }
+}
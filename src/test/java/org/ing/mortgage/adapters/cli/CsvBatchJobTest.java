@@ -0,0 +1,115 @@
+package org.ing.mortgage.adapters.cli;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.validation.Validation;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.DecimalMortgageEngine;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvBatchJobTest {
+    @TempDir
+    Path dir;
+
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final DecimalMortgageEngine engine = new DecimalMortgageEngine(mortgageService, table);
+    private final CsvBatchJob job = new CsvBatchJob(engine, new MortgageBatchEngine(engine, table),
+            Validation.buildDefaultValidatorFactory().getValidator());
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(MortgageService.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        ReflectionTestUtils.setField(job, "chunkBytes", 256);
+        table.onRatesChanged(List.of(
+                new InterestRate(10, new BigDecimal("3.8"), Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+        serviceLogger.setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("run: header is extended and rows keep input order across many chunks")
+    void run_preservesOrderAcrossChunks() throws IOException {
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        lines.add("income,maturityPeriod,loanValue,homeValue");
+        List<MortgageInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            var input = new MortgageInput(BigDecimal.valueOf(20_000 + random.nextInt(80_000)), random.nextBoolean() ? 10 : 20,
+                    BigDecimal.valueOf(50_000 + random.nextInt(300_000), 2 * random.nextInt(2)),
+                    BigDecimal.valueOf(100_000 + random.nextInt(300_000)));
+            inputs.add(input);
+            lines.add(input.income() + "," + input.maturityPeriod() + "," + input.loanValue() + "," + input.homeValue());
+        }
+        Path in = Files.write(dir.resolve("in.csv"), lines);
+        Path out = dir.resolve("out.csv");
+
+        var summary = job.run(in, out);
+
+        List<String> written = Files.readAllLines(out);
+        assertEquals(5_000, summary.rows());
+        assertEquals(5_001, written.size());
+        assertEquals("income,maturityPeriod,loanValue,homeValue,feasible,monthlyCost,error", written.get(0));
+        for (int i = 0; i < inputs.size(); i++) {
+            var result = engine.calculateMortgageCost(inputs.get(i));
+            String cost = result.monthlyCost() == null ? "" : result.monthlyCost().toPlainString();
+            assertEquals(lines.get(i + 1) + "," + result.feasible() + "," + cost + ",", written.get(i + 1));
+        }
+        assertTrue(summary.peakHeapBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("run: malformed, invalid rows and unknown maturities are reported per row without a header")
+    void run_reportsRowErrors() throws IOException {
+        Path in = Files.writeString(dir.resolve("in.csv"), """
+                60000,20,200000,250000\r
+                60000,abc,200000,250000
+                60000,15,200000,250000
+                60000,20,200000
+                0,20,-5,250000
+                60000,31,200000,250000
+
+                """);
+        Path out = dir.resolve("out.csv");
+
+        var summary = job.run(in, out);
+
+        List<String> written = Files.readAllLines(out);
+        assertEquals(6, summary.rows());
+        assertEquals("60000,20,200000,250000,true,1265.30,", written.get(0));
+        assertTrue(written.get(1).startsWith("60000,abc,200000,250000,,,"));
+        assertEquals("60000,15,200000,250000,,,No interest rate configured for maturity period=15years", written.get(2));
+        assertEquals("60000,20,200000,,,expected 4 columns", written.get(3));
+        assertEquals("0,20,-5,250000,,,Validation failed: income: Income must be greater than 0; loanValue: Loan Value must be greater than 0",
+                written.get(4));
+        assertEquals("60000,31,200000,250000,,,Validation failed: maturityPeriod: Maturity Period must be between 1 and 30 years",
+                written.get(5));
+    }
+}
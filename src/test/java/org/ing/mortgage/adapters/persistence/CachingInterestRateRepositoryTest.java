@@ -0,0 +1,157 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.CachingInterestRateRepository;
+import org.ing.mortgage.adapters.persistance.JdbcInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingInterestRateRepositoryTest {
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private EmbeddedDatabase database;
+    private JdbcInterestRateRepository jdbc;
+
+    @BeforeEach
+    void setUp() {
+        database = JdbcInterestRateRepositoryTest.h2();
+        jdbc = spy(new JdbcInterestRateRepository(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private static List<InterestRate> rates(String rate10) {
+        return List.of(new InterestRate(10, new BigDecimal(rate10), T0), new InterestRate(20, new BigDecimal("4.5"), T0));
+    }
+
+    @Test
+    @DisplayName("hits within the time to live do not touch the database")
+    void hit_withinTtl_servedFromMemory() {
+        var cached = new CachingInterestRateRepository(jdbc, Duration.ofMinutes(5));
+        cached.saveRates(rates("3.8"));
+        clearInvocations(jdbc);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(new BigDecimal("3.8"), cached.findByMaturityOrNull(10).interestRate());
+            assertNull(cached.findByMaturityOrNull(15));
+            assertNull(cached.findByMaturityOrNull(-1));
+        }
+        assertEquals(2, cached.findAll().size());
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    @DisplayName("own writes replace the cached publication immediately")
+    void write_replacesCacheImmediately() {
+        var cached = new CachingInterestRateRepository(jdbc, Duration.ofMinutes(5));
+        cached.saveRates(rates("3.8"));
+        RateSnapshot next = cached.saveRatesIfVersion(1, rates("3.9")).orElseThrow();
+
+        assertSame(next, cached.snapshot());
+        assertEquals(new BigDecimal("3.9"), cached.findByMaturityOrNull(10).interestRate());
+        assertTrue(cached.saveRatesIfVersion(1, rates("4.0")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("another node's write is seen once the time to live has expired; an unchanged version is not reloaded")
+    void expiry_checksVersionAndReloadsOnlyOnChange() throws InterruptedException {
+        var cached = new CachingInterestRateRepository(jdbc, Duration.ofMillis(20));
+        cached.saveRates(rates("3.8"));
+        RateSnapshot first = cached.snapshot();
+
+        Thread.sleep(30);
+        clearInvocations(jdbc);
+        assertSame(first, cached.snapshot());
+        verify(jdbc).currentVersion();
+        verify(jdbc, never()).snapshot();
+
+        new JdbcInterestRateRepository(database).saveRates(rates("4.1"));
+        assertEquals(new BigDecimal("3.8"), cached.findByMaturityOrNull(10).interestRate());
+        Thread.sleep(30);
+        assertEquals(new BigDecimal("4.1"), cached.findByMaturityOrNull(10).interestRate());
+        assertEquals(2, cached.snapshot().version());
+    }
+
+    @Test
+    @DisplayName("invalidate forces the next read to the database")
+    void invalidate_reloads() {
+        var cached = new CachingInterestRateRepository(jdbc, Duration.ofMinutes(5));
+        cached.saveRates(rates("3.8"));
+        new JdbcInterestRateRepository(database).saveRates(rates("4.1"));
+
+        cached.invalidate();
+
+        assertEquals(new BigDecimal("4.1"), cached.findByMaturityOrNull(10).interestRate());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("listeners are notified after the cache holds the new publication")
+    void write_notifiesListenersWithCacheUpdated() {
+        ObjectProvider<RateChangeListener> provider = mock(ObjectProvider.class);
+        var cached = new CachingInterestRateRepository(jdbc, provider, Duration.ofMinutes(5));
+        RateChangeListener listener = mock(RateChangeListener.class);
+        doAnswer(inv -> {
+            assertSame(inv.getArgument(0), cached.snapshot());
+            return null;
+        }).when(listener).onRatesChanged(any(RateSnapshot.class));
+        when(provider.orderedStream()).thenAnswer(inv -> Stream.of(listener));
+
+        cached.saveRates(rates("3.8"));
+
+        verify(listener).onRatesChanged(cached.snapshot());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("poll passes another node's publication to the listeners once, after the time to live has expired")
+    void poll_notifiesListenersOfNewerPublication() throws InterruptedException {
+        ObjectProvider<RateChangeListener> provider = mock(ObjectProvider.class);
+        RateChangeListener listener = mock(RateChangeListener.class);
+        when(provider.orderedStream()).thenAnswer(inv -> Stream.of(listener));
+        var cached = new CachingInterestRateRepository(jdbc, provider, Duration.ofMillis(20));
+        cached.saveRates(rates("3.8"));
+        clearInvocations(listener);
+
+        new JdbcInterestRateRepository(database).saveRates(rates("4.1"));
+        cached.poll();
+        verifyNoInteractions(listener);
+
+        Thread.sleep(30);
+        cached.poll();
+        Thread.sleep(30);
+        cached.poll();
+
+        verify(listener).onRatesChanged(argThat((RateSnapshot s) -> s.version() == 2));
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("poll logs a failing database instead of throwing, so the schedule survives")
+    void poll_survivesDatabaseFailure() throws InterruptedException {
+        var cached = new CachingInterestRateRepository(jdbc, Duration.ofMillis(20));
+        cached.saveRates(rates("3.8"));
+        database.shutdown();
+        Thread.sleep(30);
+
+        assertDoesNotThrow(cached::poll);
+    }
+}
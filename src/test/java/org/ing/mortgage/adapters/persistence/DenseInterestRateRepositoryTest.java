@@ -0,0 +1,112 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.DenseInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DenseInterestRateRepositoryTest {
+    private DenseInterestRateRepository repository;
+
+    @BeforeEach
+    void setUp(){ repository = new DenseInterestRateRepository();}
+
+    private InterestRate rate(Integer maturity){
+        return new InterestRate(maturity, new BigDecimal("3.5"), Instant.now());
+    }
+
+    @Test
+    void findAll_empty_returnsEmptyList(){
+        assertTrue(repository.findAll().isEmpty());
+        assertNull(repository.findByMaturityOrNull(5));
+    }
+
+    @Test
+    void saveRates_then_findAll_sortedAndPrecomputed(){
+        InterestRate r5 = rate(5);
+        InterestRate r10 = rate(10);
+        InterestRate r30 = rate(30);
+        repository.saveRates(List.of(r30, r5, r10));
+
+        assertEquals(List.of(r5, r10, r30), repository.findAll());
+        assertSame(repository.findAll(), repository.findAll());
+    }
+
+    @Test
+    void saveRates_then_findByMaturity_existingAndMissing(){
+        InterestRate r5 = rate(5);
+        repository.saveRates(List.of(r5, rate(10)));
+
+        assertSame(r5, repository.findByMaturityOrNull(5));
+        assertSame(r5, repository.findByMaturity(5).orElseThrow());
+        assertNull(repository.findByMaturityOrNull(6));
+        assertNull(repository.findByMaturityOrNull(11));
+        assertNull(repository.findByMaturityOrNull(-1));
+        assertTrue(repository.findByMaturity(31).isEmpty());
+    }
+
+    @Test
+    void saveRates_replacesPreviousRatesAndIncrementsVersion(){
+        repository.saveRates(List.of(rate(30)));
+        long first = repository.snapshot().version();
+        InterestRate r5 = rate(5);
+        repository.saveRates(List.of(r5));
+
+        assertEquals(first + 1, repository.snapshot().version());
+        assertNull(repository.findByMaturityOrNull(30));
+        assertEquals(List.of(r5), repository.findAll());
+    }
+
+    @Test
+    void saveRates_ratesWithoutMaturity_keptOutOfIndex(){
+        InterestRate unknown = rate(null);
+        repository.saveRates(List.of(unknown, rate(5)));
+
+        assertEquals(2, repository.findAll().size());
+        assertNotNull(repository.findByMaturityOrNull(5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveRates_notifiesListenersWithPublishedSnapshot(){
+        RateChangeListener listener = mock(RateChangeListener.class);
+        ObjectProvider<RateChangeListener> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(listener));
+        repository = new DenseInterestRateRepository(provider);
+
+        InterestRate r5 = rate(5);
+        repository.saveRates(List.of(r5));
+
+        ArgumentCaptor<RateSnapshot> captor = ArgumentCaptor.forClass(RateSnapshot.class);
+        verify(listener).onRatesChanged(captor.capture());
+        assertSame(repository.snapshot(), captor.getValue());
+        assertEquals(List.of(r5), captor.getValue().rates());
+    }
+
+    @Test
+    void saveRatesIfVersion_onlySwapsAtExpectedVersion(){
+        repository.saveRates(List.of(rate(10)));
+        RateSnapshot current = repository.snapshot();
+
+        assertTrue(repository.saveRatesIfVersion(current.version() - 1, List.of(rate(20))).isEmpty());
+        assertSame(current, repository.snapshot());
+
+        RateSnapshot next = repository.saveRatesIfVersion(current.version(), List.of(rate(20))).orElseThrow();
+        assertSame(next, repository.snapshot());
+        assertEquals(current.version() + 1, next.version());
+        assertNull(repository.findByMaturityOrNull(10));
+        assertNotNull(repository.findByMaturityOrNull(20));
+    }
+}
@@ -2,15 +2,20 @@ package org.ing.mortgage.adapters.persistence;
 
 import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class InMemoryInterestRateRepositoryTest {
     private InMemoryInterestRateRepository repository;
@@ -61,4 +66,76 @@ class InMemoryInterestRateRepositoryTest {
         repository.saveRates(List.of(mockRate(5)));
         assertTrue(repository.findByMaturity(10).isEmpty());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveRates_notifiesListenersWithPublishedRates(){
+        RateChangeListener listener = mock(RateChangeListener.class);
+        ObjectProvider<RateChangeListener> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenReturn(Stream.of(listener));
+        repository = new InMemoryInterestRateRepository(provider);
+
+        InterestRate r5 = mockRate(5);
+        repository.saveRates(List.of(r5));
+
+        ArgumentCaptor<RateSnapshot> captor = ArgumentCaptor.forClass(RateSnapshot.class);
+        verify(listener).onRatesChanged(captor.capture());
+        assertEquals(List.of(r5), captor.getValue().rates());
+        assertSame(repository.snapshot(), captor.getValue());
+    }
+
+    @Test
+    void saveRates_replacesPreviousRatesAndIncrementsVersion(){
+        repository.saveRates(List.of(mockRate(5), mockRate(10)));
+        long first = repository.snapshot().version();
+        InterestRate r20 = mockRate(20);
+        repository.saveRates(List.of(r20));
+
+        assertEquals(first + 1, repository.snapshot().version());
+        assertEquals(List.of(r20), repository.findAll());
+        assertTrue(repository.findByMaturity(5).isEmpty());
+    }
+
+    @Test
+    void findAll_sortedByMaturity(){
+        InterestRate r5 = mockRate(5);
+        InterestRate r10 = mockRate(10);
+        InterestRate r30 = mockRate(30);
+        repository.saveRates(List.of(r30, r5, r10));
+
+        assertEquals(List.of(r5, r10, r30), repository.findAll());
+    }
+
+    @Test
+    void saveRates_keepsHistoryForAsOfLookups(){
+        InterestRate old10 = mockRate(10);
+        repository.saveRates(List.of(old10));
+        RateSnapshot first = repository.snapshot();
+        InterestRate new10 = mockRate(10);
+        repository.saveRates(List.of(new10, mockRate(20)));
+        RateSnapshot second = repository.snapshot();
+
+        assertTrue(second.publishedAt().isAfter(first.publishedAt()));
+        assertTrue(repository.snapshotAsOf(first.publishedAt().minusNanos(1)).isEmpty());
+        assertEquals(List.of(old10), repository.findAllAsOf(first.publishedAt()));
+        assertSame(old10, repository.findByMaturityAsOf(10, second.publishedAt().minusNanos(1)).orElseThrow());
+        assertSame(new10, repository.findByMaturityAsOf(10, second.publishedAt()).orElseThrow());
+        assertTrue(repository.findByMaturityAsOf(20, first.publishedAt()).isEmpty());
+        assertSame(second, repository.snapshotAsOf(Instant.now()).orElseThrow());
+    }
+
+    @Test
+    void saveRatesIfVersion_onlySwapsAtExpectedVersion(){
+        repository.saveRates(List.of(mockRate(10)));
+        RateSnapshot current = repository.snapshot();
+
+        assertTrue(repository.saveRatesIfVersion(current.version() - 1, List.of(mockRate(20))).isEmpty());
+        assertSame(current, repository.snapshot());
+
+        RateSnapshot next = repository.saveRatesIfVersion(current.version(), List.of(mockRate(20))).orElseThrow();
+        assertSame(next, repository.snapshot());
+        assertEquals(current.version() + 1, next.version());
+        assertNull(repository.findByMaturityOrNull(10));
+        assertNotNull(repository.findByMaturityOrNull(20));
+    }
 }
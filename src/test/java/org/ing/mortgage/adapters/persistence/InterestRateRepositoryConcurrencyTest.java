@@ -0,0 +1,110 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.DenseInterestRateRepository;
+import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Readers run against concurrent publications of complete rate sets in which every maturity carries the
+ * generation number as its rate. A reader must never miss a maturity, never see two generations in one
+ * snapshot and never see the version go backwards.
+ */
+class InterestRateRepositoryConcurrencyTest {
+    private static final int MATURITIES = 30;
+    private static final int PUBLICATIONS = 20_000;
+    private static final int READERS = 4;
+    private static final int WRITERS = 2;
+
+    static Stream<InterestRateRepository> repositories() {
+        return Stream.of(new InMemoryInterestRateRepository(), new DenseInterestRateRepository());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositories")
+    @DisplayName("saveRates: concurrent readers only ever observe complete, increasing publications")
+    void concurrentReadersNeverSeePartialUpdates(InterestRateRepository repository) throws Exception {
+        repository.saveRates(generation(0));
+        AtomicBoolean publishing = new AtomicBoolean(true);
+        List<String> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int g = 1; g <= PUBLICATIONS; g++) {
+                    repository.saveRates(generation(g * WRITERS + writer));
+                }
+            }));
+        }
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            readers.add(new Thread(() -> {
+                await(start);
+                long lastVersion = -1;
+                while (publishing.get() && failures.isEmpty()) {
+                    for (int m = 1; m <= MATURITIES; m++) {
+                        if (repository.findByMaturity(m).isEmpty() || repository.findByMaturityOrNull(m) == null) {
+                            failures.add("missing maturity " + m);
+                        }
+                    }
+                    List<InterestRate> all = repository.findAll();
+                    if (all.size() != MATURITIES || all.stream().map(InterestRate::interestRate).distinct().count() != 1) {
+                        failures.add("inconsistent findAll: " + all.size() + " rates");
+                    }
+                    RateSnapshot snapshot = repository.snapshot();
+                    if (snapshot.version() < lastVersion) {
+                        failures.add("version went back from " + lastVersion + " to " + snapshot.version());
+                    }
+                    lastVersion = snapshot.version();
+                }
+            }));
+        }
+        threads.addAll(readers);
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : threads.subList(0, WRITERS)) {
+            writer.join(TimeUnit.SECONDS.toMillis(60));
+        }
+        publishing.set(false);
+        for (Thread reader : readers) {
+            reader.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertEquals(List.of(), failures);
+        assertEquals(1 + (long) WRITERS * PUBLICATIONS, repository.snapshot().version());
+    }
+
+    private static List<InterestRate> generation(int generation) {
+        BigDecimal rate = BigDecimal.valueOf(generation);
+        Instant now = Instant.now();
+        return IntStream.rangeClosed(1, MATURITIES).mapToObj(m -> new InterestRate(m, rate, now)).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
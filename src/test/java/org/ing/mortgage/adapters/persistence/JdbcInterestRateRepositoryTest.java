@@ -0,0 +1,142 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.JdbcInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JdbcInterestRateRepositoryTest {
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00.123456789Z");
+
+    private EmbeddedDatabase database;
+    private JdbcInterestRateRepository repository;
+
+    static EmbeddedDatabase h2() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("db/rates-schema.sql")
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        database = h2();
+        repository = new JdbcInterestRateRepository(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("empty database: no rates, version 0")
+    void empty() {
+        assertSame(RateSnapshot.EMPTY, repository.snapshot());
+        assertTrue(repository.findAll().isEmpty());
+        assertTrue(repository.findByMaturity(10).isEmpty());
+        assertEquals(0, repository.currentVersion());
+        assertTrue(repository.snapshotAsOf(Instant.now()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("saveRates then reads: rates and nanosecond instants round trip")
+    void saveRates_roundTrip() {
+        InterestRate r10 = new InterestRate(10, new BigDecimal("3.8"), T0);
+        InterestRate r5 = new InterestRate(5, new BigDecimal("3.5"), T0);
+        repository.saveRates(List.of(r10, r5));
+
+        assertEquals(List.of(r5, r10), repository.findAll());
+        assertEquals(r10, repository.findByMaturity(10).orElseThrow());
+        assertNull(repository.findByMaturityOrNull(20));
+        assertEquals(1, repository.snapshot().version());
+        assertEquals(1, repository.currentVersion());
+    }
+
+    @Test
+    @DisplayName("saveRates: each publication replaces the previous one and stays available as of its instant")
+    void saveRates_keepsHistory() throws InterruptedException {
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("3.5"), T0)));
+        RateSnapshot first = repository.snapshot();
+        Thread.sleep(2);
+        repository.saveRates(List.of(new InterestRate(10, new BigDecimal("3.8"), T0)));
+        RateSnapshot second = repository.snapshot();
+
+        assertEquals(first.version() + 1, second.version());
+        assertTrue(second.publishedAt().isAfter(first.publishedAt()));
+        assertNull(repository.findByMaturityOrNull(5));
+        assertEquals(first, repository.snapshotAsOf(first.publishedAt()).orElseThrow());
+        assertEquals(first, repository.snapshotAsOf(second.publishedAt().minusNanos(1)).orElseThrow());
+        assertEquals(second, repository.snapshotAsOf(second.publishedAt()).orElseThrow());
+        assertTrue(repository.snapshotAsOf(first.publishedAt().minusNanos(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("saveRatesIfVersion: only writes on top of the expected version")
+    void saveRatesIfVersion_onlyAtExpectedVersion() {
+        repository.saveRates(List.of(new InterestRate(10, new BigDecimal("3.8"), T0)));
+
+        assertTrue(repository.saveRatesIfVersion(0, List.of(new InterestRate(20, BigDecimal.ONE, T0))).isEmpty());
+        assertTrue(repository.saveRatesIfVersion(5, List.of(new InterestRate(20, BigDecimal.ONE, T0))).isEmpty());
+        assertEquals(1, repository.currentVersion());
+
+        RateSnapshot next = repository.saveRatesIfVersion(1, List.of(new InterestRate(20, BigDecimal.ONE, T0))).orElseThrow();
+        assertEquals(2, next.version());
+        assertEquals(next, repository.snapshot());
+    }
+
+    @Test
+    @DisplayName("concurrent writers on two repositories over one database: every version written exactly once")
+    void concurrentWriters_noLostPublications() throws Exception {
+        JdbcInterestRateRepository otherNode = new JdbcInterestRateRepository(database);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writes = IntStream.range(0, 40)
+                    .<Future<?>>mapToObj(i -> pool.submit(() -> (i % 2 == 0 ? repository : otherNode)
+                            .saveRates(List.of(new InterestRate(i % 30 + 1, BigDecimal.valueOf(i), T0)))))
+                    .toList();
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(40, repository.currentVersion());
+        assertEquals(1, otherNode.findAll().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("listeners are notified with the committed publication")
+    void saveRates_notifiesListeners() {
+        RateChangeListener listener = mock(RateChangeListener.class);
+        ObjectProvider<RateChangeListener> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(inv -> Stream.of(listener));
+        repository = new JdbcInterestRateRepository(database, provider);
+
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("3.5"), T0)));
+
+        verify(listener).onRatesChanged(repository.snapshot());
+    }
+}
@@ -0,0 +1,61 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.MortgageApplication;
+import org.ing.mortgage.adapters.persistance.CachingInterestRateRepository;
+import org.ing.mortgage.application.engine.MortgageEngine;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.ing.mortgage.ports.InterestRateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=" + JdbcRateStoreIT.URL)
+@ActiveProfiles("jdbc")
+class JdbcRateStoreIT {
+    static final String URL = "jdbc:h2:mem:rates-it;DB_CLOSE_DELAY=-1";
+    private static final MortgageInput INPUT = MortgageInput.builder()
+            .income(new BigDecimal("60000")).maturityPeriod(10)
+            .loanValue(new BigDecimal("200000")).homeValue(new BigDecimal("220000")).build();
+
+    @Autowired
+    private InterestRateRepository interestRateRepository;
+    @Autowired
+    private InterestRateService interestRateService;
+    @Autowired
+    private MortgageEngine mortgageEngine;
+
+    @Test
+    @DisplayName("jdbc profile: cached JDBC store with the startup rates in the embedded database")
+    void jdbcProfile_selectsCachedJdbcStore() {
+        assertInstanceOf(CachingInterestRateRepository.class, interestRateRepository);
+        assertEquals(0, new BigDecimal("3.8").compareTo(interestRateService.findByMaturity(10).orElseThrow().interestRate()));
+        assertEquals(1, interestRateService.getSnapshot().version());
+    }
+
+    @Test
+    @DisplayName("jdbc profile: a restarted instance prices with the rates already in the database, without a new version")
+    void restart_pricesWithStoredRates() {
+        MortgageResult expected = mortgageEngine.calculateMortgageCost(INPUT);
+
+        try (ConfigurableApplicationContext restarted = new SpringApplicationBuilder(MortgageApplication.class)
+                .profiles("jdbc")
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + URL,
+                        "--mortgage.startup.rates[0].maturityPeriod=10",
+                        "--mortgage.startup.rates[0].interestRate=9.9")) {
+            assertEquals(expected, restarted.getBean(MortgageEngine.class).calculateMortgageCost(INPUT));
+            assertEquals(1, restarted.getBean(InterestRateRepository.class).snapshot().version());
+        }
+    }
+}
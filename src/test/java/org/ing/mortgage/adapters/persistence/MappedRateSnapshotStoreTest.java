@@ -0,0 +1,113 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import org.ing.mortgage.adapters.persistance.MappedRateSnapshotStore;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MappedRateSnapshotStoreTest {
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private MappedRateSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("state").resolve("rates.bin");
+        store = new MappedRateSnapshotStore(file);
+    }
+
+    private static RateSnapshot snapshot(long version) {
+        return RateSnapshot.of(version, Instant.parse("2025-03-01T08:15:30.123456789Z"), List.of(
+                new InterestRate(5, new BigDecimal("3.50"), Instant.parse("2025-03-01T08:15:30Z")),
+                new InterestRate(30, new BigDecimal("4.123456789012345678901"), Instant.parse("2025-02-01T00:00:00Z")),
+                new InterestRate(10, new BigDecimal("0"), null)));
+    }
+
+    @Test
+    @DisplayName("save/load: round-trips version, instants and exact rate scale")
+    void saveThenLoad_roundTrips() {
+        RateSnapshot saved = snapshot(7);
+        store.save(saved);
+
+        RateSnapshot loaded = new MappedRateSnapshotStore(file).load().orElseThrow();
+
+        assertEquals(saved, loaded);
+        assertEquals(new BigDecimal("3.50"), loaded.find(5).interestRate());
+        assertFalse(Files.exists(file.resolveSibling("rates.bin.tmp")));
+    }
+
+    @Test
+    @DisplayName("load: a missing file is treated as absent")
+    void load_missingFile_empty() {
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("load: a flipped byte fails the checksum and is treated as absent")
+    void load_corruptFile_empty() throws Exception {
+        store.save(snapshot(1));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("load: a truncated or foreign file is treated as absent")
+    void load_truncatedOrForeignFile_empty() throws Exception {
+        store.save(snapshot(1));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 9));
+        assertTrue(store.load().isEmpty());
+
+        Files.writeString(file, "maturityPeriod,interestRate\n5,3.5\n");
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    @DisplayName("save: a publication older than the one written last is skipped")
+    void save_olderVersion_skipped() {
+        store.save(snapshot(3));
+        store.save(RateSnapshot.of(2, List.of(new InterestRate(5, BigDecimal.ONE, Instant.now()))));
+
+        assertEquals(3, store.load().orElseThrow().version());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("listener: every publication of a rate store is written and restored after a restart")
+    void publishedRates_survivesRestart() {
+        ObjectProvider<RateChangeListener> listeners = mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenAnswer(i -> Stream.of(store));
+        var repository = new InMemoryInterestRateRepository(listeners);
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("3.5"), Instant.now())));
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("3.7"), Instant.now()),
+                new InterestRate(20, new BigDecimal("4.1"), Instant.now())));
+
+        RateSnapshot restored = new MappedRateSnapshotStore(file).load().orElseThrow();
+
+        assertEquals(repository.snapshot().rates(), restored.rates());
+        assertEquals(repository.snapshot().version(), restored.version());
+    }
+}
@@ -0,0 +1,97 @@
+package org.ing.mortgage.adapters.persistence;
+
+import org.ing.mortgage.adapters.persistance.RateHistory;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateHistoryTest {
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+    /** Room for four single-rate snapshots; compaction keeps three. */
+    private static final long FOUR_SNAPSHOTS = 4 * (128 + 160);
+
+    private static RateSnapshot snapshot(long version, long day, String rate) {
+        Instant publishedAt = T0.plusSeconds(day * 86_400);
+        return RateSnapshot.of(version, publishedAt, List.of(new InterestRate(10, new BigDecimal(rate), publishedAt)));
+    }
+
+    @Test
+    @DisplayName("asOf: returns the publication in effect at the instant, empty before the first one")
+    void asOf_floorLookup() {
+        RateHistory history = new RateHistory(Long.MAX_VALUE);
+        RateSnapshot first = snapshot(1, 0, "3.0");
+        RateSnapshot second = snapshot(2, 10, "3.5");
+        history.record(first);
+        history.record(second);
+
+        assertTrue(history.asOf(T0.minusSeconds(1)).isEmpty());
+        assertSame(first, history.asOf(T0).orElseThrow());
+        assertSame(first, history.asOf(T0.plusSeconds(9 * 86_400)).orElseThrow());
+        assertSame(second, history.asOf(T0.plusSeconds(10 * 86_400)).orElseThrow());
+        assertSame(second, history.asOf(T0.plusSeconds(365 * 86_400)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("record: a publication at the same instant replaces an older version, never a newer one")
+    void record_sameInstant_keepsNewestVersion() {
+        RateHistory history = new RateHistory(Long.MAX_VALUE);
+        RateSnapshot newer = snapshot(2, 0, "3.5");
+        history.record(newer);
+        history.record(snapshot(1, 0, "3.0"));
+
+        assertEquals(1, history.size());
+        assertSame(newer, history.asOf(T0).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("compaction: publications repeating the previous rate values are merged first")
+    void compaction_mergesUnchangedPublications() {
+        RateHistory history = new RateHistory(FOUR_SNAPSHOTS);
+        RateSnapshot first = snapshot(1, 0, "3.0");
+        history.record(first);
+        history.record(snapshot(2, 1, "3.00"));
+        history.record(snapshot(3, 2, "3.0"));
+        history.record(snapshot(4, 3, "3.5"));
+        RateSnapshot latest = snapshot(5, 4, "4.0");
+        history.record(latest);
+
+        assertEquals(3, history.size());
+        assertSame(first, history.asOf(T0.plusSeconds(2 * 86_400)).orElseThrow());
+        assertEquals(4, history.asOf(T0.plusSeconds(3 * 86_400)).orElseThrow().version());
+        assertSame(latest, history.asOf(T0.plusSeconds(4 * 86_400)).orElseThrow());
+        assertTrue(history.asOf(T0.minusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("compaction: drops the oldest publications and rejects lookups before the horizon")
+    void compaction_dropsOldestAndRejectsLookupsBeforeHorizon() {
+        RateHistory history = new RateHistory(FOUR_SNAPSHOTS);
+        for (int day = 0; day < 5; day++) {
+            history.record(snapshot(day + 1, day, "3." + day));
+        }
+
+        assertEquals(3, history.size());
+        assertEquals(3, history.asOf(T0.plusSeconds(2 * 86_400)).orElseThrow().version());
+        var ex = assertThrows(IllegalArgumentException.class, () -> history.asOf(T0.plusSeconds(86_400)));
+        assertEquals("Rate history before 2025-01-03T00:00:00Z has been compacted", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("compaction: the latest publication is always retained")
+    void compaction_keepsLatestEvenOverBudget() {
+        RateHistory history = new RateHistory(1);
+        history.record(snapshot(1, 0, "3.0"));
+        RateSnapshot latest = snapshot(2, 1, "3.0");
+        history.record(latest);
+
+        assertEquals(1, history.size());
+        assertSame(latest, history.asOf(T0.plusSeconds(86_400)).orElseThrow());
+    }
+}
@@ -0,0 +1,119 @@
+package org.ing.mortgage.adapters.ratefile;
+
+import org.ing.mortgage.domain.Rate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateFileParserTest {
+
+    @Test
+    @DisplayName("YAML: accepts a 'rates' key like mortgage.startup.rates")
+    void parseYaml_ratesKey() {
+        List<Rate> rates = RateFileParser.parseYaml("""
+                rates:
+                  - maturityPeriod: 5
+                    interestRate: 3.5
+                  - maturityPeriod: 30
+                    interestRate: "4.25"
+                """);
+
+        assertEquals(List.of(new Rate(5, new BigDecimal("3.5")), new Rate(30, new BigDecimal("4.25"))), rates);
+    }
+
+    @Test
+    @DisplayName("YAML: accepts a top-level list")
+    void parseYaml_topLevelList() {
+        List<Rate> rates = RateFileParser.parseYaml("""
+                - {maturityPeriod: 10, interestRate: 0}
+                """);
+
+        assertEquals(List.of(new Rate(10, new BigDecimal("0"))), rates);
+    }
+
+    @Test
+    @DisplayName("CSV: skips header, blank lines and comments")
+    void parseCsv_headerAndComments() {
+        List<Rate> rates = RateFileParser.parseCsv("""
+                maturityPeriod,interestRate
+                # published by treasury
+                5, 3.5
+
+                20,4.5
+                """);
+
+        assertEquals(List.of(new Rate(5, new BigDecimal("3.5")), new Rate(20, new BigDecimal("4.5"))), rates);
+    }
+
+    @Test
+    @DisplayName("parse: picks the format from the file extension")
+    void parse_byExtension(@TempDir Path dir) throws Exception {
+        Path csv = Files.writeString(dir.resolve("rates.CSV"), "10,3.8\n");
+        Path yaml = Files.writeString(dir.resolve("rates.yaml"), "- {maturityPeriod: 10, interestRate: 3.8}\n");
+        Path txt = Files.writeString(dir.resolve("rates.txt"), "10,3.8\n");
+
+        assertEquals(List.of(new Rate(10, new BigDecimal("3.8"))), RateFileParser.parse(csv));
+        assertEquals(RateFileParser.parse(csv), RateFileParser.parse(yaml));
+        var ex = assertThrows(IllegalArgumentException.class, () -> RateFileParser.parse(txt));
+        assertEquals("Unsupported rate file type: rates.txt (expected .yml, .yaml or .csv)", ex.getMessage());
+    }
+
+    static Stream<Arguments> malformedCsv() {
+        return Stream.of(
+                Arguments.of("", "Rate file contains no rates"),
+                Arguments.of("maturityPeriod,interestRate\n", "Rate file contains no rates"),
+                Arguments.of("5,3.5\n5,3.6\n", "Duplicate maturityPeriod 5"),
+                Arguments.of("5,3.5,x\n", "line 1: expected maturityPeriod,interestRate"),
+                Arguments.of("5,3.5\n10;3.5\n", "line 2: expected maturityPeriod,interestRate"),
+                Arguments.of("5.5,3.5\n", "line 1: maturityPeriod must be a whole number of years"),
+                Arguments.of("5,abc\n", "line 1: interestRate must be a number"),
+                Arguments.of("31,3.5\n", "line 1: maturityPeriod must be between 1 and 30"),
+                Arguments.of("5,-0.1\n", "line 1: interestRate must be between 0 and 100"),
+                Arguments.of("5,\n", "line 1: interestRate must be a number")
+        );
+    }
+
+    @ParameterizedTest(name = "{index}: {1}")
+    @MethodSource("malformedCsv")
+    @DisplayName("CSV: any invalid row rejects the whole file")
+    void parseCsv_malformed(String content, String message) {
+        var ex = assertThrows(IllegalArgumentException.class, () -> RateFileParser.parseCsv(content));
+        assertEquals(message, ex.getMessage());
+    }
+
+    static Stream<Arguments> malformedYaml() {
+        return Stream.of(
+                Arguments.of("rates: 5", "Expected a list of rates or a 'rates' key holding one"),
+                Arguments.of("- 5", "rates[0]: expected maturityPeriod and interestRate"),
+                Arguments.of("- {maturityPeriod: 5}", "rates[0]: maturityPeriod and interestRate are required"),
+                Arguments.of("- {maturityPeriod: 5, interestRate: 101}", "rates[0]: interestRate must be between 0 and 100"),
+                Arguments.of("rates: []", "Rate file contains no rates")
+        );
+    }
+
+    @ParameterizedTest(name = "{index}: {1}")
+    @MethodSource("malformedYaml")
+    @DisplayName("YAML: any invalid entry rejects the whole file")
+    void parseYaml_malformed(String content, String message) {
+        var ex = assertThrows(IllegalArgumentException.class, () -> RateFileParser.parseYaml(content));
+        assertEquals(message, ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("YAML: syntax errors are reported as invalid files")
+    void parseYaml_syntaxError() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> RateFileParser.parseYaml("rates: [ {maturityPeriod: 5"));
+        assertTrue(ex.getMessage().startsWith("Malformed YAML: "));
+    }
+}
@@ -0,0 +1,213 @@
+package org.ing.mortgage.adapters.ratefile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateFileWatcherTest {
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private InMemoryInterestRateRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private RateFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = dir.resolve("rates.csv");
+        Files.writeString(file, "5,3.5\n10,3.8\n");
+        repository = new InMemoryInterestRateRepository();
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("9.9"), Instant.now())));
+        meterRegistry = new SimpleMeterRegistry();
+        watcher = new RateFileWatcher(repository, meterRegistry, file);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.destroy();
+    }
+
+    private long reloads(String outcome) {
+        return meterRegistry.get("mortgage.rates.reload").tag("outcome", outcome).timer().count();
+    }
+
+    private double failing() {
+        return meterRegistry.get("mortgage.rates.reload.failing").gauge().value();
+    }
+
+    @Test
+    @DisplayName("reload: publishes the file's rates in one swap and times the reload")
+    void reload_publishesRates() {
+        long version = repository.snapshot().version();
+
+        assertTrue(watcher.reload());
+
+        assertEquals(version + 1, repository.snapshot().version());
+        assertEquals(new BigDecimal("3.5"), repository.findByMaturityOrNull(5).interestRate());
+        assertEquals(new BigDecimal("3.8"), repository.findByMaturityOrNull(10).interestRate());
+        assertEquals(1, reloads("published"));
+        assertEquals(0, failing());
+        assertEquals(Status.UP, watcher.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("reload: unchanged rates are not republished")
+    void reload_unchanged_keepsVersion() throws Exception {
+        watcher.reload();
+        long version = repository.snapshot().version();
+        Files.writeString(file, "10,3.80\n5,3.5\n");
+
+        assertTrue(watcher.reload());
+
+        assertEquals(version, repository.snapshot().version());
+        assertEquals(1, reloads("unchanged"));
+    }
+
+    @Test
+    @DisplayName("reload: an unchanged file keeps rates written through the admin API, a changed one replaces them")
+    void reload_unchangedFile_keepsAdminWrites() throws Exception {
+        watcher.reload();
+        repository.saveRates(List.of(new InterestRate(5, new BigDecimal("3.4"), Instant.now()),
+                new InterestRate(10, new BigDecimal("3.8"), Instant.now())));
+        long version = repository.snapshot().version();
+        Files.writeString(file, "5,3.5\n10,3.8\n");
+
+        assertTrue(watcher.reload());
+
+        assertEquals(version, repository.snapshot().version());
+        assertEquals(new BigDecimal("3.4"), repository.findByMaturityOrNull(5).interestRate());
+
+        Files.writeString(file, "5,3.6\n10,3.8\n");
+        assertTrue(watcher.reload());
+
+        assertEquals(new BigDecimal("3.6"), repository.findByMaturityOrNull(5).interestRate());
+    }
+
+    @Test
+    @DisplayName("reload: a malformed file keeps the last good rates and flags metric and health until fixed")
+    void reload_malformed_keepsLastGoodRates() throws Exception {
+        watcher.reload();
+        var lastGood = repository.snapshot();
+        Files.writeString(file, "5,3.5\n10,oops\n");
+
+        assertFalse(watcher.reload());
+
+        assertSame(lastGood, repository.snapshot());
+        assertEquals(1, reloads("failed"));
+        assertEquals(1, failing());
+        var health = watcher.health();
+        assertEquals("DEGRADED", health.getStatus().getCode());
+        assertEquals("line 2: interestRate must be a number", health.getDetails().get("error"));
+
+        Files.writeString(file, "5,3.6\n10,3.9\n");
+        assertTrue(watcher.reload());
+
+        assertEquals(new BigDecimal("3.6"), repository.findByMaturityOrNull(5).interestRate());
+        assertEquals(0, failing());
+        assertEquals(Status.UP, watcher.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("reload: a missing file is reported like a malformed one")
+    void reload_missingFile() throws Exception {
+        Files.delete(file);
+        var lastGood = repository.snapshot();
+
+        assertFalse(watcher.reload());
+
+        assertSame(lastGood, repository.snapshot());
+        assertEquals(1, failing());
+    }
+
+    @Test
+    @DisplayName("watch: replacing the file publishes the new rates without a restart")
+    void watch_replacedFile_reloaded() throws Exception {
+        watcher.run(null);
+        assertEquals(new BigDecimal("3.5"), repository.findByMaturityOrNull(5).interestRate());
+
+        Path staged = Files.writeString(dir.resolve("rates.csv.tmp"), "5,4.1\n10,4.2\n");
+        Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (repository.findByMaturityOrNull(5).interestRate().compareTo(new BigDecimal("4.1")) != 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(new BigDecimal("4.1"), repository.findByMaturityOrNull(5).interestRate());
+        assertEquals(new BigDecimal("4.2"), repository.findByMaturityOrNull(10).interestRate());
+    }
+
+    @Test
+    @DisplayName("watch: a ConfigMap-style swap of the ..data symlink publishes the new rates")
+    void watch_swappedDataSymlink_reloaded() throws Exception {
+        Path mounted = Files.createDirectory(dir.resolve("configmap"));
+        Files.writeString(Files.createDirectory(mounted.resolve("..v1")).resolve("rates.csv"), "5,3.5\n10,3.8\n");
+        Files.createSymbolicLink(mounted.resolve("..data"), Path.of("..v1"));
+        Path linked = Files.createSymbolicLink(mounted.resolve("rates.csv"), Path.of("..data", "rates.csv"));
+        watcher.destroy();
+        watcher = new RateFileWatcher(repository, meterRegistry, linked);
+        watcher.run(null);
+        assertEquals(new BigDecimal("3.5"), repository.findByMaturityOrNull(5).interestRate());
+
+        Files.writeString(Files.createDirectory(mounted.resolve("..v2")).resolve("rates.csv"), "5,4.1\n10,4.2\n");
+        Path staged = Files.createSymbolicLink(mounted.resolve("..data_tmp"), Path.of("..v2"));
+        Files.move(staged, mounted.resolve("..data"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (repository.findByMaturityOrNull(5).interestRate().compareTo(new BigDecimal("4.1")) != 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(new BigDecimal("4.1"), repository.findByMaturityOrNull(5).interestRate());
+        assertEquals(new BigDecimal("4.2"), repository.findByMaturityOrNull(10).interestRate());
+    }
+
+    @Test
+    @DisplayName("run: a change written while the file is first loaded is picked up")
+    void run_changeDuringInitialLoad_reloaded() throws Exception {
+        var racing = new InMemoryInterestRateRepository() {
+            private boolean first = true;
+
+            @Override
+            public void saveRates(List<InterestRate> rates) {
+                super.saveRates(rates);
+                if (first) {
+                    first = false;
+                    try {
+                        Files.writeString(file, "5,4.1\n10,4.2\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        };
+        watcher.destroy();
+        watcher = new RateFileWatcher(racing, meterRegistry, file);
+        watcher.run(null);
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (racing.findByMaturityOrNull(5).interestRate().compareTo(new BigDecimal("4.1")) != 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(new BigDecimal("4.1"), racing.findByMaturityOrNull(5).interestRate());
+    }
+}
@@ -0,0 +1,215 @@
+package org.ing.mortgage.adapters.reactive;
+
+import org.ing.mortgage.adapters.web.MortgageControllerSupport;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.MortgageEngine;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.config.ClientRateLimiter;
+import org.ing.mortgage.config.RateLimitProperties;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.exception.ReactiveExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveMortgageController.class)
+@Import({MortgageControllerSupport.class, ReactiveExceptionHandler.class, RateLimitProperties.class})
+class ReactiveMortgageControllerIT {
+    private static final String REQUEST_JSON = """
+            {
+              "income": 60000.00,
+              "loanValue": 200000.00,
+              "homeValue": 220000.00,
+              "maturityPeriod": 30
+            }
+            """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockBean
+    private InterestRateService interestRateService;
+    @MockBean
+    private MortgageEngine mortgageEngine;
+    @MockBean
+    private AnnuityFactorTable annuityFactorTable;
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+    @Test
+    @DisplayName("GET /api/interest-rates: returns the DTOs sorted by maturityPeriod with the publication tag as ETag")
+    void getInterestRates_sortedAndMapped() {
+        RateSnapshot snapshot = RateSnapshot.of(4, List.of(
+                new InterestRate(30, new BigDecimal("5.25"), Instant.parse("2024-12-31T10:30:00Z")),
+                new InterestRate(null, new BigDecimal("4.25"), Instant.parse("2025-12-01T10:30:00Z")),
+                new InterestRate(10, new BigDecimal("3.75"), Instant.parse("2024-12-01T10:30:00Z"))));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
+
+        webTestClient.get().uri("/api/interest-rates").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("ETag", "\"" + snapshot.tag() + "\"")
+                .expectHeader().valueEquals("Cache-Control", "no-cache, public")
+                .expectHeader().exists("X-Correlation-Id")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].maturityPeriod").isEqualTo(10)
+                .jsonPath("$[0].interestRate").isEqualTo(3.75)
+                .jsonPath("$[0].lastUpdate").isEqualTo("2024-12-01T10:30:00Z")
+                .jsonPath("$[1].maturityPeriod").isEqualTo(30);
+
+        verifyNoInteractions(mortgageEngine);
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates: If-None-Match with the current ETag gets 304, gzip clients the compressed bytes")
+    void getInterestRates_conditionalAndGzip() throws Exception {
+        RateSnapshot snapshot = RateSnapshot.of(12, List.of(new InterestRate(10, new BigDecimal("3.75"), Instant.parse("2024-12-01T10:30:00Z"))));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
+
+        webTestClient.get().uri("/api/interest-rates").header("If-None-Match", "\"11-0\", W/\"" + snapshot.tag() + "\"").exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"" + snapshot.tag() + "\"")
+                .expectBody().isEmpty();
+
+        byte[] gzip = webTestClient.get().uri("/api/interest-rates").header("Accept-Encoding", "br, gzip;q=0.8").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Content-Encoding", "gzip")
+                .expectHeader().valueEquals("Vary", "Accept-Encoding")
+                .expectBody().returnResult().getResponseBodyContent();
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("[{\"maturityPeriod\":10,\"interestRate\":3.75,\"lastUpdate\":\"2024-12-01T10:30:00Z\"}]", json);
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates?asOf: serves the historic rates")
+    void getInterestRates_asOf() {
+        Instant asOf = Instant.parse("2025-01-01T00:00:00Z");
+        when(interestRateService.getAllRates(asOf)).thenReturn(List.of(new InterestRate(5, new BigDecimal("2.5"), asOf)));
+
+        webTestClient.get().uri("/api/interest-rates?asOf=2025-01-01T00:00:00Z").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].maturityPeriod").isEqualTo(5)
+                .jsonPath("$[0].interestRate").isEqualTo(2.5);
+
+        verify(interestRateService).getAllRates(asOf);
+        verify(interestRateService, never()).getSnapshot();
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: builds MortgageInput, delegates to engine, echoes the correlation id")
+    void mortgageCheck_happyPath() {
+        when(mortgageEngine.calculateMortgageCost(any()))
+                .thenReturn(new MortgageResult(true, new BigDecimal("1200.50")));
+
+        webTestClient.post().uri("/api/mortgage-check")
+                .header("X-Correlation-Id", "rx-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Correlation-Id", "rx-1")
+                .expectBody()
+                .jsonPath("$.feasible").isEqualTo(true)
+                .jsonPath("$.monthlyCost").isEqualTo(1200.50);
+
+        ArgumentCaptor<MortgageInput> captor = ArgumentCaptor.forClass(MortgageInput.class);
+        verify(mortgageEngine).calculateMortgageCost(captor.capture());
+        assertEquals(new BigDecimal("60000.00"), captor.getValue().income());
+        assertEquals(new BigDecimal("200000.00"), captor.getValue().loanValue());
+        assertEquals(new BigDecimal("220000.00"), captor.getValue().homeValue());
+        assertEquals(30, captor.getValue().maturityPeriod());
+        verifyNoInteractions(interestRateService);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: asOf evaluates against the rates in effect at that instant")
+    void mortgageCheck_asOf() {
+        Instant asOf = Instant.parse("2025-01-01T00:00:00Z");
+        RateSnapshot historic = RateSnapshot.of(3, List.of());
+        AnnuityFactorTable.Snapshot factors = mock(AnnuityFactorTable.Snapshot.class);
+        when(interestRateService.getSnapshotAsOf(asOf)).thenReturn(historic);
+        when(annuityFactorTable.snapshotOf(historic)).thenReturn(factors);
+        when(mortgageEngine.calculateMortgageCost(any(), eq(factors)))
+                .thenReturn(new MortgageResult(false, new BigDecimal("900.00")));
+
+        webTestClient.post().uri("/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST_JSON.replace("\"maturityPeriod\": 30", "\"maturityPeriod\": 30, \"asOf\": \"2025-01-01T00:00:00Z\""))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.feasible").isEqualTo(false)
+                .jsonPath("$.monthlyCost").isEqualTo(900.00);
+
+        verify(mortgageEngine, never()).calculateMortgageCost(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: validation errors are 400 ApiErrors")
+    void mortgageCheck_invalid_badRequest() {
+        webTestClient.post().uri("/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST_JSON.replace("60000.00", "-1"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Validation failed")
+                .jsonPath("$.details[0]").isEqualTo("income: Income must be greater than 0")
+                .jsonPath("$.path").isEqualTo("/api/mortgage-check");
+
+        verifyNoInteractions(mortgageEngine);
+    }
+
+    @Test
+    @DisplayName("ReactiveRateLimitFilter: requests beyond the client's limit get 429 with Retry-After and never reach the services")
+    void rateLimited_tooManyRequests() {
+        when(clientRateLimiter.acquire(any(), any(), anyInt())).thenReturn(0L, Duration.ofSeconds(30).toNanos());
+        when(mortgageEngine.calculateMortgageCost(any()))
+                .thenReturn(new MortgageResult(true, new BigDecimal("1200.50")));
+
+        webTestClient.post().uri("/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST_JSON)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.post().uri("/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(REQUEST_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "30")
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Too many requests")
+                .jsonPath("$.path").isEqualTo("/api/mortgage-check");
+        webTestClient.get().uri("/api/interest-rates").exchange()
+                .expectStatus().isEqualTo(429);
+
+        verify(mortgageEngine, times(1)).calculateMortgageCost(any());
+        verifyNoInteractions(interestRateService);
+    }
+}
@@ -0,0 +1,105 @@
+package org.ing.mortgage.adapters.reactive;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.ing.mortgage.config.ReactiveCorrelationIdFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "mortgage.ratelimit.tiers.anonymous.limit=1000")
+@ActiveProfiles("reactive")
+@Import(ReactiveStackIT.Probe.class)
+class ReactiveStackIT {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ReactiveCorrelationIdFilter.class);
+    private ListAppender<ILoggingEvent> listAppender;
+
+    @TestConfiguration
+    @RestController
+    static class Probe {
+        @GetMapping("/probe/mdc")
+        Mono<String> mdc() {
+            return Mono.fromSupplier(() -> MDC.get("CorrelationId")).subscribeOn(Schedulers.parallel());
+        }
+    }
+
+    @BeforeEach
+    void createAppender() {
+        listAppender = new ListAppender<>();
+        listAppender.start();
+        logger.addAppender(listAppender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(listAppender);
+    }
+
+    @Test
+    @DisplayName("reactive profile: Netty serves the startup rates and mortgage checks")
+    void servesApiFromNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+
+        webTestClient.get().uri("/api/interest-rates").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].maturityPeriod").isEqualTo(5)
+                .jsonPath("$[2].maturityPeriod").isEqualTo(20);
+        webTestClient.post().uri("/api/mortgage-check")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"income\":80000,\"maturityPeriod\":10,\"loanValue\":200000,\"homeValue\":300000}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.feasible").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("reactive profile: the servlet-only endpoints are not mapped")
+    void servletControllersAbsent() {
+        webTestClient.post().uri("/api/mortgage-check/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("reactive profile: the correlation id follows the request across threads and into the completion log")
+    void correlationIdPropagates() {
+        webTestClient.get().uri("/probe/mdc").header("X-Correlation-Id", "rx-42").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Correlation-Id", "rx-42")
+                .expectBody(String.class).isEqualTo("rx-42");
+
+        assertThat(listAppender.list).anySatisfy(event -> {
+            assertThat(event.getFormattedMessage()).contains("request.completed method=GET path=/probe/mdc status=200");
+            assertThat(event.getMDCPropertyMap()).containsEntry("CorrelationId", "rx-42");
+        });
+    }
+}
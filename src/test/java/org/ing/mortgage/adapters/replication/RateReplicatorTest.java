@@ -0,0 +1,175 @@
+package org.ing.mortgage.adapters.replication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateReplicatorTest {
+    private final LoopbackTransport.Bus bus = new LoopbackTransport.Bus();
+    private final List<RateReplicator> replicators = new ArrayList<>();
+
+    /** One instance: its store, its replicator and its metrics. */
+    private record Node(InMemoryInterestRateRepository repository, RateReplicator replicator, SimpleMeterRegistry metrics) {
+        BigDecimal rate(int maturity) {
+            InterestRate rate = repository.findByMaturityOrNull(maturity);
+            return rate == null ? null : rate.interestRate();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node node(String id, ReplicationTransport transport, Duration heartbeat) {
+        ObjectProvider<RateChangeListener> listeners = mock(ObjectProvider.class);
+        var repository = new InMemoryInterestRateRepository(listeners);
+        var metrics = new SimpleMeterRegistry();
+        var replicator = new RateReplicator(repository, transport, metrics, id, heartbeat);
+        when(listeners.orderedStream()).thenAnswer(inv -> Stream.of(replicator));
+        replicators.add(replicator);
+        return new Node(repository, replicator, metrics);
+    }
+
+    private Node node(String id) {
+        return node(id, new LoopbackTransport(bus), Duration.ofMinutes(1));
+    }
+
+    private static List<InterestRate> rates(String rate10) {
+        return List.of(new InterestRate(10, new BigDecimal(rate10), Instant.now()));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(5);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicators.forEach(RateReplicator::destroy);
+        bus.close();
+    }
+
+    @Test
+    @DisplayName("a publication on one node is applied on all others exactly once, without echoing back")
+    void publish_reachesAllNodes() throws Exception {
+        Node a = node("a");
+        Node b = node("b");
+        Node c = node("c");
+        for (Node n : List.of(a, b, c)) {
+            n.replicator().start();
+        }
+
+        a.repository().saveRates(rates("3.9"));
+
+        await(() -> new BigDecimal("3.9").equals(b.rate(10)) && new BigDecimal("3.9").equals(c.rate(10)));
+        Thread.sleep(50);
+        assertEquals(1, a.repository().snapshot().version());
+        assertEquals(1, b.repository().snapshot().version());
+        assertEquals(1, c.repository().snapshot().version());
+        assertEquals(1, b.metrics().get("mortgage.rates.replication.lag").tag("via", "publish").timer().count());
+        assertEquals(1.0, b.metrics().get("mortgage.rates.replication.version").gauge().value());
+    }
+
+    @Test
+    @DisplayName("concurrent writes on different nodes converge on the newest publication")
+    void concurrentWrites_converge() throws Exception {
+        Node a = node("a");
+        Node b = node("b");
+        a.replicator().start();
+        b.replicator().start();
+
+        a.repository().saveRates(rates("3.1"));
+        b.repository().saveRates(rates("3.2"));
+
+        await(() -> a.rate(10) != null && a.rate(10).equals(b.rate(10))
+                && a.replicator().clock().equals(b.replicator().clock()));
+        assertEquals("b", a.replicator().clock().node());
+        assertEquals(new BigDecimal("3.2"), a.rate(10));
+    }
+
+    @Test
+    @DisplayName("a node that missed a publication catches up with a full snapshot after the next heartbeat")
+    void lostPublication_caughtUpBySync() throws Exception {
+        var lossy = new LoopbackTransport(bus) {
+            @Override
+            public void start(Consumer<ReplicationMessage> receiver) {
+                super.start(m -> {
+                    if (m.type() != ReplicationMessage.Type.PUBLISH) {
+                        receiver.accept(m);
+                    }
+                });
+            }
+        };
+        Node a = node("a", new LoopbackTransport(bus), Duration.ofMillis(20));
+        Node b = node("b", lossy, Duration.ofMillis(20));
+        a.replicator().start();
+        b.replicator().start();
+        Thread.sleep(50); // startup sync requests answered (with nothing) before the publication is lost
+
+        a.repository().saveRates(rates("4.4"));
+
+        await(() -> b.metrics().get("mortgage.rates.replication.lag").tag("via", "sync").timer().count() == 1);
+        assertEquals(new BigDecimal("4.4"), b.rate(10));
+        assertEquals(2, b.metrics().get("mortgage.rates.replication.syncs").counter().count());
+    }
+
+    @Test
+    @DisplayName("a (re)starting node adopts the cluster's rates instead of broadcasting its startup rates")
+    void startingNode_adoptsClusterRates() throws Exception {
+        Node a = node("a");
+        a.replicator().start();
+        a.repository().saveRates(rates("5.0"));
+
+        Node late = node("late");
+        late.repository().saveRates(rates("3.0"));
+        late.replicator().start();
+
+        await(() -> new BigDecimal("5.0").equals(late.rate(10)));
+        Thread.sleep(50);
+        assertEquals(new BigDecimal("5.0"), a.rate(10));
+        assertEquals(1, a.repository().snapshot().version());
+    }
+
+    @Test
+    @DisplayName("received rates that an admin write would refuse are dropped")
+    void invalidRates_dropped() throws Exception {
+        Node a = node("a");
+        a.repository().saveRates(rates("3.0"));
+        a.replicator().start();
+        Instant now = Instant.now();
+
+        for (List<InterestRate> invalid : List.of(
+                List.of(new InterestRate(10, new BigDecimal("100.5"), now)),
+                List.of(new InterestRate(10, new BigDecimal("-1"), now)),
+                List.of(new InterestRate(31, new BigDecimal("3.1"), now)),
+                List.of(new InterestRate(null, new BigDecimal("3.1"), now)),
+                List.of(new InterestRate(10, null, now)),
+                List.of(new InterestRate(10, new BigDecimal("3.1"), now), new InterestRate(10, new BigDecimal("3.2"), now)))) {
+            assertNotNull(RateReplicator.invalid(invalid));
+            a.replicator().receive(new ReplicationMessage(ReplicationMessage.Type.PUBLISH, "intruder", null,
+                    new ReplicationClock(now.plusSeconds(60), "intruder"), invalid));
+        }
+
+        assertEquals(new BigDecimal("3.0"), a.rate(10));
+        assertEquals(1, a.repository().snapshot().version());
+        assertNull(RateReplicator.invalid(List.of(new InterestRate(30, new BigDecimal("100"), now))));
+    }
+}
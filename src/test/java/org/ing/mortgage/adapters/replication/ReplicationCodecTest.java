@@ -0,0 +1,73 @@
+package org.ing.mortgage.adapters.replication;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationCodecTest {
+    private static final byte[] SECRET = "replication-test-secret".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("encode/decode round trip keeps clock, target, rate scale and null fields")
+    void roundTrip() {
+        var message = new ReplicationMessage(ReplicationMessage.Type.SYNC_RESPONSE, "node-a", "node-b",
+                new ReplicationClock(Instant.parse("2025-01-01T00:00:00.123456789Z"), "node-c"),
+                List.of(new InterestRate(10, new BigDecimal("3.850"), Instant.parse("2025-01-01T00:00:00Z")),
+                        new InterestRate(null, new BigDecimal("-0.1"), null),
+                        new InterestRate(20, null, null)));
+
+        byte[] bytes = ReplicationCodec.encode(message, SECRET);
+
+        assertEquals(message, ReplicationCodec.decode(bytes, bytes.length, SECRET));
+        assertEquals(new BigDecimal("3.850"), ReplicationCodec.decode(bytes, bytes.length, SECRET).rates().get(0).interestRate());
+    }
+
+    @Test
+    @DisplayName("encode rejects a rate whose unscaled value does not fit the one-byte length")
+    void encode_rejectsOversizeRate() {
+        var message = new ReplicationMessage(ReplicationMessage.Type.PUBLISH, "a", null, new ReplicationClock(Instant.now(), "a"),
+                List.of(new InterestRate(10, new BigDecimal(BigInteger.TWO.pow(2048), 2), null)));
+
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.encode(message, SECRET));
+    }
+
+    @Test
+    @DisplayName("heartbeat without target or rates round trips")
+    void roundTrip_heartbeat() {
+        var message = ReplicationMessage.heartbeat("node-a", new ReplicationClock(Instant.EPOCH, ""));
+        byte[] bytes = ReplicationCodec.encode(message, SECRET);
+        assertEquals(message, ReplicationCodec.decode(bytes, bytes.length, SECRET));
+    }
+
+    @Test
+    @DisplayName("foreign or truncated datagrams are rejected with IllegalArgumentException")
+    void decode_rejectsGarbage() {
+        byte[] bytes = ReplicationCodec.encode(new ReplicationMessage(ReplicationMessage.Type.PUBLISH, "a", null,
+                new ReplicationClock(Instant.now(), "a"), List.of(new InterestRate(5, BigDecimal.ONE, Instant.now()))), SECRET);
+
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decode(new byte[]{1, 2, 3, 4, 5}, 5, SECRET));
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decode(Arrays.copyOf(bytes, bytes.length - 3), bytes.length - 3, SECRET));
+    }
+
+    @Test
+    @DisplayName("a message signed with another secret, or altered after signing, is rejected")
+    void decode_rejectsUnsigned() {
+        var message = new ReplicationMessage(ReplicationMessage.Type.PUBLISH, "a", null, new ReplicationClock(Instant.now(), "a"),
+                List.of(new InterestRate(10, new BigDecimal("3.8"), Instant.now())));
+        byte[] forged = ReplicationCodec.encode(message, "some-other-secret!".getBytes(StandardCharsets.UTF_8));
+        byte[] altered = ReplicationCodec.encode(message, SECRET);
+        altered[altered.length - ReplicationCodec.MAC_BYTES - 13] ^= 1;
+
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decode(forged, forged.length, SECRET));
+        assertThrows(IllegalArgumentException.class, () -> ReplicationCodec.decode(altered, altered.length, SECRET));
+    }
+}
@@ -0,0 +1,47 @@
+package org.ing.mortgage.adapters.replication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "mortgage.rates.replication.transport=udp",
+        "mortgage.rates.replication.udp.port=0",
+        "mortgage.rates.replication.secret=replication-it-secret",
+        "mortgage.rates.replication.udp.peers=127.0.0.1:9, localhost:10",
+        "mortgage.rates.replication.nodeId=node-it"})
+class ReplicationConfigurationIT {
+    @Autowired
+    private ReplicationTransport replicationTransport;
+    @Autowired
+    private RateReplicator rateReplicator;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("udp with peers: replicator started on the startup rates as bootstrap, metrics registered")
+    void udpPeers_wiredAndStarted() {
+        assertInstanceOf(UdpTransport.class, replicationTransport);
+        assertEquals("node-it", rateReplicator.nodeId());
+        assertEquals(ReplicationClock.BOOTSTRAP, rateReplicator.clock());
+        assertEquals(1.0, meterRegistry.get("mortgage.rates.replication.version").gauge().value());
+        assertEquals(1.0, meterRegistry.get("mortgage.rates.replication.syncs").counter().count());
+    }
+
+    @Test
+    @DisplayName("udp without a shared secret of at least 16 bytes does not start")
+    void udp_requiresSecret() {
+        var configuration = new ReplicationConfiguration();
+        for (String secret : List.of("", "too-short")) {
+            var e = assertThrows(IllegalArgumentException.class, () -> configuration.replicationTransport(
+                    "udp", 0, "127.0.0.1", secret, List.of("127.0.0.1:9"), "239.255.77.1", "lo"));
+            assertTrue(e.getMessage().contains("mortgage.rates.replication.secret"), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.ing.mortgage.adapters.replication;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class UdpTransportTest {
+    private static final byte[] SECRET = "udp-transport-test-secret".getBytes(StandardCharsets.UTF_8);
+    private final ReplicationMessage message = new ReplicationMessage(ReplicationMessage.Type.PUBLISH, "a", null,
+            new ReplicationClock(Instant.now(), "a"), List.of(new InterestRate(10, new BigDecimal("3.8"), Instant.now())));
+
+    private static int freePort() throws IOException {
+        try (var channel = DatagramChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        }
+    }
+
+    @Test
+    @DisplayName("peers: nodes on 127.0.0.1 with their own ports exchange messages")
+    void peers_deliverToEachOther() throws Exception {
+        var loopback = InetAddress.getLoopbackAddress();
+        var portA = new InetSocketAddress(loopback, freePort());
+        var portB = new InetSocketAddress(loopback, freePort());
+        var receivedA = new LinkedBlockingQueue<ReplicationMessage>();
+        var receivedB = new LinkedBlockingQueue<ReplicationMessage>();
+
+        try (var a = UdpTransport.peers(portA, List.of(portB), SECRET);
+             var b = UdpTransport.peers(portB, List.of(portA), SECRET)) {
+            a.start(receivedA::add);
+            b.start(receivedB::add);
+
+            a.send(message);
+            assertEquals(message, receivedB.poll(2, TimeUnit.SECONDS));
+            b.send(ReplicationMessage.heartbeat("b", message.clock()));
+            assertNotNull(receivedA.poll(2, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("peers: datagrams from an address that is not a peer, or signed with another secret, are dropped")
+    void peers_dropStrangersAndForgeries() throws Exception {
+        var loopback = InetAddress.getLoopbackAddress();
+        var portA = new InetSocketAddress(loopback, freePort());
+        var portB = new InetSocketAddress(loopback, freePort());
+        var received = new LinkedBlockingQueue<ReplicationMessage>();
+
+        try (var b = UdpTransport.peers(portB, List.of(portA), SECRET);
+             var stranger = DatagramChannel.open().bind(new InetSocketAddress(loopback, 0));
+             var peer = DatagramChannel.open().bind(portA)) {
+            b.start(received::add);
+            stranger.send(ByteBuffer.wrap(ReplicationCodec.encode(message, SECRET)), portB);
+            peer.send(ByteBuffer.wrap(ReplicationCodec.encode(message, "not-the-shared-secret".getBytes(StandardCharsets.UTF_8))), portB);
+            assertNull(received.poll(300, TimeUnit.MILLISECONDS));
+
+            peer.send(ByteBuffer.wrap(ReplicationCodec.encode(message, SECRET)), portB);
+            assertEquals(message, received.poll(2, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("multicast: two members of a group on the loopback interface exchange a message")
+    void multicast_deliversToOtherMember() throws Exception {
+        NetworkInterface loopback = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+        assumeTrue(loopback != null && loopback.supportsMulticast(), "loopback interface without multicast");
+        InetAddress group = InetAddress.getByName("239.255.77.2");
+        int port = freePort();
+        var received = new LinkedBlockingQueue<ReplicationMessage>();
+
+        try (var a = UdpTransport.multicast(group, port, loopback, SECRET);
+             var b = UdpTransport.multicast(group, port, loopback, SECRET)) {
+            a.start(m -> { });
+            b.start(received::add);
+            ReplicationMessage got = null;
+            for (int attempt = 0; attempt < 5 && got == null; attempt++) {
+                a.send(message);
+                got = received.poll(200, TimeUnit.MILLISECONDS);
+            }
+            assumeTrue(got != null, "multicast datagrams not delivered on this host");
+            assertEquals(message, got);
+        }
+    }
+}
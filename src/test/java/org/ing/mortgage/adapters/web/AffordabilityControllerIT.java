@@ -0,0 +1,72 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.application.engine.AffordabilityCalculator;
+import org.ing.mortgage.domain.MaxLoan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AffordabilityController.class)
+class AffordabilityControllerIT {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private AffordabilityCalculator affordabilityCalculator;
+
+    @Test
+    @DisplayName("POST /api/mortgage-affordability: returns the maximum loan per maturity")
+    void mortgageAffordability_returnsMaxLoans() throws Exception {
+        when(affordabilityCalculator.maxLoans(new BigDecimal("60000"), new BigDecimal("1200"), null)).thenReturn(List.of(
+                new MaxLoan(10, new BigDecimal("3.8"), new BigDecimal("118000.00"), new BigDecimal("1199.99"), MaxLoan.Limit.BUDGET),
+                new MaxLoan(30, new BigDecimal("3.5"), new BigDecimal("240000.00"), new BigDecimal("1077.71"), MaxLoan.Limit.INCOME)));
+
+        mockMvc.perform(post("/api/mortgage-affordability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"income": 60000, "monthlyBudget": 1200}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].maturityPeriod").value(10))
+                .andExpect(jsonPath("$[0].maxLoanValue").value(118000.00))
+                .andExpect(jsonPath("$[0].limitedBy").value("BUDGET"))
+                .andExpect(jsonPath("$[1].limitedBy").value("INCOME"));
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-affordability: missing budget returns 400 and skips the calculator")
+    void mortgageAffordability_invalidRequest() throws Exception {
+        mockMvc.perform(post("/api/mortgage-affordability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"income": 60000}"""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("monthlyBudget: must not be null"));
+        verify(affordabilityCalculator, never()).maxLoans(any(), any(), isNull());
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-affordability: an oversized home value returns 400 and skips the calculator")
+    void mortgageAffordability_oversizedHomeValue() throws Exception {
+        mockMvc.perform(post("/api/mortgage-affordability")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"income": 60000, "monthlyBudget": 1200, "homeValue": 1E+300}"""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("homeValue: Home Value must not exceed 1000000000"));
+        verifyNoInteractions(affordabilityCalculator);
+    }
+}
@@ -0,0 +1,171 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.InterestRatePatchRequest;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.exception.RateVersionConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = InterestRateAdminController.class, properties = "mortgage.admin.token=s3cret")
+class InterestRateAdminControllerIT {
+    private static final String AUTHORIZATION = "Bearer s3cret";
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private InterestRateService interestRateService;
+
+    private static final String RATES = """
+            {"rates": [
+              {"maturityPeriod": 30, "interestRate": 4.10},
+              {"maturityPeriod": 10, "interestRate": 3.60}
+            ]}
+            """;
+
+    @Test
+    @DisplayName("PUT /api/interest-rates: replaces all rates at the If-Match version and returns the new ETag")
+    void replaceRates_happyPath() throws Exception {
+        RateSnapshot published = RateSnapshot.of(8, List.of(
+                new InterestRate(30, new BigDecimal("4.10"), NOW), new InterestRate(10, new BigDecimal("3.60"), NOW)));
+        when(interestRateService.replaceRates(eq("7-ab"), any())).thenReturn(published);
+
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "\"7-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + published.tag() + "\""))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].maturityPeriod").value(10))
+                .andExpect(jsonPath("$[1].interestRate").value(4.10));
+
+        verify(interestRateService).replaceRates("7-ab", List.of(
+                new Rate(30, new BigDecimal("4.10")), new Rate(10, new BigDecimal("3.60"))));
+    }
+
+    @Test
+    @DisplayName("PUT /api/interest-rates: a write based on an older version gets 412 with the current ETag")
+    void replaceRates_versionConflict() throws Exception {
+        when(interestRateService.replaceRates(eq("7-ab"), any())).thenThrow(new RateVersionConflictException("7-ab", "9-cd"));
+
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "\"7-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"9-cd\""))
+                .andExpect(jsonPath("$.message").value("Interest rates have changed: expected 7-ab, current 9-cd"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/interest-rates: missing If-Match is 428, a malformed one 400")
+    void replaceRates_preconditionRequired() throws Exception {
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isPreconditionRequired());
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("If-Match must be the single ETag of the current rates"));
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "\"7-ab\", \"8-cd\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(interestRateService);
+    }
+
+    @Test
+    @DisplayName("PUT /api/interest-rates: missing or wrong token is 401")
+    void replaceRates_unauthorized() throws Exception {
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("If-Match", "\"7-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", "Bearer guess")
+                        .header("If-Match", "\"7-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(RATES))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(interestRateService);
+    }
+
+    @Test
+    @DisplayName("PUT /api/interest-rates: invalid rates are rejected with field details")
+    void replaceRates_validation() throws Exception {
+        mockMvc.perform(put("/api/interest-rates")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "\"7-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"rates": [{"maturityPeriod": 31, "interestRate": -1}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details", hasSize(2)));
+
+        verify(interestRateService, never()).replaceRates(any(), any());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/interest-rates/{maturity}: changes one rate at the If-Match version")
+    void updateRate_happyPath() throws Exception {
+        RateSnapshot published = RateSnapshot.of(4, List.of(
+                new InterestRate(10, new BigDecimal("3.8"), NOW), new InterestRate(20, new BigDecimal("4.4"), NOW)));
+        when(interestRateService.updateRate("3-ab", 20, new BigDecimal("4.4"))).thenReturn(published);
+
+        mockMvc.perform(patch("/api/interest-rates/20")
+                        .header("Authorization", AUTHORIZATION)
+                        .header("If-Match", "\"3-ab\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"interestRate\": 4.4}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + published.tag() + "\""))
+                .andExpect(jsonPath("$[1].maturityPeriod").value(20))
+                .andExpect(jsonPath("$[1].interestRate").value(4.4));
+    }
+
+    @Test
+    @DisplayName("writes are refused when no admin token is configured")
+    void adminDisabled_forbidden() {
+        var controller = new InterestRateAdminController(interestRateService, "");
+
+        var ex = assertThrows(ResponseStatusException.class,
+                () -> controller.updateRate(20, "Bearer ", "\"3-ab\"", new InterestRatePatchRequest()));
+        assertEquals(HttpStatus.FORBIDDEN, ex.getStatusCode());
+    }
+}
@@ -0,0 +1,163 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.config.ClientRateLimiter;
+import org.ing.mortgage.config.RateLimitConfiguration;
+import org.ing.mortgage.config.RateLimitProperties;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MortgageBatchController.class)
+@Import({MortgageCheckItems.class, RateLimitConfiguration.class, RateLimitProperties.class})
+class MortgageBatchControllerIT {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private MortgageBatchEngine mortgageBatchEngine;
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        when(clientRateLimiter.burst(any())).thenReturn(1000L);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: results in request order, per-item errors inline, one permit per item")
+    void mortgageCheckBatch_mixedItems() throws Exception {
+        when(mortgageBatchEngine.calculateAll(anyList())).thenReturn(Arrays.asList(
+                new MortgageBatchEngine.Outcome(new MortgageResult(true, new BigDecimal("1200.50")), null),
+                null,
+                new MortgageBatchEngine.Outcome(null, "No interest rate configured for maturity period=15years")));
+
+        String requestJson = """
+                [
+                  {"income": 60000, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 30},
+                  {"income": 0, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 30},
+                  {"income": 60000, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 15}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/mortgage-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].feasible").value(true))
+                .andExpect(jsonPath("$[0].monthlyCost").value(1200.50))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].error").value("Validation failed"))
+                .andExpect(jsonPath("$[1].details[0]").value("income: Income must be greater than 0"))
+                .andExpect(jsonPath("$[2].error").value("No interest rate configured for maturity period=15years"))
+                .andExpect(jsonPath("$[2].feasible").doesNotExist());
+
+        verify(clientRateLimiter).acquire(isNull(), eq("127.0.0.1"), eq(3));
+        verify(mortgageBatchEngine).calculateAll(argThat(inputs ->
+                inputs.size() == 3 && inputs.get(1) == null && inputs.get(2).maturityPeriod() == 15));
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: returns 429 when the batch exceeds the remaining permits")
+    void mortgageCheckBatch_rateLimited() throws Exception {
+        when(clientRateLimiter.acquire(any(), any(), eq(2))).thenReturn(Duration.ofSeconds(90).toNanos());
+
+        mockMvc.perform(post("/api/mortgage-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                  {"income": 60000, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 30},
+                                  {"income": 60000, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 20}
+                                ]
+                                """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "90"));
+
+        verifyNoInteractions(mortgageBatchEngine);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: empty batch is rejected")
+    void mortgageCheckBatch_empty() throws Exception {
+        mockMvc.perform(post("/api/mortgage-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch must contain between 1 and 1000 items"));
+
+        verify(clientRateLimiter, never()).acquire(any(), any(), anyInt());
+        verifyNoInteractions(mortgageBatchEngine);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: binary records in, binary results in request order out")
+    void mortgageCheckBatch_binary() throws Exception {
+        when(mortgageBatchEngine.calculateAll(anyList())).thenReturn(Arrays.asList(
+                new MortgageBatchEngine.Outcome(new MortgageResult(true, new BigDecimal("1200.50")), null),
+                null));
+        byte[] valid = HexFormat.of().parseHex(MortgageCheckBinaryTest.REQUEST_HEX);
+        byte[] zeroIncome = valid.clone();
+        Arrays.fill(zeroIncome, 0, 8, (byte) 0);
+
+        byte[] response = mockMvc.perform(post("/api/mortgage-check/batch")
+                        .contentType(MortgageCheckBinary.MEDIA_TYPE)
+                        .accept(MortgageCheckBinary.MEDIA_TYPE)
+                        .content(concat(valid, zeroIncome)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MortgageCheckBinary.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ByteBuffer in = ByteBuffer.wrap(response).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] first = new byte[MortgageCheckBinary.RESPONSE_BYTES];
+        in.get(first);
+        assertEquals(MortgageCheckBinaryTest.RESPONSE_HEX, HexFormat.of().formatHex(first));
+        in.position(in.position() + 9);
+        assertEquals(MortgageCheckBinary.ERROR, in.get());
+        byte[] error = new byte[in.getShort()];
+        in.get(error);
+        assertEquals("Validation failed", new String(error, StandardCharsets.UTF_8));
+        verify(clientRateLimiter).acquire(isNull(), eq("127.0.0.1"), eq(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: a binary body that is not whole records is 400")
+    void mortgageCheckBatch_binaryPartialRecord() throws Exception {
+        mockMvc.perform(post("/api/mortgage-check/batch")
+                        .contentType(MortgageCheckBinary.MEDIA_TYPE)
+                        .content(new byte[60]))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("Batch body must be a multiple of 40 bytes, got 60"));
+
+        verifyNoInteractions(clientRateLimiter, mortgageBatchEngine);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] both = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, both, first.length, second.length);
+        return both;
+    }
+}
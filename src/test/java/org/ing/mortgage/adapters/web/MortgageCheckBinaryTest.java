@@ -0,0 +1,175 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.adapters.web.dto.MortgageCheckBatchItem;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageCheckBinaryTest {
+    /** The same vectors are checked by the client module's tests, which keeps both ends of the format equal. */
+    static final String REQUEST_HEX = "808d5b0000000000" + "400d030000000000" + "605b030000000000"
+            + "0000000000000080" + "00000000" + "020000" + "1e";
+    static final String RESPONSE_HEX = "f2d4010000000000" + "02" + "03";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static MortgageCheckRequest read(byte[] bytes) {
+        return MortgageCheckBinary.readRequest(bytes, bytes.length);
+    }
+
+    private static byte[] record(long income, int incomeScale, long asOfSeconds, int asOfNanos, int maturityPeriod) {
+        return ByteBuffer.allocate(MortgageCheckBinary.REQUEST_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(income).putLong(200000).putLong(220000)
+                .putLong(asOfSeconds).putInt(asOfNanos)
+                .put((byte) incomeScale).put((byte) 0).put((byte) 0).put((byte) maturityPeriod)
+                .array();
+    }
+
+    @Test
+    @DisplayName("readRequest: decodes the reference record")
+    void readRequest_referenceRecord() {
+        MortgageCheckRequest request = read(HEX.parseHex(REQUEST_HEX));
+
+        assertEquals(new BigDecimal("60000.00"), request.getIncome());
+        assertEquals(new BigDecimal("200000"), request.getLoanValue());
+        assertEquals(new BigDecimal("220000"), request.getHomeValue());
+        assertEquals(30, request.getMaturityPeriod());
+        assertNull(request.getAsOf());
+    }
+
+    @Test
+    @DisplayName("readRequest: asOf keeps nanosecond precision")
+    void readRequest_asOf() {
+        Instant asOf = Instant.parse("2024-12-01T10:30:00.123456789Z");
+
+        MortgageCheckRequest request = read(record(60000, 0, asOf.getEpochSecond(), asOf.getNano(), 10));
+
+        assertEquals(asOf, request.getAsOf());
+        assertEquals(10, request.getMaturityPeriod());
+    }
+
+    @ParameterizedTest(name = "{index}: {4}")
+    @CsvSource(delimiter = '|', value = {
+            "60000 | 19 | -9223372036854775808 | 0          | Malformed binary body at offset 36: scale 19 is outside 0..18",
+            "60000 | -1 | -9223372036854775808 | 0          | Malformed binary body at offset 36: scale -1 is outside 0..18",
+            "60000 | 0  | -9223372036854775808 | 5          | Malformed binary body at offset 32: asOf nanos without asOf seconds",
+            "60000 | 0  | 0                    | 1000000000 | Malformed binary body at offset 32: asOf nanos 1000000000 is outside 0..999999999",
+            "60000 | 0  | 9223372036854775807  | 0          | Malformed binary body at offset 24: asOf is out of range",
+    })
+    @DisplayName("readRequest: fields without a valid encoding are rejected with the offset")
+    void readRequest_malformed(long income, int scale, long asOfSeconds, int asOfNanos, String message) {
+        byte[] bytes = record(income, scale, asOfSeconds, asOfNanos, 30);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(bytes));
+        assertEquals(message, e.getMessage());
+    }
+
+    @Test
+    @DisplayName("readRequest: a body that is not exactly one record is rejected")
+    void readRequest_wrongLength() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> MortgageCheckBinary.readRequest(new byte[41], 41));
+        assertEquals("Request body must be 40 bytes, got 41", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("readRequests: records back to back, offsets counted from the start of the body")
+    void readRequests_batch() {
+        byte[] body = new byte[3 * MortgageCheckBinary.REQUEST_BYTES];
+        for (int i = 0; i < 3; i++) {
+            System.arraycopy(record(1000 + i, 1, Long.MIN_VALUE, 0, 5 + i), 0, body, i * 40, 40);
+        }
+
+        List<MortgageCheckRequest> requests = MortgageCheckBinary.readRequests(body, body.length);
+
+        assertEquals(List.of(new BigDecimal("100.0"), new BigDecimal("100.1"), new BigDecimal("100.2")),
+                requests.stream().map(MortgageCheckRequest::getIncome).toList());
+        assertEquals(List.of(5, 6, 7), requests.stream().map(MortgageCheckRequest::getMaturityPeriod).toList());
+
+        body[80 + 37] = 20;
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> MortgageCheckBinary.readRequests(body, body.length));
+        assertEquals("Malformed binary body at offset 117: scale 20 is outside 0..18", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> MortgageCheckBinary.readRequests(body, 79));
+    }
+
+    @Test
+    @DisplayName("writeResponse: feasible with cost, infeasible without, negative scales written as scale 0")
+    void writeResponse() {
+        assertEquals(RESPONSE_HEX, HEX.formatHex(
+                MortgageCheckBinary.writeResponse(new MortgageCheckResponse(true, new BigDecimal("1200.50")))));
+        assertEquals("00000000000000000000", HEX.formatHex(
+                MortgageCheckBinary.writeResponse(new MortgageCheckResponse(false, null))));
+        assertEquals("e803000000000000" + "00" + "02", HEX.formatHex(
+                MortgageCheckBinary.writeResponse(new MortgageCheckResponse(false, new BigDecimal("1E+3")))));
+    }
+
+    @Test
+    @DisplayName("writeItems: results are 10 bytes, errors carry their message and details")
+    void writeItems() {
+        byte[] bytes = MortgageCheckBinary.writeItems(List.of(
+                new MortgageCheckBatchItem(true, new BigDecimal("1200.50"), null, null),
+                new MortgageCheckBatchItem(null, null, "Validation failed", List.of("income: Income must be greater than 0", "é")),
+                new MortgageCheckBatchItem(null, null, "No rate", null)));
+
+        ByteBuffer in = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(120050, in.getLong());
+        assertEquals(2, in.get());
+        assertEquals(MortgageCheckBinary.FEASIBLE | MortgageCheckBinary.MONTHLY_COST, in.get());
+
+        assertEquals(0, in.getLong());
+        assertEquals(0, in.get());
+        assertEquals(MortgageCheckBinary.ERROR, in.get());
+        assertEquals("Validation failed", text(in));
+        assertEquals(2, in.get());
+        assertEquals("income: Income must be greater than 0", text(in));
+        assertEquals("é", text(in));
+
+        in.position(in.position() + 9);
+        assertEquals(MortgageCheckBinary.ERROR, in.get());
+        assertEquals("No rate", text(in));
+        assertEquals(0, in.get());
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("writeItems: a text over 65535 bytes is cut after the last whole character that fits")
+    void writeItems_longTextCutOnCharacterBoundary() throws CharacterCodingException {
+        String euros = "a" + "\u20ac".repeat(21_845);
+        String emoji = "\ud83d\ude00".repeat(16_384);
+        byte[] bytes = MortgageCheckBinary.writeItems(List.of(new MortgageCheckBatchItem(null, null, euros, List.of(emoji))));
+
+        ByteBuffer in = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        in.position(MortgageCheckBinary.RESPONSE_BYTES);
+        assertEquals(euros.substring(0, 21_845), strictText(in));
+        assertEquals(1, in.get());
+        assertEquals(emoji.substring(0, 2 * 16_383), strictText(in));
+        assertFalse(in.hasRemaining());
+    }
+
+    private static String strictText(ByteBuffer in) throws CharacterCodingException {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+    }
+
+    private static String text(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
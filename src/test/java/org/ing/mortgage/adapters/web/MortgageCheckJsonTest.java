@@ -0,0 +1,223 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckRequest;
+import org.ing.mortgage.adapters.web.dto.MortgageCheckResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MortgageCheckJsonTest {
+    /** Jackson as Spring Boot configures it, for the bytes of responses. */
+    private static final ObjectMapper JACKSON = Jackson2ObjectMapperBuilder.json().build();
+    /** The same, made as strict as the codec where Jackson has a switch for it. */
+    private static final ObjectMapper STRICT_JACKSON = Jackson2ObjectMapperBuilder.json()
+            .failOnUnknownProperties(true)
+            .featuresToEnable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION, DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+            .build();
+    private static final String WHITESPACE = " \t\r\n";
+    private static final String MUTATIONS = "{}[]:,\"-+.eE0123456789 \tnul\\xa";
+
+    private static MortgageCheckRequest read(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return MortgageCheckJson.readRequest(bytes, bytes.length);
+    }
+
+    private static MortgageCheckRequest jackson(String json) {
+        try {
+            return STRICT_JACKSON.readValue(json, MortgageCheckRequest.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Test
+    @DisplayName("readRequest: reads every field, in any order and with any JSON whitespace")
+    void readRequest_allFields() {
+        String json = " {\n\t\"maturityPeriod\" : 30,\"asOf\":\"2025-01-01T00:00:00Z\", \"income\":60000.00,"
+                + "\"homeValue\":2.2E5,\"loanValue\":-0.5e-2}\r\n";
+        MortgageCheckRequest request = read(json);
+
+        assertEquals(new BigDecimal("60000.00"), request.getIncome());
+        assertEquals(30, request.getMaturityPeriod());
+        assertEquals(new BigDecimal("-0.5e-2"), request.getLoanValue());
+        assertEquals(new BigDecimal("2.2E5"), request.getHomeValue());
+        assertEquals(Instant.parse("2025-01-01T00:00:00Z"), request.getAsOf());
+        assertEquals(jackson(json), request);
+    }
+
+    @Test
+    @DisplayName("readRequest: null and absent fields stay null for bean validation to report")
+    void readRequest_nulls() {
+        assertEquals(new MortgageCheckRequest(), read("{}"));
+        assertEquals(new MortgageCheckRequest(), read("{\"income\":null,\"maturityPeriod\":null,\"asOf\":null}"));
+    }
+
+    @Test
+    @DisplayName("readRequest: decimals beyond the long fast path keep their exact value and scale")
+    void readRequest_longDecimals() {
+        assertEquals(new BigDecimal("123456789012345678.123456789012345678"),
+                read("{\"income\":123456789012345678.123456789012345678}").getIncome());
+        assertEquals(new BigDecimal("-0.000000000000000001"), read("{\"income\":-0.000000000000000001}").getIncome());
+        assertEquals(new BigDecimal("0E-18"), read("{\"income\":0.000000000000000000}").getIncome());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''                                      | 0: unexpected end of input",
+            "[]                                      | 0: expected '{'",
+            "{\"income\":1                           | 11: unexpected end of input",
+            "{\"income\":1,}                         | 12: expected '\"'",
+            "{\"income\":1}x                         | 12: unexpected content after the request object",
+            "{\"income\":1,\"foo\":2}                | unknown field 'foo'",
+            "{\"inc\\u006fme\":1}                    | 5: unsupported character in string",
+            "{\"income\":1,\"income\":2}             | duplicate field 'income'",
+            "{\"income\":\"1\"}                      | 10: invalid number",
+            "{\"income\":01}                         | 10: invalid number",
+            "{\"income\":1.}                         | 10: invalid number",
+            "{\"income\":+1}                         | 10: invalid number",
+            "{\"income\":true}                       | 10: invalid number",
+            "{\"income\":1e400}                      | 10: number out of range",
+            "{\"income\":1e9999999999}               | 10: number out of range",
+            "{\"income\":1234567890123456789}        | 10: number out of range",
+            "{\"income\":0.0000000000000000001}      | 10: number out of range",
+            "{\"maturityPeriod\":10.5}               | maturityPeriod must be an integer",
+            "{\"maturityPeriod\":1e1}                | maturityPeriod must be an integer",
+            "{\"maturityPeriod\":2147483648}         | number out of range",
+            "{\"maturityPeriod\":-99999999999}       | number out of range",
+            "{\"asOf\":\"yesterday\"}                | invalid asOf",
+            "{\"asOf\":1735689600}                   | expected '\"'",
+            "{\"income\":nul}                        | invalid number",
+    })
+    @DisplayName("readRequest: rejects malformed, unknown, duplicate and out-of-range input with the offset")
+    void readRequest_strict(String json, String reason) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(json));
+        assertTrue(e.getMessage().startsWith("Malformed JSON at offset "), e.getMessage());
+        assertTrue(e.getMessage().contains(reason), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("readRequest: bodies above the size limit are rejected before parsing")
+    void readRequest_tooLarge() {
+        String json = "{}" + " ".repeat(MortgageCheckJson.MAX_DOCUMENT_BYTES);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(json));
+        assertEquals("Request body exceeds " + MortgageCheckJson.MAX_DOCUMENT_BYTES + " bytes", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("readRequest fuzz: whatever the codec accepts, Jackson reads to an equal request")
+    void readRequest_differentialFuzz() {
+        Random random = new Random(23);
+        int accepted = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String document = document(random);
+            String json = i % 4 == 0 ? document : mutate(document, random);
+            MortgageCheckRequest expected = jackson(json);
+            MortgageCheckRequest actual;
+            try {
+                actual = read(json);
+            } catch (IllegalArgumentException rejected) {
+                assertFalse(i % 4 == 0 && expected != null && inBounds(expected), () -> "rejected valid document " + json);
+                continue;
+            }
+            accepted++;
+            assertEquals(expected, actual, json);
+        }
+        assertTrue(accepted > 5_000, "accepted " + accepted);
+    }
+
+    @Test
+    @DisplayName("writeResponse fuzz: writes the bytes Jackson writes")
+    void writeResponse_matchesJackson() throws Exception {
+        Random random = new Random(29);
+        for (int i = 0; i < 5_000; i++) {
+            Boolean feasible = i % 7 == 0 ? null : random.nextBoolean();
+            BigDecimal monthlyCost = i % 11 == 0 ? null : BigDecimal.valueOf(random.nextLong() >> random.nextInt(63), random.nextInt(20) - 5);
+            MortgageCheckResponse response = new MortgageCheckResponse(feasible, monthlyCost);
+
+            assertArrayEquals(JACKSON.writeValueAsBytes(response), MortgageCheckJson.writeResponse(response), response::toString);
+        }
+    }
+
+    private static boolean inBounds(MortgageCheckRequest request) {
+        return List.of(request.getIncome(), request.getLoanValue(), request.getHomeValue()).stream()
+                .allMatch(value -> value.scale() <= MortgageCheckJson.MAX_SCALE
+                        && value.precision() - value.scale() <= MortgageCheckJson.MAX_INTEGER_DIGITS);
+    }
+
+    /** A valid request with random field order, whitespace, number forms and nulls. */
+    private static String document(Random random) {
+        List<String> members = new ArrayList<>();
+        members.add(member("income", decimal(random), random));
+        members.add(member("maturityPeriod", String.valueOf(random.nextInt(41) - 5), random));
+        members.add(member("loanValue", decimal(random), random));
+        members.add(member("homeValue", decimal(random), random));
+        if (random.nextInt(3) == 0) {
+            members.add(member("asOf", random.nextInt(4) == 0 ? "null"
+                    : "\"" + Instant.ofEpochSecond(random.nextInt(2_000_000_000), random.nextInt(3) * 500_000_000L) + "\"", random));
+        }
+        Collections.shuffle(members, random);
+        return whitespace(random) + "{" + String.join("," + whitespace(random), members) + "}" + whitespace(random);
+    }
+
+    private static String member(String name, String value, Random random) {
+        return whitespace(random) + "\"" + name + "\"" + whitespace(random) + ":" + whitespace(random) + value + whitespace(random);
+    }
+
+    private static String decimal(Random random) {
+        if (random.nextInt(20) == 0) {
+            return "null";
+        }
+        StringBuilder number = new StringBuilder(random.nextInt(5) == 0 ? "-" : "");
+        int integerDigits = 1 + random.nextInt(12);
+        number.append(integerDigits == 1 ? random.nextInt(10) : 1 + random.nextInt(9));
+        for (int i = 1; i < integerDigits; i++) {
+            number.append(random.nextInt(10));
+        }
+        if (random.nextBoolean()) {
+            number.append('.');
+            for (int i = random.nextInt(6); i >= 0; i--) {
+                number.append(random.nextInt(10));
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            number.append(random.nextBoolean() ? 'e' : 'E').append(random.nextInt(3) == 0 ? "-" : random.nextBoolean() ? "+" : "")
+                    .append(random.nextInt(6));
+        }
+        return number.toString();
+    }
+
+    private static String whitespace(Random random) {
+        return random.nextInt(3) == 0 ? String.valueOf(WHITESPACE.charAt(random.nextInt(WHITESPACE.length()))) : "";
+    }
+
+    /** One to three random deletions, insertions or replacements. */
+    private static String mutate(String json, Random random) {
+        StringBuilder mutated = new StringBuilder(json);
+        for (int i = random.nextInt(3); i >= 0 && !mutated.isEmpty(); i--) {
+            int at = random.nextInt(mutated.length());
+            char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.deleteCharAt(at);
+                case 1 -> mutated.insert(at, c);
+                default -> mutated.setCharAt(at, c);
+            }
+        }
+        return mutated.toString();
+    }
+}
@@ -1,11 +1,13 @@
 package org.ing.mortgage.adapters.web;
 
 
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
 import org.ing.mortgage.application.engine.MortgageEngine;
 import org.ing.mortgage.application.service.InterestRateService;
 import org.ing.mortgage.domain.InterestRate;
 import org.ing.mortgage.domain.MortgageInput;
 import org.ing.mortgage.domain.MortgageResult;
+import org.ing.mortgage.domain.RateSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,13 +17,18 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
@@ -32,6 +39,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MortgageController.class)
+@Import(MortgageControllerSupport.class)
 class MortgageControllerIT {
     @Autowired
     private MockMvc mockMvc;
@@ -39,6 +47,8 @@ class MortgageControllerIT {
     private InterestRateService interestRateService;
     @MockBean
     private MortgageEngine mortgageEngine;
+    @MockBean
+    private AnnuityFactorTable annuityFactorTable;
 
     @Test
     @DisplayName("GET /api/interest-rates: returns mapped DTOs sorted by maturityPeriod ASC")
@@ -55,12 +65,14 @@ class MortgageControllerIT {
         when(r30.maturityPeriod()).thenReturn(30);
         when(r30.interestRate()).thenReturn(new BigDecimal("5.25"));
         when(r30.lastUpdate()).thenReturn(Instant.parse("2024-12-31T10:30:00Z"));
-        when(interestRateService.getAllRates()).thenReturn(List.of(r30, r10, r20));
+        RateSnapshot snapshot = RateSnapshot.of(4, List.of(r30, r10, r20));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
 
 
         mockMvc.perform(get("/api/interest-rates"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"" + snapshot.tag() + "\""))
                 .andExpect(jsonPath("$", hasSize(3)))
                 .andExpect(jsonPath("$[0].maturityPeriod").value(10))
                 .andExpect(jsonPath("$[0].interestRate").value(3.75))
@@ -72,7 +84,7 @@ class MortgageControllerIT {
                 .andExpect(jsonPath("$[2].interestRate").value(5.25))
                 .andExpect(jsonPath("$[2].lastUpdate").value("2024-12-31T10:30:00Z"));
 
-        verify(interestRateService).getAllRates();
+        verify(interestRateService).getSnapshot();
         verifyNoMoreInteractions(interestRateService);
         verifyNoInteractions(mortgageEngine);
     }
@@ -95,7 +107,8 @@ class MortgageControllerIT {
         when(r30.interestRate()).thenReturn(new BigDecimal("5.25"));
         when(r30.lastUpdate()).thenReturn(Instant.parse("2024-12-31T10:30:00Z"));
 
-        when(interestRateService.getAllRates()).thenReturn(List.of(r30, r10, r20));
+        RateSnapshot snapshot = RateSnapshot.of(4, List.of(r30, r10, r20));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
 
         mockMvc.perform(get("/api/interest-rates"))
                 .andExpect(status().isOk())
@@ -108,7 +121,7 @@ class MortgageControllerIT {
                 .andExpect(jsonPath("$[1].interestRate").value(5.25))
                 .andExpect(jsonPath("$[1].lastUpdate").value("2024-12-31T10:30:00Z"));
 
-        verify(interestRateService).getAllRates();
+        verify(interestRateService).getSnapshot();
         verifyNoMoreInteractions(interestRateService);
         verifyNoInteractions(mortgageEngine);
     }
@@ -153,6 +166,181 @@ class MortgageControllerIT {
     }
 
 
+    @Test
+    @DisplayName("GET /api/interest-rates: If-None-Match with the current ETag gets 304 without a body")
+    void getInterestRates_ifNoneMatch_notModified() throws Exception {
+        RateSnapshot snapshot = RateSnapshot.of(12, List.of(new InterestRate(10, new BigDecimal("3.75"), Instant.parse("2024-12-01T10:30:00Z"))));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/interest-rates"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + snapshot.tag() + "\""))
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andExpect(jsonPath("$[0].interestRate").value(3.75));
+        mockMvc.perform(get("/api/interest-rates").header("If-None-Match", "\"11-0\", W/\"" + snapshot.tag() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + snapshot.tag() + "\""))
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/interest-rates").header("If-None-Match", "\"12\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates: gzip-accepting clients get the pre-compressed body")
+    void getInterestRates_gzip() throws Exception {
+        RateSnapshot snapshot = RateSnapshot.of(13, List.of(new InterestRate(10, new BigDecimal("3.75"), Instant.parse("2024-12-01T10:30:00Z"))));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
+
+        byte[] gzip = mockMvc.perform(get("/api/interest-rates").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertEquals("[{\"maturityPeriod\":10,\"interestRate\":3.75,\"lastUpdate\":\"2024-12-01T10:30:00Z\"}]", json);
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates?asOf: returns the rates published at that instant")
+    void getInterestRates_asOf() throws Exception {
+        Instant asOf = Instant.parse("2025-01-15T00:00:00Z");
+        when(interestRateService.getAllRates(asOf)).thenReturn(List.of(
+                new InterestRate(10, new BigDecimal("3.10"), Instant.parse("2025-01-01T00:00:00Z"))));
+
+        mockMvc.perform(get("/api/interest-rates").param("asOf", "2025-01-15T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].maturityPeriod").value(10))
+                .andExpect(jsonPath("$[0].interestRate").value(3.10));
+
+        verify(interestRateService).getAllRates(asOf);
+        verifyNoMoreInteractions(interestRateService);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check with asOf: evaluates against the historic publication")
+    void mortgageCheck_asOf_usesHistoricSnapshot() throws Exception {
+        Instant asOf = Instant.parse("2025-01-15T00:00:00Z");
+        RateSnapshot historic = RateSnapshot.of(3, Instant.parse("2025-01-01T00:00:00Z"),
+                List.of(new InterestRate(30, new BigDecimal("3.10"), Instant.parse("2025-01-01T00:00:00Z"))));
+        AnnuityFactorTable.Snapshot quotes = new AnnuityFactorTable.Snapshot(java.util.Map.of(), 3);
+        when(interestRateService.getSnapshotAsOf(asOf)).thenReturn(historic);
+        when(annuityFactorTable.snapshotOf(historic)).thenReturn(quotes);
+        when(mortgageEngine.calculateMortgageCost(any(), eq(quotes)))
+                .thenReturn(new MortgageResult(true, new BigDecimal("853.21")));
+
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "income": 60000.00,
+                                  "loanValue": 200000.00,
+                                  "homeValue": 220000.00,
+                                  "maturityPeriod": 30,
+                                  "asOf": "2025-01-15T00:00:00Z"
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feasible").value(true))
+                .andExpect(jsonPath("$.monthlyCost").value(853.21));
+
+        verify(mortgageEngine).calculateMortgageCost(any(), eq(quotes));
+        verifyNoMoreInteractions(mortgageEngine);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check with asOf before the first publication: 400")
+    void mortgageCheck_asOf_noRatesYet() throws Exception {
+        Instant asOf = Instant.parse("2000-01-01T00:00:00Z");
+        when(interestRateService.getSnapshotAsOf(asOf))
+                .thenThrow(new IllegalArgumentException("No interest rates published as of " + asOf));
+
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "income": 60000.00,
+                                  "loanValue": 200000.00,
+                                  "homeValue": 220000.00,
+                                  "maturityPeriod": 30,
+                                  "asOf": "2000-01-01T00:00:00Z"
+                                }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("No interest rates published as of 2000-01-01T00:00:00Z"));
+
+        verifyNoInteractions(mortgageEngine);
+    }
+
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: the JSON codec rejects unknown fields with 400 and the offset")
+    void mortgageCheck_unknownField_badRequest() throws Exception {
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"income\":60000,\"maturityPeriod\":30,\"loanValue\":1,\"homeValue\":2,\"incme\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed request body"))
+                .andExpect(jsonPath("$.details[0]").value("Malformed JSON at offset 64: unknown field 'incme'"));
+
+        verifyNoInteractions(mortgageEngine);
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: bodies in another charset are left to Jackson")
+    void mortgageCheck_utf16_readByJackson() throws Exception {
+        when(mortgageEngine.calculateMortgageCost(any()))
+                .thenReturn(new MortgageResult(false, null));
+        String json = "{\"income\":60000,\"maturityPeriod\":30,\"loanValue\":200000,\"homeValue\":220000}";
+
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_16))
+                        .content(json.getBytes(StandardCharsets.UTF_16)))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"feasible\":false,\"monthlyCost\":null}", true));
+
+        verify(mortgageEngine).calculateMortgageCost(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: binary request and response when the client sends and accepts the binary type")
+    void mortgageCheck_binary() throws Exception {
+        when(mortgageEngine.calculateMortgageCost(any()))
+                .thenReturn(new MortgageResult(true, new BigDecimal("1200.50")));
+
+        byte[] response = mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MortgageCheckBinary.MEDIA_TYPE)
+                        .accept(MortgageCheckBinary.MEDIA_TYPE)
+                        .content(HexFormat.of().parseHex(MortgageCheckBinaryTest.REQUEST_HEX)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MortgageCheckBinary.MEDIA_TYPE))
+                .andExpect(header().longValue("Content-Length", MortgageCheckBinary.RESPONSE_BYTES))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(MortgageCheckBinaryTest.RESPONSE_HEX, HexFormat.of().formatHex(response));
+        verify(mortgageEngine).calculateMortgageCost(MortgageInput.builder()
+                .income(new BigDecimal("60000.00"))
+                .maturityPeriod(30)
+                .loanValue(new BigDecimal("200000"))
+                .homeValue(new BigDecimal("220000")).build());
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check: a malformed binary body is 400 with a JSON error, though only binary is accepted")
+    void mortgageCheck_binaryMalformed_badRequest() throws Exception {
+        mockMvc.perform(post("/api/mortgage-check")
+                        .contentType(MortgageCheckBinary.MEDIA_TYPE)
+                        .accept(MortgageCheckBinary.MEDIA_TYPE)
+                        .content(new byte[39]))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.details[0]").value("Request body must be 40 bytes, got 39"));
+
+        verifyNoInteractions(mortgageEngine);
+    }
+
     @ParameterizedTest(name = "{index}: Invalid payload -> {0}")
     @MethodSource("invalidRequests")
     @DisplayName("POST /api/mortgage-check — invalid payloads return 400 with expected messages; engine not invoked")
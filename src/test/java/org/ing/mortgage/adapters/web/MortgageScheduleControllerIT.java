@@ -0,0 +1,110 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.application.engine.AmortizationCalculator;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.config.ClientRateLimiter;
+import org.ing.mortgage.config.RateLimitConfiguration;
+import org.ing.mortgage.config.RateLimitProperties;
+import org.ing.mortgage.domain.InterestRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MortgageScheduleController.class)
+@Import({AmortizationCalculator.class, AnnuityFactorTable.class, MortgageService.class,
+        RateLimitConfiguration.class, RateLimitProperties.class})
+class MortgageScheduleControllerIT {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AnnuityFactorTable annuityFactorTable;
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+
+    @BeforeEach
+    void setUp() {
+        annuityFactorTable.onRatesChanged(List.of(new InterestRate(30, new BigDecimal("3.5"), Instant.now())));
+    }
+
+    @Test
+    @DisplayName("GET /api/mortgage-schedule: full schedule as a JSON array")
+    void getMortgageSchedule_fullSchedule() throws Exception {
+        mockMvc.perform(get("/api/mortgage-schedule")
+                        .param("loanValue", "250000")
+                        .param("maturityPeriod", "30"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(360))
+                .andExpect(jsonPath("$[0].month").value(1))
+                .andExpect(jsonPath("$[0].payment").value(1122.61))
+                .andExpect(jsonPath("$[359].month").value(360))
+                .andExpect(jsonPath("$[359].remainingBalance").value(0));
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-schedule: only the requested slice is returned")
+    void postMortgageSchedule_slice() throws Exception {
+        mockMvc.perform(post("/api/mortgage-schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"loanValue": 250000, "maturityPeriod": 30, "fromMonth": 120, "toMonth": 122}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].month").value(120))
+                .andExpect(jsonPath("$[2].month").value(122));
+    }
+
+    @Test
+    @DisplayName("GET /api/mortgage-schedule: months beyond the maturity return 400 before streaming")
+    void getMortgageSchedule_outOfRange() throws Exception {
+        mockMvc.perform(get("/api/mortgage-schedule")
+                        .param("loanValue", "250000")
+                        .param("maturityPeriod", "30")
+                        .param("toMonth", "400"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Requested months must satisfy 1 <= fromMonth <= toMonth <= 360"));
+    }
+
+    @Test
+    @DisplayName("GET /api/mortgage-schedule: invalid parameters return validation details")
+    void getMortgageSchedule_invalidParameters() throws Exception {
+        mockMvc.perform(get("/api/mortgage-schedule")
+                        .param("loanValue", "-1")
+                        .param("maturityPeriod", "30"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("loanValue: Loan Value must be greater than 0"));
+    }
+
+    @Test
+    @DisplayName("GET /api/mortgage-schedule: rate limited requests return 429")
+    void getMortgageSchedule_rateLimited() throws Exception {
+        when(clientRateLimiter.acquire(any(), any(), anyInt())).thenReturn(Duration.ofMinutes(1).toNanos());
+        mockMvc.perform(get("/api/mortgage-schedule")
+                        .param("loanValue", "250000")
+                        .param("maturityPeriod", "30"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+                .andExpect(jsonPath("$.message").value("Too many requests"));
+    }
+}
@@ -0,0 +1,132 @@
+package org.ing.mortgage.adapters.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.application.engine.AnnuityFactorTable;
+import org.ing.mortgage.application.engine.MortgageBatchEngine;
+import org.ing.mortgage.config.ClientRateLimiter;
+import org.ing.mortgage.config.RateLimitConfiguration;
+import org.ing.mortgage.config.RateLimitProperties;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MortgageStreamController.class)
+@Import({MortgageCheckItems.class, MortgageStreamControllerIT.Metrics.class,
+        RateLimitConfiguration.class, RateLimitProperties.class})
+@TestPropertySource(properties = "mortgage.stream.chunkSize=2")
+class MortgageStreamControllerIT {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockBean
+    private MortgageBatchEngine mortgageBatchEngine;
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+    private final AnnuityFactorTable.Snapshot snapshot = new AnnuityFactorTable.Snapshot(Map.of());
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(mortgageBatchEngine.snapshot()).thenReturn(snapshot);
+        when(mortgageBatchEngine.calculateAll(anyList(), same(snapshot))).thenAnswer(inv -> {
+            List<MortgageInput> inputs = inv.getArgument(0);
+            return inputs.stream()
+                    .map(in -> in == null ? null
+                            : new MortgageBatchEngine.Outcome(new MortgageResult(true, in.loanValue().movePointLeft(3)), null))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/stream: one output line per input line, evaluated in chunks against one snapshot")
+    void mortgageCheckStream_writesOneLinePerRecord() throws Exception {
+        String body = """
+                {"income": 60000, "loanValue": 100000, "homeValue": 220000, "maturityPeriod": 30}
+                {"income": 0, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 30}
+                {"income": 60000, "loanValue": 300000, "homeValue": 320000, "maturityPeriod": 20}
+                """;
+
+        String response = mockMvc.perform(post("/api/mortgage-check/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("""
+                {"feasible":true,"monthlyCost":100.000}
+                {"error":"Validation failed","details":["income: Income must be greater than 0"]}
+                {"feasible":true,"monthlyCost":300.000}
+                """, response);
+        verify(mortgageBatchEngine, times(2)).calculateAll(anyList(), same(snapshot));
+        verify(mortgageBatchEngine, times(1)).snapshot();
+        assertEquals(3.0, meterRegistry.get("mortgage.stream.rows").counter().count());
+        assertEquals(1, meterRegistry.get("mortgage.stream.throughput").summary().count());
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/stream: a malformed record ends the stream with an error line")
+    void mortgageCheckStream_malformedRecord() throws Exception {
+        String body = """
+                {"income": 60000, "loanValue": 100000, "homeValue": 220000, "maturityPeriod": 30}
+                {"income": 60000, "loanValue":
+                """;
+
+        String response = mockMvc.perform(post("/api/mortgage-check/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"feasible\":true,\"monthlyCost\":100.000}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"error\":\"Malformed record"));
+    }
+
+    @Test
+    @DisplayName("POST /api/mortgage-check/stream: returns 429 when the rate limiter rejects the stream")
+    void mortgageCheckStream_rateLimited() throws Exception {
+        when(clientRateLimiter.acquire(any(), any(), anyInt())).thenReturn(1L);
+
+        mockMvc.perform(post("/api/mortgage-check/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isTooManyRequests());
+
+        verify(mortgageBatchEngine, never()).calculateAll(anyList(), same(snapshot));
+    }
+}
@@ -0,0 +1,55 @@
+package org.ing.mortgage.adapters.web;
+
+import org.ing.mortgage.application.engine.RateGridCalculator;
+import org.ing.mortgage.domain.RateGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RateGridController.class)
+class RateGridControllerIT {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private RateGridCalculator rateGridCalculator;
+
+    @Test
+    @DisplayName("GET /api/mortgage-rate-grid: returns the grid with its rate version")
+    void getRateGrid_returnsGrid() throws Exception {
+        List<BigDecimal> loans = List.of(new BigDecimal("100000"), new BigDecimal("200000"));
+        when(rateGridCalculator.grid(25, 25, loans)).thenReturn(new RateGrid(7, loans, List.of(
+                new RateGrid.Row(30, -25, new BigDecimal("3.25"), List.of(new BigDecimal("435.21"), new BigDecimal("870.42"))),
+                new RateGrid.Row(30, 0, new BigDecimal("3.50"), List.of(new BigDecimal("449.04"), new BigDecimal("898.09"))))));
+
+        mockMvc.perform(get("/api/mortgage-rate-grid")
+                        .param("maxShiftBasisPoints", "25")
+                        .param("stepBasisPoints", "25")
+                        .param("loanValues", "100000", "200000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rateVersion").value(7))
+                .andExpect(jsonPath("$.rows[0].shiftBasisPoints").value(-25))
+                .andExpect(jsonPath("$.rows[1].monthlyCosts[1]").value(898.09));
+    }
+
+    @Test
+    @DisplayName("GET /api/mortgage-rate-grid: missing loan values return 400")
+    void getRateGrid_invalidRequest() throws Exception {
+        mockMvc.perform(get("/api/mortgage-rate-grid")
+                        .param("maxShiftBasisPoints", "25")
+                        .param("stepBasisPoints", "25"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("loanValues: must not be empty"));
+        verify(rateGridCalculator, never()).grid(anyInt(), anyInt(), anyList());
+    }
+}
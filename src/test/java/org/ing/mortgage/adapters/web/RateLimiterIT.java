@@ -3,6 +3,7 @@ package org.ing.mortgage.adapters.web;
 import org.ing.mortgage.application.engine.MortgageEngine;
 import org.ing.mortgage.application.service.InterestRateService;
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
 import org.ing.mortgage.exception.ApiError;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
@@ -18,7 +22,9 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -48,7 +54,8 @@ class RateLimiterIT {
         when(r30.maturityPeriod()).thenReturn(30);
         when(r30.interestRate()).thenReturn(new BigDecimal("5.25"));
         when(r30.lastUpdate()).thenReturn(Instant.parse("2024-12-31T10:30:00Z"));
-        when(interestRateService.getAllRates()).thenReturn(List.of(r30, r10, r20));
+        RateSnapshot snapshot = RateSnapshot.of(4, List.of(r30, r10, r20));
+        when(interestRateService.getSnapshot()).thenReturn(snapshot);
 
         ResponseEntity<String> response =
                 restTemplate.getForEntity("/api/interest-rates", String.class);
@@ -57,7 +64,25 @@ class RateLimiterIT {
                 restTemplate.getForEntity("/api/interest-rates", ApiError.class);
         assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseError.getStatusCode());
         assertEquals("Too Many Requests", responseError.getBody().error());
+        assertEquals("60", responseError.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
 
     }
 
+    @Test
+    @DisplayName("POST /api/mortgage-check/batch: a batch larger than the tier's burst is 400 naming the limit, not a 429")
+    void mortgageCheckBatch_largerThanBurst() {
+        String item = """
+                {"income": 60000, "loanValue": 200000, "homeValue": 220000, "maturityPeriod": 30}""";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<ApiError> response = restTemplate.postForEntity("/api/mortgage-check/batch",
+                new HttpEntity<>("[" + item + "," + item + "]", headers), ApiError.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Batch must contain between 1 and 1 items", response.getBody().message());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        verifyNoInteractions(mortgageEngine);
+    }
+
 }
@@ -0,0 +1,95 @@
+package org.ing.mortgage.adapters.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateStreamBroadcasterTest {
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final InterestRateService interestRateService = mock(InterestRateService.class);
+    private final RateStreamBroadcaster broadcaster = new RateStreamBroadcaster(interestRateService,
+            new SimpleMeterRegistry(), Duration.ofHours(1), Duration.ofHours(1), 64, 10, 2);
+
+    /** Records what it is sent; a closed gate blocks every send like a client that stopped reading. */
+    private static class Client extends SseEmitter {
+        final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch gate;
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        Client(boolean reading) {
+            gate = new CountDownLatch(reading ? 0 : 1);
+        }
+
+        @Override
+        public void send(SseEventBuilder event) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(event);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(count, sent.size());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    private static RateSnapshot version(long version) {
+        Instant at = T0.plusSeconds(version);
+        return RateSnapshot.of(version, at, List.of(new InterestRate(10, BigDecimal.valueOf(version), at)));
+    }
+
+    @Test
+    @DisplayName("a client that stopped reading neither delays the others nor keeps its connection once its queue overflows")
+    void slowClient_isolatedAndDisconnected() throws InterruptedException {
+        when(interestRateService.getSnapshot()).thenReturn(version(1));
+        Client stalled = new Client(false);
+        Client reading = new Client(true);
+        broadcaster.register(stalled, null);
+        broadcaster.register(reading, null);
+        reading.awaitSent(1);
+
+        for (long v = 2; v <= 5; v++) {
+            broadcaster.onRatesChanged(version(v));
+            reading.awaitSent((int) v);
+        }
+
+        assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(stalled.sent.isEmpty());
+        assertEquals(1, reading.completed.getCount());
+        stalled.gate.countDown();
+    }
+}
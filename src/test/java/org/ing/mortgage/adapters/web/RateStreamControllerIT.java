@@ -0,0 +1,152 @@
+package org.ing.mortgage.adapters.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.application.service.InterestRateService;
+import org.ing.mortgage.config.ClientRateLimiter;
+import org.ing.mortgage.config.RateLimitConfiguration;
+import org.ing.mortgage.config.RateLimitProperties;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RateStreamController.class)
+@Import({RateStreamBroadcaster.class, RateStreamControllerIT.Metrics.class,
+        RateLimitConfiguration.class, RateLimitProperties.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RateStreamControllerIT {
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RateStreamBroadcaster broadcaster;
+    @MockBean
+    private InterestRateService interestRateService;
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+    private final RateSnapshot v1 = RateSnapshot.of(1, T0, List.of(
+            new InterestRate(10, new BigDecimal("3.5"), T0),
+            new InterestRate(20, new BigDecimal("3.8"), T0)));
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(interestRateService.getSnapshot()).thenReturn(v1);
+    }
+
+    private MvcResult connect(String lastEventId) throws Exception {
+        var request = get("/api/interest-rates/stream").accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /** Events are written on a sender thread, so waits for the matching one to be complete as well. */
+    private static String awaitBody(MvcResult result, Predicate<String> done) throws Exception {
+        MockHttpServletResponse response = result.getResponse();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = response.getContentAsString();
+        while (!(done.test(body) && body.endsWith("\n\n")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates/stream: snapshot on connect, then a delta per new version")
+    void stream_sendsSnapshotThenDeltas() throws Exception {
+        MvcResult result = connect(null);
+        String body = awaitBody(result, b -> b.contains("event:snapshot"));
+        assertTrue(body.contains("id:1@2025-01-01T00:00:00Z\n"), body);
+        assertTrue(body.contains("\"maturityPeriod\":20"), body);
+
+        Instant t1 = T0.plusSeconds(60);
+        RateSnapshot v2 = RateSnapshot.of(2, t1, List.of(
+                new InterestRate(10, new BigDecimal("3.6"), t1),
+                new InterestRate(20, new BigDecimal("3.8"), T0)));
+        broadcaster.onRatesChanged(v2);
+        broadcaster.onRatesChanged(v1);
+
+        body = awaitBody(result, b -> b.contains("event:delta"));
+        String delta = body.substring(body.indexOf("id:2"));
+        assertTrue(delta.contains("\"previousVersion\":1"), body);
+        assertTrue(delta.contains("\"interestRate\":3.6"), body);
+        assertFalse(delta.contains("\"maturityPeriod\":20"), body);
+        assertEquals(1, body.split("event:delta").length - 1, body);
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates/stream: Last-Event-ID replays missed deltas, nothing when current, a snapshot for any other id")
+    void stream_resumesFromLastEventId() throws Exception {
+        MvcResult first = connect(null);
+        awaitBody(first, b -> b.contains("event:snapshot"));
+        Instant t1 = T0.plusSeconds(60);
+        RateSnapshot v2 = RateSnapshot.of(2, t1, List.of(new InterestRate(10, new BigDecimal("3.6"), t1)));
+        broadcaster.onRatesChanged(v2);
+        awaitBody(first, b -> b.contains("event:delta"));
+
+        String replayed = awaitBody(connect("1@2025-01-01T00:00:00Z"), b -> b.contains("event:delta"));
+        assertTrue(replayed.contains("id:2@2025-01-01T00:01:00Z\n"), replayed);
+        assertTrue(replayed.contains("\"removed\":[20]"), replayed);
+        assertFalse(replayed.contains("event:snapshot"), replayed);
+
+        MvcResult current = connect("2@2025-01-01T00:01:00Z");
+        Thread.sleep(100);
+        assertEquals("", current.getResponse().getContentAsString());
+
+        for (String other : List.of("999", "2", "2@2025-01-01T00:02:00Z", "1@2025-01-01T00:00:01Z")) {
+            String unknown = awaitBody(connect(other), b -> b.contains("event:snapshot"));
+            assertTrue(unknown.contains("id:2@2025-01-01T00:01:00Z\n"), unknown);
+            assertFalse(unknown.contains("event:delta"), unknown);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/interest-rates/stream: 429 when the rate limiter denies the connection")
+    void stream_rateLimited() throws Exception {
+        when(clientRateLimiter.acquire(any(), any(), anyInt())).thenReturn(1L);
+        mockMvc.perform(get("/api/interest-rates/stream"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
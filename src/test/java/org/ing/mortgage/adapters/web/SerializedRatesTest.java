@@ -0,0 +1,76 @@
+package org.ing.mortgage.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.ing.mortgage.adapters.web.dto.InterestRateDto;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedRatesTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static SerializedRates rates(long version) {
+        return SerializedRates.of(RateSnapshot.of(version, List.of()),
+                List.of(new InterestRateDto(10, new BigDecimal("3.8"), Instant.parse("2025-01-01T00:00:00Z"))), MAPPER);
+    }
+
+    @Test
+    void of_serializesPlainAndGzipOnce() throws Exception {
+        SerializedRates rates = rates(5);
+
+        assertEquals("\"5-e3b0c44298fc1c14\"", rates.eTag());
+        assertEquals("[{\"maturityPeriod\":10,\"interestRate\":3.8,\"lastUpdate\":\"2025-01-01T00:00:00Z\"}]", new String(rates.json()));
+        assertArrayEquals(rates.json(), new GZIPInputStream(new ByteArrayInputStream(rates.gzip())).readAllBytes());
+    }
+
+    @Test
+    void eTag_differsForOtherRatesUnderTheSameVersion() {
+        Instant at = Instant.parse("2025-01-01T00:00:00Z");
+        RateSnapshot node1 = RateSnapshot.of(1, List.of(new InterestRate(10, new BigDecimal("3.8"), at)));
+        RateSnapshot node2 = RateSnapshot.of(1, List.of(new InterestRate(10, new BigDecimal("4.1"), at)));
+        RateSnapshot restarted = RateSnapshot.of(1, Instant.now(), List.of(new InterestRate(10, new BigDecimal("3.8"), at)));
+
+        assertNotEquals(node1.tag(), node2.tag());
+        assertEquals(node1.tag(), restarted.tag());
+        assertTrue(node1.tag().startsWith("1-"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+            "\"5-e3b0c44298fc1c14\"                        | true",
+            "W/\"5-e3b0c44298fc1c14\"                      | true",
+            "\"4-e3b0c44298fc1c14\", \"5-e3b0c44298fc1c14\" | true",
+            "*                                            | true",
+            "\"4-e3b0c44298fc1c14\"                        | false",
+            "\"5\"                                          | false",
+            "5-e3b0c44298fc1c14                           | false",
+            "NULL           | false"})
+    void matches_weakComparison(String ifNoneMatch, boolean expected) {
+        assertEquals(expected, rates(5).matches(ifNoneMatch));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+            "gzip                 | true",
+            "br, GZIP;q=0.5       | true",
+            "gzip;q=0             | false",
+            "gzip;q=0.0, deflate  | false",
+            "deflate, identity    | false",
+            "NULL                 | false"})
+    void acceptsGzip(String acceptEncoding, boolean expected) {
+        assertEquals(expected, SerializedRates.acceptsGzip(acceptEncoding));
+    }
+}
@@ -0,0 +1,107 @@
+package org.ing.mortgage.application.engine;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MaxLoan;
+import org.ing.mortgage.domain.MortgageInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AffordabilityCalculatorTest {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final AffordabilityCalculator calculator = new AffordabilityCalculator(mortgageService, table);
+    private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(MortgageService.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        ReflectionTestUtils.setField(calculator, "incomeMultiplier", 4);
+        table.onRatesChanged(List.of(
+                new InterestRate(30, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(5, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(10, BigDecimal.ZERO, Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+        serviceLogger.setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serviceLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("maxLoans: one entry per configured maturity, ordered by maturity")
+    void maxLoans_perMaturity() {
+        List<MaxLoan> result = calculator.maxLoans(new BigDecimal("1000000"), new BigDecimal("1122.61"), null);
+        assertEquals(List.of(5, 10, 20, 30), result.stream().map(MaxLoan::maturityPeriod).toList());
+        MaxLoan thirtyYears = result.get(3);
+        assertEquals(MaxLoan.Limit.BUDGET, thirtyYears.limitedBy());
+        assertEquals(new BigDecimal("1122.61"), thirtyYears.monthlyCost());
+        assertTrue(thirtyYears.maxLoanValue().compareTo(new BigDecimal("250000")) >= 0);
+    }
+
+    @Test
+    @DisplayName("maxLoans: budget limit is the largest loan within budget, for random budgets")
+    void maxLoans_budgetLimitIsTight() {
+        Random random = new Random(11);
+        BigDecimal cent = new BigDecimal("0.01");
+        for (int i = 0; i < 5_000; i++) {
+            BigDecimal budget = BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2);
+            for (MaxLoan maxLoan : calculator.maxLoans(new BigDecimal("100000000"), budget, null)) {
+                var quote = table.lookupOrThrow(maxLoan.maturityPeriod());
+                assertEquals(MaxLoan.Limit.BUDGET, maxLoan.limitedBy());
+                assertTrue(maxLoan.monthlyCost().compareTo(budget) <= 0);
+                assertEquals(maxLoan.monthlyCost(), cost(maxLoan.maxLoanValue(), quote));
+                assertTrue(cost(maxLoan.maxLoanValue().add(cent), quote).compareTo(budget) > 0,
+                        "one cent more must exceed the budget: " + budget + " " + maxLoan);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("maxLoans: income multiplier caps the loan and the result is feasible")
+    void maxLoans_incomeLimit() {
+        BigDecimal income = new BigDecimal("50000");
+        for (MaxLoan maxLoan : calculator.maxLoans(income, new BigDecimal("100000"), null)) {
+            assertEquals(MaxLoan.Limit.INCOME, maxLoan.limitedBy());
+            assertEquals(new BigDecimal("200000.00"), maxLoan.maxLoanValue());
+            assertTrue(mortgageService.isFeasible(new MortgageInput(income, maxLoan.maturityPeriod(),
+                    maxLoan.maxLoanValue(), maxLoan.maxLoanValue())));
+        }
+    }
+
+    @Test
+    @DisplayName("maxLoans: home value caps the loan when given")
+    void maxLoans_homeValueLimit() {
+        for (MaxLoan maxLoan : calculator.maxLoans(new BigDecimal("100000"), new BigDecimal("100000"), new BigDecimal("150000.555"))) {
+            assertEquals(MaxLoan.Limit.HOME_VALUE, maxLoan.limitedBy());
+            assertEquals(new BigDecimal("150000.55"), maxLoan.maxLoanValue());
+        }
+    }
+
+    @Test
+    @DisplayName("maxLoans: budget below one cent of cost yields no loan")
+    void maxLoans_tinyBudget() {
+        MaxLoan maxLoan = calculator.maxLoans(new BigDecimal("100000"), new BigDecimal("0.001"), null).get(0);
+        assertEquals(new BigDecimal("0.00"), maxLoan.maxLoanValue());
+        assertEquals(MaxLoan.Limit.BUDGET, maxLoan.limitedBy());
+    }
+
+    private BigDecimal cost(BigDecimal loan, AnnuityFactorTable.Quote quote) {
+        return mortgageService.calculateMonthlyCost(loan, quote.maturityMonth(), quote.annuityFactor());
+    }
+}
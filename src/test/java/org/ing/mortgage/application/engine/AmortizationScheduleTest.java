@@ -0,0 +1,122 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.AmortizationRow;
+import org.ing.mortgage.domain.InterestRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationScheduleTest {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final AmortizationCalculator calculator = new AmortizationCalculator(mortgageService, table);
+
+    @BeforeEach
+    void setUp() {
+        table.onRatesChanged(List.of(
+                new InterestRate(10, BigDecimal.ZERO, Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now()),
+                new InterestRate(30, new BigDecimal("3.5"), Instant.now())));
+    }
+
+    @ParameterizedTest(name = "loan {0} over {1} years")
+    @CsvSource({"250000, 30", "235000.55, 20", "100000, 10", "100, 10", "1, 30", "999999999, 20"})
+    @DisplayName("rows: every row adds up without negative interest, balances chain and the loan is repaid in the last month")
+    void rows_fullSchedule_isConsistent(String loan, int maturityPeriod) {
+        AmortizationSchedule schedule = calculator.schedule(new BigDecimal(loan), maturityPeriod);
+        List<AmortizationRow> rows = schedule.rows(1, schedule.months()).toList();
+
+        assertEquals(maturityPeriod * 12, rows.size());
+        BigDecimal balance = new BigDecimal(loan).setScale(2);
+        for (AmortizationRow row : rows) {
+            if (row.month() < schedule.months()) {
+                assertTrue(row.payment().subtract(schedule.payment()).abs().compareTo(new BigDecimal("0.01")) <= 0);
+            }
+            assertTrue(row.interest().signum() >= 0);
+            assertEquals(row.payment(), row.interest().add(row.principal()));
+            assertEquals(balance.subtract(row.principal()), row.remainingBalance());
+            balance = row.remainingBalance();
+        }
+        assertEquals(0, balance.signum());
+    }
+
+    @Test
+    @DisplayName("payment: same figure as the mortgage check monthly cost")
+    void payment_matchesMonthlyCost() {
+        var quote = table.lookupOrThrow(30);
+        BigDecimal loan = new BigDecimal("250000");
+        assertEquals(mortgageService.calculateMonthlyCost(loan, quote.maturityMonth(), quote.annuityFactor()),
+                calculator.schedule(loan, 30).payment());
+    }
+
+    @Test
+    @DisplayName("rows: interest follows the monthly rate on the previous balance within rounding")
+    void rows_interestFollowsRate() {
+        AmortizationSchedule schedule = calculator.schedule(new BigDecimal("250000"), 30);
+        double monthlyRate = mortgageService.monthlyRate(new BigDecimal("3.5"));
+        AmortizationRow first = schedule.row(1);
+        assertEquals(250000 * monthlyRate, first.interest().doubleValue(), 0.01);
+        AmortizationRow row = schedule.row(120);
+        double previous = schedule.row(119).remainingBalance().doubleValue();
+        assertEquals(previous * monthlyRate, row.interest().doubleValue(), 0.02);
+    }
+
+    @Test
+    @DisplayName("rows: a slice equals the same months of the full schedule")
+    void rows_sliceMatchesFullSchedule() {
+        AmortizationSchedule schedule = calculator.schedule(new BigDecimal("300000"), 20);
+        List<AmortizationRow> full = schedule.rows(1, 240).toList();
+        assertEquals(full.subList(99, 130), schedule.rows(100, 130).toList());
+        assertEquals(full.subList(239, 240), schedule.rows(240, 240).toList());
+    }
+
+    @Test
+    @DisplayName("rows: zero rate amortizes linearly without interest")
+    void rows_zeroRate_isLinear() {
+        AmortizationSchedule schedule = calculator.schedule(new BigDecimal("120000"), 10);
+        schedule.rows(1, 120).forEach(row -> {
+            assertEquals(0, row.interest().signum());
+            assertEquals(new BigDecimal("1000.00"), row.principal());
+        });
+    }
+
+    @Test
+    @DisplayName("rows: at a zero rate the last payment takes the rounding residue instead of negative interest")
+    void rows_zeroRate_residueInLastPayment() {
+        AmortizationSchedule schedule = new AmortizationSchedule(10000, 3, 0, 3333);
+        List<AmortizationRow> rows = schedule.rows(1, 3).toList();
+
+        assertEquals(List.of(new BigDecimal("33.33"), new BigDecimal("33.33"), new BigDecimal("33.34")),
+                rows.stream().map(AmortizationRow::payment).toList());
+        assertEquals(rows.stream().map(AmortizationRow::payment).toList(),
+                rows.stream().map(AmortizationRow::principal).toList());
+        rows.forEach(row -> assertEquals(0, row.interest().signum()));
+        assertEquals(new BigDecimal("33.34"), rows.get(1).remainingBalance());
+        assertEquals(0, rows.get(2).remainingBalance().signum());
+    }
+
+    @ParameterizedTest(name = "fromMonth={0} toMonth={1}")
+    @CsvSource({"0, 10", "10, 9", "1, 361"})
+    @DisplayName("rows: out-of-range months are rejected")
+    void rows_invalidRange_throws(int fromMonth, int toMonth) {
+        AmortizationSchedule schedule = calculator.schedule(new BigDecimal("250000"), 30);
+        var ex = assertThrows(IllegalArgumentException.class, () -> schedule.rows(fromMonth, toMonth));
+        assertEquals("Requested months must satisfy 1 <= fromMonth <= toMonth <= 360", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("schedule: missing maturity throws like the mortgage check")
+    void schedule_missingRate_throws() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> calculator.schedule(BigDecimal.TEN, 5));
+        assertEquals("No interest rate configured for maturity period=5years", ex.getMessage());
+    }
+}
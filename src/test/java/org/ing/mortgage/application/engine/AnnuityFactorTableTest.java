@@ -0,0 +1,106 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnuityFactorTableTest {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+
+    @Test
+    @DisplayName("lookup: empty before any rates are published")
+    void lookup_beforePublish_returnsNull() {
+        assertNull(table.lookup(10));
+    }
+
+    @Test
+    @DisplayName("onRatesChanged: quote carries the published rate and its precomputed factor")
+    void onRatesChanged_buildsQuotePerMaturity() {
+        InterestRate r10 = new InterestRate(10, new BigDecimal("3.8"), Instant.now());
+        table.onRatesChanged(List.of(r10));
+
+        var quote = table.lookup(10);
+        assertSame(r10, quote.rate());
+        assertEquals(120, quote.maturityMonth());
+        assertEquals(mortgageService.annuityFactor(new BigDecimal("3.8"), 120), quote.annuityFactor());
+        assertNull(table.lookup(20));
+    }
+
+    @Test
+    @DisplayName("onRatesChanged: a new publication replaces the previous table entirely")
+    void onRatesChanged_replacesPreviousTable() {
+        table.onRatesChanged(List.of(new InterestRate(10, new BigDecimal("3.8"), Instant.now())));
+        InterestRate r20 = new InterestRate(20, new BigDecimal("4.5"), Instant.now());
+        table.onRatesChanged(List.of(r20));
+
+        assertNull(table.lookup(10));
+        assertSame(r20, table.lookup(20).rate());
+    }
+
+    @Test
+    @DisplayName("onRatesChanged: takes over the store version and ignores older publications")
+    void onRatesChanged_versionedSnapshot_ignoresStale() {
+        InterestRate newer = new InterestRate(10, new BigDecimal("3.9"), Instant.now());
+        table.onRatesChanged(RateSnapshot.of(7, List.of(newer)));
+        table.onRatesChanged(RateSnapshot.of(6, List.of(new InterestRate(10, new BigDecimal("3.8"), Instant.now()))));
+
+        assertEquals(7, table.snapshot().version());
+        assertSame(newer, table.lookup(10).rate());
+    }
+
+    @Test
+    @DisplayName("snapshot: version increases with every publication")
+    void snapshot_versionIncreasesPerPublication() {
+        long initial = table.snapshot().version();
+        table.onRatesChanged(List.of(new InterestRate(10, new BigDecimal("3.8"), Instant.now())));
+        long first = table.snapshot().version();
+        table.onRatesChanged(List.of(new InterestRate(10, new BigDecimal("3.9"), Instant.now())));
+
+        assertTrue(first > initial);
+        assertTrue(table.snapshot().version() > first);
+    }
+
+    @Test
+    @DisplayName("lookup: monthly cost from the quote is the annuity payment to the cent")
+    void lookup_quoteGivesAnnuityPayment() {
+        table.onRatesChanged(List.of(new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+
+        var quote = table.lookup(20);
+        assertEquals(new BigDecimal("1581.62"),
+                mortgageService.calculateMonthlyCost(new BigDecimal("250000"), quote.maturityMonth(), quote.annuityFactor()));
+        assertEquals(new BigDecimal("632.65"),
+                mortgageService.calculateMonthlyCost(new BigDecimal("99999.99"), quote.maturityMonth(), quote.annuityFactor()));
+    }
+
+    @Test
+    @DisplayName("lookup: dense index answers gaps, negative and out-of-range maturities with null")
+    void lookup_denseIndexBounds() {
+        InterestRate r10 = new InterestRate(10, new BigDecimal("3.8"), Instant.now());
+        InterestRate r30 = new InterestRate(30, new BigDecimal("4.1"), Instant.now());
+        table.onRatesChanged(List.of(r10, r30));
+
+        assertSame(r10, table.lookup(10).rate());
+        assertSame(r30, table.lookup(30).rate());
+        assertNull(table.lookup(20));
+        assertNull(table.lookup(0));
+        assertNull(table.lookup(-1));
+        assertNull(table.lookup(31));
+        assertEquals(2, table.snapshot().quotes().size());
+    }
+
+    @Test
+    @DisplayName("lookupOrThrow: missing maturity throws IllegalArgumentException")
+    void lookupOrThrow_missing_throws() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> table.lookupOrThrow(15));
+        assertEquals("No interest rate configured for maturity period=15years", ex.getMessage());
+    }
+}
@@ -0,0 +1,89 @@
+package org.ing.mortgage.application.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+class CachingMortgageEngineTest {
+    private final MortgageEngine delegate = mock(MortgageEngine.class);
+    private final AnnuityFactorTable table = new AnnuityFactorTable(new MortgageService());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CachingMortgageEngine engine = new CachingMortgageEngine(delegate, table, meterRegistry, 2, Runnable::run);
+
+    private final MortgageInput input = new MortgageInput(new BigDecimal("60000"), 30, new BigDecimal("250000"), new BigDecimal("300000"));
+    private final MortgageResult result = new MortgageResult(true, new BigDecimal("1122.61"));
+
+    @BeforeEach
+    void setUp() {
+        table.onRatesChanged(List.of(new InterestRate(30, new BigDecimal("3.5"), Instant.now())));
+        when(delegate.calculateMortgageCost(any(), any())).thenReturn(result);
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: repeated identical inputs are computed once")
+    void calculateMortgageCost_repeatedInput_hitsCache() {
+        assertSame(result, engine.calculateMortgageCost(input));
+        assertSame(result, engine.calculateMortgageCost(new MortgageInput(
+                new BigDecimal("60000.00"), 30, new BigDecimal("250000.0"), new BigDecimal("300000"))));
+
+        verify(delegate, times(1)).calculateMortgageCost(any(), same(table.snapshot()));
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "mortgageResults").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "mortgageResults").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: new rates invalidate cached results")
+    void calculateMortgageCost_ratesChanged_recomputes() {
+        engine.calculateMortgageCost(input);
+        table.onRatesChanged(List.of(new InterestRate(30, new BigDecimal("4.0"), Instant.now())));
+        engine.calculateMortgageCost(input);
+
+        verify(delegate, times(2)).calculateMortgageCost(any(), any());
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: size is bounded and evictions are counted")
+    void calculateMortgageCost_boundedSize() {
+        for (int i = 0; i < 20; i++) {
+            engine.calculateMortgageCost(new MortgageInput(BigDecimal.valueOf(60000 + i), 30, new BigDecimal("250000"), new BigDecimal("300000")));
+        }
+
+        assertTrue(meterRegistry.get("cache.size").tag("cache", "mortgageResults").gauge().value() <= 2);
+        assertTrue(meterRegistry.get("cache.evictions").tag("cache", "mortgageResults").functionCounter().count() >= 18);
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: failures are not cached")
+    void calculateMortgageCost_exception_notCached() {
+        when(delegate.calculateMortgageCost(any(), any())).thenThrow(new IllegalArgumentException("No interest rate"));
+
+        assertThrows(IllegalArgumentException.class, () -> engine.calculateMortgageCost(input));
+        assertThrows(IllegalArgumentException.class, () -> engine.calculateMortgageCost(input));
+        verify(delegate, times(2)).calculateMortgageCost(any(), any());
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: explicit snapshot bypasses the cache")
+    void calculateMortgageCost_explicitSnapshot_bypassesCache() {
+        var snapshot = table.snapshot();
+        engine.calculateMortgageCost(input, snapshot);
+        engine.calculateMortgageCost(input, snapshot);
+
+        verify(delegate, times(2)).calculateMortgageCost(input, snapshot);
+    }
+}
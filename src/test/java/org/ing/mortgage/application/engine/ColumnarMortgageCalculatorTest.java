@@ -0,0 +1,114 @@
+package org.ing.mortgage.application.engine;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarMortgageCalculatorTest {
+    private static final int SAMPLES = 200_003;
+    private static final int[] MATURITIES = {5, 10, 20};
+
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final FixedPointMortgageEngine fixedPointEngine = new FixedPointMortgageEngine(mortgageService, table);
+    private final Logger engineLogger = (Logger) LoggerFactory.getLogger(FixedPointMortgageEngine.class);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        ReflectionTestUtils.setField(fixedPointEngine, "incomeMultiplier", 4);
+        table.onRatesChanged(List.of(
+                new InterestRate(5, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(10, BigDecimal.ZERO, Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+        engineLogger.setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engineLogger.setLevel(null);
+    }
+
+    @Test
+    @DisplayName("create: identical to the fixed-point engine for every record")
+    void create_matchesFixedPointEngine() {
+        assertMatchesFixedPointEngine(ColumnarMortgageCalculator.create(4));
+    }
+
+    @Test
+    @DisplayName("scalar: identical to the fixed-point engine for every record")
+    void scalar_matchesFixedPointEngine() {
+        assertMatchesFixedPointEngine(new ScalarColumnarMortgageCalculator(4));
+    }
+
+    @Test
+    @DisplayName("calculate: columns of different length are rejected")
+    void calculate_mismatchedColumns_throws() {
+        var calculator = ColumnarMortgageCalculator.create(4);
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculate(table.snapshot(),
+                new long[2], new long[2], new long[1], new int[]{5, 5}, new boolean[2], new long[2]));
+    }
+
+    @Test
+    @DisplayName("calculate: missing maturity throws like the per-record engines")
+    void calculate_missingRate_throws() {
+        var calculator = ColumnarMortgageCalculator.create(4);
+        var ex = assertThrows(IllegalArgumentException.class, () -> calculator.calculate(table.snapshot(),
+                new long[]{100}, new long[]{100}, new long[]{100}, new int[]{30}, new boolean[1], new long[1]));
+        assertEquals("No interest rate configured for maturity period=30years", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("calculate: amounts beyond 2^53 cents are rejected")
+    void calculate_amountOutOfRange_throws() {
+        var calculator = ColumnarMortgageCalculator.create(4);
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculate(table.snapshot(),
+                new long[]{Long.MAX_VALUE}, new long[]{100}, new long[]{100}, new int[]{5}, new boolean[1], new long[1]));
+    }
+
+    private void assertMatchesFixedPointEngine(ColumnarMortgageCalculator calculator) {
+        Random random = new Random(42);
+        long[] income = new long[SAMPLES];
+        long[] loan = new long[SAMPLES];
+        long[] home = new long[SAMPLES];
+        int[] maturity = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            income[i] = random.nextLong(100, 50_000_000);
+            loan[i] = random.nextLong(100, 200_000_000);
+            home[i] = random.nextLong(100, 200_000_000);
+            maturity[i] = MATURITIES[random.nextInt(MATURITIES.length)];
+        }
+        boolean[] feasible = new boolean[SAMPLES];
+        long[] cost = new long[SAMPLES];
+
+        calculator.calculate(table.snapshot(), income, loan, home, maturity, feasible, cost);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            MortgageResult expected = fixedPointEngine.calculateMortgageCost(MortgageInput.builder()
+                    .income(BigDecimal.valueOf(income[i], 2))
+                    .loanValue(BigDecimal.valueOf(loan[i], 2))
+                    .homeValue(BigDecimal.valueOf(home[i], 2))
+                    .maturityPeriod(maturity[i]).build());
+            assertEquals(expected.feasible(), feasible[i], "feasible at " + i);
+            long expectedCost = expected.feasible() ? expected.monthlyCost().unscaledValue().longValueExact()
+                    : ColumnarMortgageCalculator.NO_COST;
+            assertEquals(expectedCost, cost[i], "monthly cost at " + i);
+        }
+    }
+}
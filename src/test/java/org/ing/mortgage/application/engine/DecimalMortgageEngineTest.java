@@ -1,6 +1,5 @@
 package org.ing.mortgage.application.engine;
 
-import org.ing.mortgage.application.service.InterestRateService;
 import org.ing.mortgage.application.service.MortgageService;
 import org.ing.mortgage.domain.InterestRate;
 import org.ing.mortgage.domain.MortgageInput;
@@ -13,22 +12,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-class MortgageEngineTest {
+class DecimalMortgageEngineTest {
 
     @Mock
     private MortgageService mortgageService;
 
     @Mock
-    private InterestRateService interestRateService;
+    private AnnuityFactorTable annuityFactorTable;
 
     @InjectMocks
-    private MortgageEngine mortgageEngine;
+    private DecimalMortgageEngine mortgageEngine;
 
     @Test
     @DisplayName("calculateMortgageCost: feasible input and rate found returns monthly cost")
@@ -38,12 +37,12 @@ class MortgageEngineTest {
         BigDecimal loanValue = new BigDecimal("200000");
         MortgageInput input = MortgageInput.builder().loanValue(loanValue).maturityPeriod(maturity).build();
 
-        InterestRate mockRate = mock(InterestRate.class);
+        var quote = new AnnuityFactorTable.Quote(mock(InterestRate.class), 360, 0.006);
         BigDecimal expectedMonthly = new BigDecimal("1200.50");
 
         when(mortgageService.isFeasible(input)).thenReturn(true);
-        when(interestRateService.findByMaturity(maturity)).thenReturn(Optional.of(mockRate));
-        when(mortgageService.calculateMonthlyCost(loanValue, mockRate)).thenReturn(expectedMonthly);
+        when(annuityFactorTable.snapshot()).thenReturn(new AnnuityFactorTable.Snapshot(Map.of(maturity, quote)));
+        when(mortgageService.calculateMonthlyCost(loanValue, 360, 0.006)).thenReturn(expectedMonthly);
 
         MortgageResult result = mortgageEngine.calculateMortgageCost(input);
 
@@ -52,26 +51,27 @@ class MortgageEngineTest {
         assertEquals(0, expectedMonthly.compareTo(result.monthlyCost()), "Monthly cost should match");
 
         verify(mortgageService).isFeasible(input);
-        verify(interestRateService).findByMaturity(maturity);
-        verify(mortgageService).calculateMonthlyCost(loanValue, mockRate);
-        verifyNoMoreInteractions(mortgageService, interestRateService);
+        verify(annuityFactorTable).snapshot();
+        verify(mortgageService).calculateMonthlyCost(loanValue, 360, 0.006);
+        verifyNoMoreInteractions(mortgageService, annuityFactorTable);
     }
 
     @Test
     @DisplayName("calculateMortgageCost: not feasible input skips rate lookup and returns null cost")
     void calculateMortgageCost_notFeasible_returnsFalseAndNullAndSkipsRateLookup() {
         MortgageInput input = mock(MortgageInput.class);
+        AnnuityFactorTable.Snapshot rates = mock(AnnuityFactorTable.Snapshot.class);
 
         when(mortgageService.isFeasible(input)).thenReturn(false);
 
-        MortgageResult result = mortgageEngine.calculateMortgageCost(input);
+        MortgageResult result = mortgageEngine.calculateMortgageCost(input, rates);
 
         assertFalse(result.feasible(), "Expected mortgage to be not feasible");
         assertNull(result.monthlyCost(), "Expected monthly cost to be null when not feasible");
 
         verify(mortgageService).isFeasible(input);
-        verifyNoInteractions(interestRateService);
-        verify(mortgageService, never()).calculateMonthlyCost(any(), any());
+        verifyNoInteractions(annuityFactorTable, rates);
+        verify(mortgageService, never()).calculateMonthlyCost(any(), anyInt(), anyDouble());
         verifyNoMoreInteractions(mortgageService);
     }
 
@@ -83,7 +83,7 @@ class MortgageEngineTest {
         MortgageInput input = MortgageInput.builder().loanValue(loanValue).maturityPeriod(maturity).build();
 
         when(mortgageService.isFeasible(input)).thenReturn(true);
-        when(interestRateService.findByMaturity(maturity)).thenReturn(Optional.empty());
+        when(annuityFactorTable.snapshot()).thenReturn(new AnnuityFactorTable.Snapshot(Map.of()));
 
         IllegalArgumentException ex = assertThrows(
                 IllegalArgumentException.class,
@@ -96,8 +96,8 @@ class MortgageEngineTest {
         );
 
         verify(mortgageService).isFeasible(input);
-        verify(interestRateService).findByMaturity(maturity);
-        verify(mortgageService, never()).calculateMonthlyCost(any(), any());
-        verifyNoMoreInteractions(mortgageService, interestRateService);
+        verify(annuityFactorTable).snapshot();
+        verify(mortgageService, never()).calculateMonthlyCost(any(), anyInt(), anyDouble());
+        verifyNoMoreInteractions(mortgageService, annuityFactorTable);
     }
 }
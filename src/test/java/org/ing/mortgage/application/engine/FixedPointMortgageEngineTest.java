@@ -0,0 +1,155 @@
+package org.ing.mortgage.application.engine;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointMortgageEngineTest {
+    private static final int DIFFERENTIAL_SAMPLES = 2_000_000;
+
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final DecimalMortgageEngine decimalEngine = new DecimalMortgageEngine(mortgageService, table);
+    private final FixedPointMortgageEngine fixedPointEngine = new FixedPointMortgageEngine(mortgageService, table);
+
+    private final List<Logger> silenced = List.of(
+            (Logger) LoggerFactory.getLogger(MortgageService.class),
+            (Logger) LoggerFactory.getLogger(FixedPointMortgageEngine.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mortgageService, "incomeMultiplier", 4);
+        ReflectionTestUtils.setField(fixedPointEngine, "incomeMultiplier", 4);
+        table.onRatesChanged(List.of(
+                new InterestRate(5, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(10, BigDecimal.ZERO, Instant.now()),
+                new InterestRate(20, new BigDecimal("4.5"), Instant.now())));
+        silenced.forEach(l -> l.setLevel(Level.OFF));
+    }
+
+    @AfterEach
+    void tearDown() {
+        silenced.forEach(l -> l.setLevel(null));
+    }
+
+    @ParameterizedTest(name = "toCents({0}) = {1}")
+    @CsvSource({"1, 100", "1.5, 150", "1.25, 125", "-3.07, -307", "0.01, 1", "1E+2, -9223372036854775808",
+            "1.005, -9223372036854775808", "123456789012345678, -9223372036854775808"})
+    void toCents_convertsOnlyExactCentAmounts(String amount, long expected) {
+        assertEquals(expected, FixedPointMortgageEngine.toCents(new BigDecimal(amount)));
+    }
+
+    @Test
+    @DisplayName("toCents: exact for every scale up to 16 digits, including the largest 15-digit values")
+    void toCents_exactUpToSixteenDigits() {
+        Random random = new Random(20250101L);
+        List<BigDecimal> amounts = new ArrayList<>(List.of(new BigDecimal("9999999999999.99"),
+                new BigDecimal("-9999999999999.99"), new BigDecimal("999999999999999"), new BigDecimal("90071992547409.92")));
+        for (int i = 0; i < 100_000; i++) {
+            long unscaled = random.nextLong() % (i % 2 == 0 ? 1_000_000_000_000_000L : 10_000_000_000_000_000L);
+            amounts.add(BigDecimal.valueOf(unscaled, random.nextInt(3)));
+        }
+        for (BigDecimal amount : amounts) {
+            long cents = amount.movePointRight(2).longValueExact();
+            long expected = Math.abs(cents) > FixedPointMortgageEngine.MAX_CENTS ? FixedPointMortgageEngine.NOT_CENTS : cents;
+            assertEquals(expected, FixedPointMortgageEngine.toCents(amount), amount.toPlainString());
+        }
+    }
+
+    @Test
+    @DisplayName("isFeasible: boundaries are inclusive like the decimal rules")
+    void isFeasible_boundaries() {
+        assertTrue(fixedPointEngine.isFeasible(6_000_000, 24_000_000, 30_000_000));
+        assertFalse(fixedPointEngine.isFeasible(6_000_000, 24_000_001, 30_000_000));
+        assertTrue(fixedPointEngine.isFeasible(8_000_000, 20_000_000, 20_000_000));
+        assertFalse(fixedPointEngine.isFeasible(8_000_000, 20_000_001, 20_000_000));
+    }
+
+    @Test
+    @DisplayName("isFeasible: income times multiplier beyond long range does not overflow")
+    void isFeasible_overflowingIncomeLimit() {
+        assertTrue(fixedPointEngine.isFeasible(Long.MAX_VALUE / 2, 1_000, 1_000));
+        assertFalse(fixedPointEngine.isFeasible(Long.MIN_VALUE / 2, 1_000, 1_000));
+    }
+
+    @ParameterizedTest(name = "roundToCents({0})")
+    @CsvSource({"1.005", "1.015", "2.675", "0.125", "-1.005", "1234.5649999999", "1234.565", "99.994999"})
+    void roundToCents_matchesBigDecimalValueOf(double amount) {
+        long expected = BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        assertEquals(expected, FixedPointMortgageEngine.roundToCents(amount));
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: more than two decimals falls back to the decimal path")
+    void calculateMortgageCost_subCentInput_usesDecimalPath() {
+        MortgageInput input = new MortgageInput(new BigDecimal("60000.001"), 20,
+                new BigDecimal("240000.004"), new BigDecimal("300000"));
+
+        assertEquals(decimalEngine.calculateMortgageCost(input), fixedPointEngine.calculateMortgageCost(input));
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: missing maturity throws like the decimal engine")
+    void calculateMortgageCost_missingRate_throws() {
+        MortgageInput input = new MortgageInput(new BigDecimal("60000"), 15,
+                new BigDecimal("200000"), new BigDecimal("300000"));
+
+        assertThrows(IllegalArgumentException.class, () -> fixedPointEngine.calculateMortgageCost(input));
+    }
+
+    @Test
+    @DisplayName("calculateMortgageCost: identical to the decimal engine over random inputs")
+    void calculateMortgageCost_differentialAgainstDecimalEngine() {
+        Random random = new Random(20240917L);
+        List<InterestRate> rates = new ArrayList<>();
+        for (int maturity = 1; maturity <= 30; maturity++) {
+            BigDecimal percent = BigDecimal.valueOf(random.nextInt(100_000), 4);
+            rates.add(new InterestRate(maturity, maturity % 10 == 0 ? BigDecimal.ZERO : percent, Instant.now()));
+        }
+        table.onRatesChanged(rates);
+
+        for (int i = 0; i < DIFFERENTIAL_SAMPLES; i++) {
+            MortgageInput input = new MortgageInput(
+                    randomAmount(random, 10_000_000_00L),
+                    1 + random.nextInt(30),
+                    randomAmount(random, 20_000_000_00L),
+                    randomAmount(random, 30_000_000_00L));
+
+            MortgageResult expected = decimalEngine.calculateMortgageCost(input);
+            MortgageResult actual = fixedPointEngine.calculateMortgageCost(input);
+            if (!expected.equals(actual)) {
+                fail("Mismatch for " + input + ": decimal=" + expected + " fixedPoint=" + actual);
+            }
+        }
+    }
+
+    /** Positive amount below the bound (in cents) with zero, one or two decimals. */
+    private static BigDecimal randomAmount(Random random, long boundCents) {
+        long cents = 1 + (long) (random.nextDouble() * boundCents);
+        return switch (random.nextInt(3)) {
+            case 0 -> BigDecimal.valueOf(Math.max(1, cents / 100));
+            case 1 -> BigDecimal.valueOf(Math.max(1, cents / 10), 1);
+            default -> BigDecimal.valueOf(cents, 2);
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.MortgageInput;
+import org.ing.mortgage.domain.MortgageResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MortgageBatchEngineTest {
+    @Mock
+    private MortgageEngine mortgageEngine;
+    @Mock
+    private AnnuityFactorTable annuityFactorTable;
+    @InjectMocks
+    private MortgageBatchEngine batchEngine;
+
+    private final AnnuityFactorTable.Snapshot snapshot = new AnnuityFactorTable.Snapshot(
+            Map.of(20, new AnnuityFactorTable.Quote(mock(InterestRate.class), 240, 0.006)));
+
+    private static MortgageInput input(int maturity, String loan) {
+        return new MortgageInput(new BigDecimal("60000"), maturity, new BigDecimal(loan), new BigDecimal("300000"));
+    }
+
+    @Test
+    @DisplayName("calculateAll: results keep input order and use one snapshot for the whole batch")
+    void calculateAll_preservesOrderAndSharesSnapshot() {
+        when(annuityFactorTable.snapshot()).thenReturn(snapshot);
+        List<MortgageInput> inputs = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            MortgageInput input = input(20, Integer.toString(i * 1000));
+            inputs.add(input);
+            when(mortgageEngine.calculateMortgageCost(input, snapshot))
+                    .thenReturn(new MortgageResult(true, BigDecimal.valueOf(i)));
+        }
+
+        var outcomes = batchEngine.calculateAll(inputs);
+
+        assertEquals(200, outcomes.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(BigDecimal.valueOf(i + 1), outcomes.get(i).result().monthlyCost());
+            assertNull(outcomes.get(i).error());
+        }
+        verify(annuityFactorTable, times(1)).snapshot();
+        verify(mortgageEngine, times(200)).calculateMortgageCost(any(), same(snapshot));
+    }
+
+    @Test
+    @DisplayName("calculateAll: a missing maturity is reported for that item only")
+    void calculateAll_itemErrorDoesNotFailBatch() {
+        when(annuityFactorTable.snapshot()).thenReturn(snapshot);
+        MortgageInput ok = input(20, "200000");
+        MortgageInput missing = input(15, "200000");
+        when(mortgageEngine.calculateMortgageCost(ok, snapshot)).thenReturn(new MortgageResult(false, null));
+        when(mortgageEngine.calculateMortgageCost(missing, snapshot))
+                .thenThrow(new IllegalArgumentException("No interest rate configured for maturity period=15years"));
+
+        var outcomes = batchEngine.calculateAll(List.of(missing, ok));
+
+        assertEquals("No interest rate configured for maturity period=15years", outcomes.get(0).error());
+        assertNull(outcomes.get(0).result());
+        assertFalse(outcomes.get(1).result().feasible());
+    }
+
+    @Test
+    @DisplayName("calculateAll: null inputs are skipped")
+    void calculateAll_nullInputSkipped() {
+        when(annuityFactorTable.snapshot()).thenReturn(snapshot);
+
+        var outcomes = batchEngine.calculateAll(Arrays.asList(null, null));
+
+        assertEquals(2, outcomes.size());
+        assertNull(outcomes.get(0));
+        verifyNoInteractions(mortgageEngine);
+    }
+}
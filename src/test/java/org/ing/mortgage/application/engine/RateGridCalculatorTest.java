@@ -0,0 +1,80 @@
+package org.ing.mortgage.application.engine;
+
+import org.ing.mortgage.application.service.MortgageService;
+import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.RateGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateGridCalculatorTest {
+    private final MortgageService mortgageService = new MortgageService();
+    private final AnnuityFactorTable table = new AnnuityFactorTable(mortgageService);
+    private final RateGridCalculator calculator = new RateGridCalculator(mortgageService, table);
+    private final List<BigDecimal> loans = List.of(new BigDecimal("100000"), new BigDecimal("250000"));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(calculator, "cacheEntries", 2);
+        table.onRatesChanged(List.of(
+                new InterestRate(30, new BigDecimal("3.5"), Instant.now()),
+                new InterestRate(10, new BigDecimal("0.1"), Instant.now())));
+    }
+
+    @Test
+    @DisplayName("grid: one row per maturity and shift, costs match the shifted rate")
+    void grid_cellsMatchShiftedRates() {
+        RateGrid grid = calculator.grid(25, 10, loans);
+
+        assertEquals(List.of(new BigDecimal("100000.00"), new BigDecimal("250000.00")), grid.loanValues());
+        assertEquals(10, grid.rows().size());
+        assertEquals(List.of(-20, -10, 0, 10, 20), grid.rows().subList(0, 5).stream().map(RateGrid.Row::shiftBasisPoints).toList());
+        assertEquals(List.of(10, 10, 10, 10, 10, 30, 30, 30, 30, 30), grid.rows().stream().map(RateGrid.Row::maturityPeriod).toList());
+
+        RateGrid.Row unshifted = grid.rows().get(7);
+        assertEquals(new BigDecimal("3.50"), unshifted.interestRate());
+        assertEquals(new BigDecimal("1122.61"), unshifted.monthlyCosts().get(1));
+
+        RateGrid.Row up = grid.rows().get(9);
+        assertEquals(new BigDecimal("3.70"), up.interestRate());
+        assertEquals(mortgageService.calculateMonthlyCost(new BigDecimal("100000"),
+                new InterestRate(30, new BigDecimal("3.70"), Instant.now())), up.monthlyCosts().get(0));
+    }
+
+    @Test
+    @DisplayName("grid: shifted rates below zero are floored at zero")
+    void grid_negativeRatesFloored() {
+        RateGrid.Row lowest = calculator.grid(20, 20, loans).rows().get(0);
+        assertEquals(10, lowest.maturityPeriod());
+        assertEquals(0, lowest.interestRate().signum());
+        assertEquals(new BigDecimal("833.33"), lowest.monthlyCosts().get(0));
+    }
+
+    @Test
+    @DisplayName("grid: cached per parameters until new rates are published")
+    void grid_cachedPerRateVersion() {
+        RateGrid first = calculator.grid(50, 25, loans);
+        assertSame(first, calculator.grid(50, 25, List.of(new BigDecimal("100000.00"), new BigDecimal("250000.000"))));
+        assertNotSame(first, calculator.grid(50, 10, loans));
+
+        table.onRatesChanged(List.of(new InterestRate(30, new BigDecimal("4.0"), Instant.now())));
+        RateGrid republished = calculator.grid(50, 25, loans);
+        assertNotSame(first, republished);
+        assertTrue(republished.rateVersion() > first.rateVersion());
+        assertEquals(5, republished.rows().size());
+    }
+
+    @Test
+    @DisplayName("grid: too many shifts are rejected")
+    void grid_tooManyShifts_throws() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> calculator.grid(1000, 1, loans));
+        assertEquals("At most 101 rate shifts per grid", ex.getMessage());
+    }
+}
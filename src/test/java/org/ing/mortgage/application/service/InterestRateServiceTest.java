@@ -1,18 +1,28 @@
 package org.ing.mortgage.application.service;
 
 import org.ing.mortgage.domain.InterestRate;
+import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.exception.RateVersionConflictException;
 import org.ing.mortgage.ports.InterestRateRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -66,4 +76,97 @@ public class InterestRateServiceTest {
 
         verifyNoMoreInteractions(repository);
     }
+
+    @Test
+    void getSnapshotAsOf_returnsPublicationInEffect() {
+        Instant asOf = Instant.parse("2025-01-15T00:00:00Z");
+        RateSnapshot snapshot = RateSnapshot.of(3, Instant.parse("2025-01-01T00:00:00Z"), List.of());
+        when(repository.snapshotAsOf(asOf)).thenReturn(Optional.of(snapshot));
+
+        assertSame(snapshot, interestRateService.getSnapshotAsOf(asOf));
+    }
+
+    @Test
+    void getSnapshotAsOf_beforeFirstPublication_throws() {
+        Instant asOf = Instant.parse("2000-01-01T00:00:00Z");
+        when(repository.snapshotAsOf(asOf)).thenReturn(Optional.empty());
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> interestRateService.getSnapshotAsOf(asOf));
+        assertEquals("No interest rates published as of 2000-01-01T00:00:00Z", ex.getMessage());
+    }
+
+    @Test
+    void replaceRates_savesAtExpectedVersion() {
+        RateSnapshot current = RateSnapshot.of(5, List.of());
+        RateSnapshot published = RateSnapshot.of(6, List.of());
+        when(repository.snapshot()).thenReturn(current);
+        when(repository.saveRatesIfVersion(eq(5L), anyList())).thenReturn(Optional.of(published));
+
+        assertSame(published, interestRateService.replaceRates(current.tag(), List.of(new Rate(10, new BigDecimal("3.9")))));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InterestRate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveRatesIfVersion(eq(5L), captor.capture());
+        assertEquals(10, captor.getValue().get(0).maturityPeriod());
+        assertEquals(new BigDecimal("3.9"), captor.getValue().get(0).interestRate());
+    }
+
+    @Test
+    void replaceRates_lostRace_throwsConflictWithCurrentTag() {
+        RateSnapshot current = RateSnapshot.of(5, List.of());
+        RateSnapshot published = RateSnapshot.of(6, List.of());
+        when(repository.saveRatesIfVersion(eq(5L), anyList())).thenReturn(Optional.empty());
+        when(repository.snapshot()).thenReturn(current, published);
+
+        var ex = assertThrows(RateVersionConflictException.class,
+                () -> interestRateService.replaceRates(current.tag(), List.of(new Rate(10, BigDecimal.ONE))));
+        assertEquals(published.tag(), ex.getCurrentTag());
+    }
+
+    @Test
+    void replaceRates_sameVersionOtherRates_throwsConflict() {
+        Instant at = Instant.parse("2025-01-01T00:00:00Z");
+        RateSnapshot beforeRestart = RateSnapshot.of(1, List.of(new InterestRate(10, new BigDecimal("3.8"), at)));
+        RateSnapshot afterRestart = RateSnapshot.of(1, List.of(new InterestRate(10, new BigDecimal("4.1"), at)));
+        when(repository.snapshot()).thenReturn(afterRestart);
+
+        var ex = assertThrows(RateVersionConflictException.class,
+                () -> interestRateService.replaceRates(beforeRestart.tag(), List.of(new Rate(10, BigDecimal.ONE))));
+        assertEquals(afterRestart.tag(), ex.getCurrentTag());
+        verify(repository, never()).saveRatesIfVersion(anyLong(), anyList());
+    }
+
+    @Test
+    void replaceRates_duplicateMaturity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> interestRateService.replaceRates("5-0",
+                List.of(new Rate(10, BigDecimal.ONE), new Rate(10, BigDecimal.TEN))));
+        verify(repository, never()).saveRatesIfVersion(anyLong(), anyList());
+    }
+
+    @Test
+    void updateRate_replacesOneMaturityAndKeepsOthers() {
+        InterestRate r10 = new InterestRate(10, new BigDecimal("3.8"), Instant.parse("2025-01-01T00:00:00Z"));
+        InterestRate r20 = new InterestRate(20, new BigDecimal("4.5"), Instant.parse("2025-01-01T00:00:00Z"));
+        RateSnapshot current = RateSnapshot.of(5, List.of(r10, r20));
+        when(repository.snapshot()).thenReturn(current);
+        when(repository.saveRatesIfVersion(eq(5L), anyList())).thenReturn(Optional.of(RateSnapshot.of(6, List.of())));
+
+        interestRateService.updateRate(current.tag(), 20, new BigDecimal("4.4"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InterestRate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveRatesIfVersion(eq(5L), captor.capture());
+        assertSame(r10, captor.getValue().get(0));
+        assertEquals(new BigDecimal("4.4"), captor.getValue().get(1).interestRate());
+    }
+
+    @Test
+    void updateRate_staleVersionOrUnknownMaturity_throws() {
+        RateSnapshot current = RateSnapshot.of(5, List.of(new InterestRate(10, BigDecimal.ONE, Instant.now())));
+        when(repository.snapshot()).thenReturn(current);
+
+        assertThrows(RateVersionConflictException.class, () -> interestRateService.updateRate("4-0", 10, BigDecimal.TEN));
+        assertThrows(IllegalArgumentException.class, () -> interestRateService.updateRate(current.tag(), 20, BigDecimal.TEN));
+        verify(repository, never()).saveRatesIfVersion(anyLong(), anyList());
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -151,7 +152,41 @@ class MortgageServiceTest {
         assertTrue(actual.compareTo(zeroRateMonthly) > 0,
                 "With positive interest, monthly should exceed zero-interest amortization");
     }
-}
 
+    @Test
+    @DisplayName("annuityFactor: zero rate yields zero factor (straight amortization)")
+    void annuityFactor_zeroRate_returnsZero() {
+        assertEquals(0, service.annuityFactor(BigDecimal.ZERO, 360));
+    }
 
+    @Test
+    @DisplayName("calculateMonthlyCost: both paths agree with the original (P*(r*c))/(c-1) formula to the cent")
+    void calculateMonthlyCost_matchesOriginalFormula() {
+        Random random = new Random(20250601);
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal loanValue = BigDecimal.valueOf(1 + random.nextLong(500_000_000L), 2);
+            BigDecimal annualPercent = BigDecimal.valueOf(random.nextInt(15_000), 3);
+            int maturityYears = 1 + random.nextInt(30);
+            int maturityMonth = maturityYears * 12;
+            BigDecimal expected = originalMonthlyCost(loanValue, annualPercent, maturityMonth);
+
+            assertEquals(expected, service.calculateMonthlyCost(loanValue, new InterestRate(maturityYears, annualPercent, null)),
+                    () -> "loan=" + loanValue + " rate=" + annualPercent + " months=" + maturityMonth);
+            assertEquals(expected, service.calculateMonthlyCost(loanValue, maturityMonth, service.annuityFactor(annualPercent, maturityMonth)),
+                    () -> "loan=" + loanValue + " rate=" + annualPercent + " months=" + maturityMonth);
+        }
+    }
 
+    /** The monthly cost as first implemented, before the rate-only part was factored out. */
+    private static BigDecimal originalMonthlyCost(BigDecimal loanValue, BigDecimal annualPercent, int maturityMonth) {
+        BigDecimal annualRate = annualPercent.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+        BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            return loanValue.divide(BigDecimal.valueOf(maturityMonth), 2, RoundingMode.HALF_UP);
+        }
+        double P = loanValue.doubleValue();
+        double r = monthlyRate.doubleValue();
+        double amount = (P * (r * Math.pow(r + 1, maturityMonth))) / (Math.pow(1 + r, maturityMonth) - 1);
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+}
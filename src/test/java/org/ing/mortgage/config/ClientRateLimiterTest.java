@@ -0,0 +1,154 @@
+package org.ing.mortgage.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientRateLimiterTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final ClientRateLimiter.Tier ANONYMOUS = new ClientRateLimiter.Tier("anonymous", 3, Duration.ofMinutes(1), 3);
+    private static final ClientRateLimiter.Tier PARTNER = new ClientRateLimiter.Tier("partner", 10, Duration.ofMinutes(1), 10);
+
+    private final AtomicLong clock = new AtomicLong(123_456_789L);
+    private final ClientRateLimiter limiter = new ClientRateLimiter(Map.of("k1", PARTNER), ANONYMOUS,
+            Duration.ofMinutes(5), clock::get);
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("acquire: a new client gets its burst, then waits one interval per permit")
+    void acquire_burstThenRefill() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire(null, "10.0.0.1", 1));
+        }
+        assertEquals(20 * SECOND, limiter.acquire(null, "10.0.0.1", 1));
+        assertEquals(0, limiter.acquire(null, "10.0.0.2", 1));
+
+        advance(Duration.ofSeconds(15));
+        assertEquals(5 * SECOND, limiter.acquire(null, "10.0.0.1", 1));
+        advance(Duration.ofSeconds(5));
+        assertEquals(0, limiter.acquire(null, "10.0.0.1", 1));
+        assertEquals(20 * SECOND, limiter.acquire(null, "10.0.0.1", 1));
+        assertEquals(3, limiter.rejections());
+    }
+
+    @Test
+    @DisplayName("acquire: tokens saved up while idle are capped at the burst")
+    void acquire_cappedAtBurst() {
+        limiter.acquire(null, "10.0.0.1", 1);
+        advance(Duration.ofHours(1));
+
+        assertEquals(0, limiter.acquire(null, "10.0.0.1", 3));
+        assertTrue(limiter.acquire(null, "10.0.0.1", 1) > 0);
+    }
+
+    @Test
+    @DisplayName("acquire: a configured API key has its tier's bucket; an unknown key shares the address's")
+    void acquire_apiKeys() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire("bogus-" + i, "10.0.0.1", 1));
+        }
+        assertTrue(limiter.acquire(null, "10.0.0.1", 1) > 0);
+
+        assertEquals(0, limiter.acquire("k1", "10.0.0.1", 10));
+        assertEquals(6 * SECOND, limiter.acquire("k1", "10.0.0.2", 1));
+        assertEquals(2, limiter.clients());
+    }
+
+    @Test
+    @DisplayName("burst: the tier of a configured API key, otherwise the default tier")
+    void burst_perTier() {
+        assertEquals(10, limiter.burst("k1"));
+        assertEquals(3, limiter.burst("bogus"));
+        assertEquals(3, limiter.burst(null));
+    }
+
+    @Test
+    @DisplayName("acquire: more permits than the burst are never admitted and wait for a whole bucket")
+    void acquire_moreThanBurst() {
+        assertEquals(60 * SECOND, limiter.acquire(null, "10.0.0.1", 4));
+        assertEquals(0, limiter.acquire(null, "10.0.0.1", 3));
+    }
+
+    @Test
+    @DisplayName("evictIdle: drops only buckets that have been full for idleTimeout; an evicted client starts afresh")
+    void evictIdle() {
+        limiter.acquire(null, "10.0.0.1", 1);   // full again after 20s
+        limiter.acquire("k1", "10.0.0.2", 10);  // full again after 60s
+
+        advance(Duration.ofSeconds(5 * 60 + 30));
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.clients());
+
+        advance(Duration.ofSeconds(30));
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(0, limiter.clients());
+
+        assertEquals(0, limiter.acquire("k1", "10.0.0.2", 10));
+        assertEquals(1, limiter.clients());
+    }
+
+    @Test
+    @DisplayName("acquire: concurrent callers on one bucket are admitted exactly burst times")
+    void acquire_concurrent() throws Exception {
+        ClientRateLimiter.Tier tier = new ClientRateLimiter.Tier("anonymous", 100, Duration.ofHours(1), 100);
+        ClientRateLimiter shared = new ClientRateLimiter(Map.of(), tier, Duration.ofMinutes(5), clock::get);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> admitted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                admitted.add(executor.submit((Callable<Integer>) () -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (shared.acquire(null, "10.0.0.1", 1) == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> future : admitted) {
+                total += future.get();
+            }
+            assertEquals(100, total);
+            assertEquals(threads * 1000 - 100, shared.rejections());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("retryAfterSeconds: rounds up to whole seconds, at least one")
+    void retryAfterSeconds() {
+        assertEquals(1, ClientRateLimiter.retryAfterSeconds(1));
+        assertEquals(1, ClientRateLimiter.retryAfterSeconds(SECOND));
+        assertEquals(2, ClientRateLimiter.retryAfterSeconds(SECOND + 1));
+    }
+
+    @Test
+    @DisplayName("Tier: rejects quotas that admit nothing or more than one permit per nanosecond")
+    void tier_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter.Tier("t", 0, Duration.ofMinutes(1), 1));
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter.Tier("t", 1, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ClientRateLimiter.Tier("t", 10, Duration.ofNanos(5), 1));
+    }
+}
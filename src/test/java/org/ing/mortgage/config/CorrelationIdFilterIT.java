@@ -15,16 +15,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.Callable;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = TestController.class)
-@Import(CorrelationIdFilter.class)
+@Import({CorrelationIdFilter.class, MdcTaskDecorator.class})
 class CorrelationIdFilterIT {
 
     @Autowired
@@ -87,6 +93,30 @@ class CorrelationIdFilterIT {
             assertThat(event.getFormattedMessage()).contains("status=500");
         });
     }
+
+    @Test
+    void shouldPropagateCorrelationIdToAsyncHandlerAndLogOnceAtCompletion() throws Exception {
+
+        MvcResult result = mockMvc.perform(get("/async").header("X-Correlation-Id", "corr-42"))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Correlation-Id", "corr-42"))
+                .andReturn();
+        assertThat(listAppender.list).noneSatisfy(event ->
+                assertThat(event.getFormattedMessage()).contains("request.completed"));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("corr-42"));
+
+        assertThat(listAppender.list)
+                .filteredOn(event -> event.getFormattedMessage().contains("request.completed"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getFormattedMessage()).contains("path=/async").contains("status=200");
+                    assertThat(event.getMDCPropertyMap()).containsEntry("CorrelationId", "corr-42");
+                });
+        assertThat(MDC.get("CorrelationId")).isNull();
+    }
 }
 
 @RestController
@@ -106,4 +136,9 @@ class TestController {
     public void serverError() {
         throw new RuntimeException("Server error");
     }
+
+    @GetMapping("/async")
+    public Callable<String> async() {
+        return () -> MDC.get("CorrelationId");
+    }
 }
\ No newline at end of file
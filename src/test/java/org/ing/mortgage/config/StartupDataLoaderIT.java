@@ -1,6 +1,8 @@
 package org.ing.mortgage.config;
 
+import org.ing.mortgage.adapters.persistance.DenseInterestRateRepository;
 import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
+import org.ing.mortgage.ports.InterestRateRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -11,13 +13,13 @@ import java.math.BigDecimal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = {InMemoryInterestRateRepository.class,
+@SpringBootTest(classes = {InMemoryInterestRateRepository.class, DenseInterestRateRepository.class,
         StartupDataLoader.class},
         webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @EnableConfigurationProperties(value = RateProperties.class)
 public class StartupDataLoaderIT {
     @Autowired
-    InMemoryInterestRateRepository repository;
+    InterestRateRepository repository;
 
     @Test
     void applicationRunner_saveRatesOnStartUp() {
@@ -1,15 +1,24 @@
 package org.ing.mortgage.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.ing.mortgage.adapters.persistance.InMemoryInterestRateRepository;
 import org.ing.mortgage.domain.InterestRate;
 import org.ing.mortgage.domain.Rate;
+import org.ing.mortgage.domain.RateSnapshot;
+import org.ing.mortgage.ports.RateChangeListener;
+import org.ing.mortgage.ports.RateSnapshotStore;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.ApplicationArguments;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -54,4 +63,62 @@ public class StartupDataLoaderTest {
         assertTrue(rates.stream().anyMatch(ir-> ir.maturityPeriod() == 10 && ir.interestRate().equals(new BigDecimal("4.5"))), "Should contain with maturityPeriod 10");
 
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(bean);
+        when(provider.orderedStream()).thenAnswer(inv -> Stream.of(bean));
+        return provider;
+    }
+
+    @Test
+    void run_restoresSavedSnapshot_insteadOfProperties() throws Exception {
+        var repo = new InMemoryInterestRateRepository();
+        var props = mock(RateProperties.class);
+        var store = mock(RateSnapshotStore.class);
+        var saved = List.of(new InterestRate(5, new BigDecimal("3.9"), Instant.parse("2025-01-01T00:00:00Z")));
+        when(store.load()).thenReturn(Optional.of(RateSnapshot.of(42, saved)));
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new StartupDataLoader(repo, props, provider(store), provider(registry)).run(mock(ApplicationArguments.class));
+
+        assertEquals(saved, repo.findAll());
+        verifyNoInteractions(props);
+        assertEquals(1, registry.get("mortgage.rates.startup.load").tag("source", "snapshot").timer().count());
+    }
+
+    @Test
+    void run_fallsBackToProperties_whenSnapshotMissingOrCorrupt() throws Exception {
+        var repo = new InMemoryInterestRateRepository();
+        var props = new RateProperties();
+        props.setRates(List.of(new Rate(10, new BigDecimal("3.8"))));
+        var store = mock(RateSnapshotStore.class);
+        when(store.load()).thenReturn(Optional.empty());
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new StartupDataLoader(repo, props, provider(store), provider(registry)).run(mock(ApplicationArguments.class));
+
+        assertEquals(new BigDecimal("3.8"), repo.findByMaturityOrNull(10).interestRate());
+        assertEquals(1, registry.get("mortgage.rates.startup.load").tag("source", "properties").timer().count());
+    }
+
+    @Test
+    void run_keepsRatesOfPersistentStore() throws Exception {
+        var listener = mock(RateChangeListener.class);
+        var repo = new InMemoryInterestRateRepository(provider(listener));
+        var stored = List.of(new InterestRate(20, new BigDecimal("4.2"), Instant.parse("2025-01-01T00:00:00Z")));
+        repo.saveRates(stored);
+        var props = mock(RateProperties.class);
+        var store = mock(RateSnapshotStore.class);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new StartupDataLoader(repo, props, provider(store), provider(registry)).run(mock(ApplicationArguments.class));
+
+        assertEquals(stored, repo.findAll());
+        assertEquals(1, repo.snapshot().version());
+        verify(listener, times(2)).onRatesChanged(repo.snapshot());
+        verifyNoInteractions(props, store);
+        assertEquals(1, registry.get("mortgage.rates.startup.load").tag("source", "store").timer().count());
+    }
 }
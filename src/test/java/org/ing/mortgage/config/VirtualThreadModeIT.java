@@ -0,0 +1,66 @@
+package org.ing.mortgage.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@Import(VirtualThreadModeIT.Probe.class)
+class VirtualThreadModeIT {
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @TestConfiguration
+    @RestController
+    static class Probe {
+        private static String describe() {
+            return "virtual=" + Thread.currentThread().isVirtual() + " correlationId=" + MDC.get("CorrelationId");
+        }
+
+        @GetMapping("/probe/thread")
+        String thread() {
+            return describe();
+        }
+
+        @GetMapping("/probe/async")
+        Callable<String> async() {
+            return Probe::describe;
+        }
+    }
+
+    private String get(String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Correlation-Id", "vt-1");
+        ResponseEntity<String> response = restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertEquals("vt-1", response.getHeaders().getFirst("X-Correlation-Id"));
+        return response.getBody();
+    }
+
+    @Test
+    @DisplayName("spring.threads.virtual.enabled: filters and handlers run on virtual threads with the correlation id in the MDC")
+    void requestRunsOnVirtualThread() {
+        assertEquals("virtual=true correlationId=vt-1", get("/probe/thread"));
+    }
+
+    @Test
+    @DisplayName("spring.threads.virtual.enabled: async handlers run on virtual threads with the correlation id in the MDC")
+    void asyncHandlerRunsOnVirtualThread() {
+        assertEquals("virtual=true correlationId=vt-1", get("/probe/async"));
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -56,4 +58,17 @@ public class GlobalExceptionHandlerTest {
         assertEquals("/test", resp.getBody().path());
         assertTrue(resp.getBody().details().contains("field: must not be blank"));
     }
+
+    @Test
+    void handleNotReadable_returnApiErrorWithCause(){
+        HttpServletRequest req= mock(HttpServletRequest.class);
+        when(req.getRequestURI()).thenReturn("/test");
+        HttpMessageNotReadableException exc = new HttpMessageNotReadableException("JSON parse error",
+                new IllegalArgumentException("Malformed JSON at offset 3: expected ':'"), new MockHttpInputMessage(new byte[0]));
+
+        ResponseEntity<ApiError> resp = handler.handleNotReadable(exc, req);
+        assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
+        assertEquals("Malformed request body", resp.getBody().message());
+        assertEquals(List.of("Malformed JSON at offset 3: expected ':'"), resp.getBody().details());
+    }
 }
@@ -0,0 +1,73 @@
+package org.ing.mortgage.application.engine;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ColumnarMortgageCalculator} on the JDK Vector API (incubator module {@code jdk.incubator.vector}).
+ * <p>
+ * Feasibility, the annuity multiply and the rounding to cents run lane-wise. Lanes the vector rounding
+ * cannot decide exactly (zero rate, within a few ulps of a half cent, out of range) are recomputed with
+ * the scalar path, as is the tail that does not fill a whole vector. Only built with the Maven profile
+ * {@code vector}; run with {@code --add-modules jdk.incubator.vector}.
+ */
+public class VectorColumnarMortgageCalculator extends ColumnarMortgageCalculator {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    /** Keeps {@code income * multiplier} within the long range for incomes up to 2^53 cents. */
+    private static final int MAX_VECTOR_MULTIPLIER = 512;
+    /** Relative bound that is at least four ulps for any normal double. */
+    private static final double HALF_CENT_TOLERANCE = 0x1p-49;
+
+    public VectorColumnarMortgageCalculator(int incomeMultiplier) {
+        super(incomeMultiplier);
+    }
+
+    @Override
+    protected void compute(RateColumns rates,
+                           long[] incomeCents, long[] loanCents, long[] homeCents, int[] maturityPeriod,
+                           boolean[] feasible, long[] monthlyCostCents) {
+        int length = incomeCents.length;
+        int vectorEnd = Math.abs(incomeMultiplier) <= MAX_VECTOR_MULTIPLIER && LONGS.length() == DOUBLES.length()
+                ? LONGS.loopBound(length) : 0;
+        double[] factors = rates.annuityFactor();
+
+        for (int i = 0; i < vectorEnd; i += LONGS.length()) {
+            LongVector income = LongVector.fromArray(LONGS, incomeCents, i);
+            LongVector loan = LongVector.fromArray(LONGS, loanCents, i);
+            LongVector home = LongVector.fromArray(LONGS, homeCents, i);
+            VectorMask<Long> ok = loan.compare(VectorOperators.LE, income.mul(incomeMultiplier))
+                    .and(loan.compare(VectorOperators.LE, home));
+
+            DoubleVector factor = DoubleVector.fromArray(DOUBLES, factors, 0, maturityPeriod, i);
+            DoubleVector amount = ((DoubleVector) loan.convert(VectorOperators.L2D, 0)).div(100.0).mul(factor);
+            DoubleVector cents = amount.abs().mul(100.0);
+            LongVector whole = (LongVector) cents.convert(VectorOperators.D2L, 0);
+            DoubleVector fraction = cents.sub((DoubleVector) whole.convert(VectorOperators.L2D, 0));
+
+            LongVector rounded = whole.add(1, fraction.compare(VectorOperators.GT, 0.5).cast(LONGS));
+            rounded = rounded.lanewise(VectorOperators.NEG, amount.compare(VectorOperators.LT, 0).cast(LONGS));
+            rounded.blend(NO_COST, ok.not()).intoArray(monthlyCostCents, i);
+            ok.intoArray(feasible, i);
+
+            VectorMask<Long> exact = fraction.sub(0.5).abs().compare(VectorOperators.LE, cents.mul(HALF_CENT_TOLERANCE))
+                    .or(cents.compare(VectorOperators.GE, (double) FixedPointMortgageEngine.MAX_CENTS))
+                    .or(factor.compare(VectorOperators.EQ, 0))
+                    .cast(LONGS)
+                    .and(ok);
+            if (exact.anyTrue()) {
+                for (int lane = exact.firstTrue(); lane < LONGS.length(); lane++) {
+                    if (exact.laneIsSet(lane)) {
+                        computeOne(rates, i + lane, incomeCents, loanCents, homeCents, maturityPeriod, feasible, monthlyCostCents);
+                    }
+                }
+            }
+        }
+        for (int i = vectorEnd; i < length; i++) {
+            computeOne(rates, i, incomeCents, loanCents, homeCents, maturityPeriod, feasible, monthlyCostCents);
+        }
+    }
+}